@@ -0,0 +1,146 @@
+package oogasalad.benchmark;
+
+import java.awt.Point;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import javafx.scene.input.KeyCode;
+import oogasalad.engine.controller.api.GameExecutor;
+import oogasalad.engine.controller.api.InputProvider;
+import oogasalad.engine.model.object.Entity;
+import oogasalad.engine.model.object.GameObject;
+import oogasalad.engine.model.object.HitBox;
+import oogasalad.engine.model.object.Sprite;
+import oogasalad.engine.model.object.mapObject;
+import oogasalad.fileparser.records.AnimationData;
+import oogasalad.fileparser.records.FrameData;
+import oogasalad.fileparser.records.GameObjectData;
+
+/**
+ * Shared fixtures for the benchmarks: builds deterministic populations of {@link GameObject}s and
+ * provides no-op engine collaborators so the benchmarked classes can run outside a live game.
+ *
+ * @author Billy McCune
+ */
+final class BenchmarkObjects {
+
+  static final String SPRITE_SHEET = "data/graphicsData/dinosaurgame/dinosaurgame-sprites.png";
+  static final int MAP_WIDTH = 20000;
+  static final int MAP_HEIGHT = 2000;
+  private static final long SEED = 308L;
+  private static final String[] TYPES = {"platform", "enemy", "coin", "player"};
+
+  private BenchmarkObjects() {
+  }
+
+  /**
+   * Creates {@code count} objects scattered over the benchmark map. The same count always yields
+   * the same layout so runs are comparable.
+   *
+   * @param count number of objects to create
+   * @return a mutable list of entities
+   */
+  static List<GameObject> scatter(int count) {
+    Random random = new Random(SEED);
+    List<GameObject> objects = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int x = random.nextInt(MAP_WIDTH);
+      int y = random.nextInt(MAP_HEIGHT);
+      objects.add(makeEntity(TYPES[i % TYPES.length], x, y, 48, 48));
+    }
+    return objects;
+  }
+
+  /**
+   * Builds a single entity with a two-frame walk animation.
+   */
+  static GameObject makeEntity(String type, int x, int y, int width, int height) {
+    FrameData base = new FrameData("base", 0, 0, width, height);
+    FrameData step = new FrameData("step", width, 0, width, height);
+    Map<String, FrameData> frames = new HashMap<>();
+    frames.put(base.name(), base);
+    frames.put(step.name(), step);
+    Map<String, AnimationData> animations = new HashMap<>();
+    animations.put("walk", new AnimationData("walk", 5.0, List.of("base", "step")));
+    Sprite sprite = new Sprite(frames, base, animations, 0, 0, new File(SPRITE_SHEET), 0, false);
+    Map<String, Double> doubleParams = new HashMap<>();
+    doubleParams.put("score", 0.0);
+    return new Entity(UUID.randomUUID(), type, 1, 0, 0, new HitBox(x, y, width, height), sprite,
+        new ArrayList<>(), new HashMap<>(), doubleParams);
+  }
+
+  /**
+   * @return an input provider with a fixed set of held keys
+   */
+  static InputProvider heldKeys(KeyCode... keys) {
+    List<KeyCode> pressed = List.of(keys);
+    return new InputProvider() {
+      @Override
+      public boolean isKeyPressed(KeyCode keyCode) {
+        return pressed.contains(keyCode);
+      }
+
+      @Override
+      public boolean isKeyReleased(KeyCode keyCode) {
+        return false;
+      }
+
+      @Override
+      public Point getMousePosition() {
+        return new Point(0, 0);
+      }
+
+      @Override
+      public void clearReleased() {
+        // nothing is ever released during a benchmark
+      }
+    };
+  }
+
+  /**
+   * @return a game executor that reports the benchmark map bounds and ignores level changes
+   */
+  static GameExecutor staticExecutor() {
+    mapObject map = new mapObject(0, 0, MAP_WIDTH, MAP_HEIGHT);
+    return new GameExecutor() {
+      @Override
+      public void destroyGameObject(GameObject gameObject) {
+        // population stays constant between invocations
+      }
+
+      @Override
+      public void addGameObject(GameObjectData gameObjectData) {
+        // population stays constant between invocations
+      }
+
+      @Override
+      public mapObject getMapObject() {
+        return map;
+      }
+
+      @Override
+      public GameObject getGameObjectByUUID(String id) {
+        return null;
+      }
+
+      @Override
+      public void endGame(boolean gameWon) {
+        // games never end during a benchmark
+      }
+
+      @Override
+      public void restartLevel() {
+        // games never restart during a benchmark
+      }
+
+      @Override
+      public void selectLevel(String filePath) {
+        // levels never change during a benchmark
+      }
+    };
+  }
+}
@@ -0,0 +1,58 @@
+package oogasalad.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import oogasalad.engine.model.event.DefaultCollisionHandler;
+import oogasalad.engine.model.object.GameObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures one call to {@link DefaultCollisionHandler#updateCollisions()} over a fixed population
+ * of scattered objects, which is what the game controller pays once per tick.
+ *
+ * @author Billy McCune
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class CollisionBenchmark {
+
+  @Param({"100", "1000", "10000"})
+  private int objectCount;
+
+  private DefaultCollisionHandler collisionHandler;
+  private GameObject probe;
+
+  /**
+   * Builds the object population and the handler under test.
+   */
+  @Setup
+  public void setUp() {
+    List<GameObject> objects = BenchmarkObjects.scatter(objectCount);
+    probe = objects.getFirst();
+    collisionHandler = new DefaultCollisionHandler(() -> objects);
+  }
+
+  /**
+   * Rebuilds the collision map for every object.
+   */
+  @Benchmark
+  public void updateCollisions(Blackhole blackhole) {
+    collisionHandler.updateCollisions();
+    blackhole.consume(collisionHandler.getCollisions(probe));
+  }
+}
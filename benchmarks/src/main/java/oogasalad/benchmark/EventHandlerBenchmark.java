@@ -0,0 +1,148 @@
+package oogasalad.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javafx.scene.input.KeyCode;
+import oogasalad.engine.controller.api.GameExecutor;
+import oogasalad.engine.model.animation.DefaultAnimationHandler;
+import oogasalad.engine.model.event.DefaultCollisionHandler;
+import oogasalad.engine.model.event.DefaultEventHandler;
+import oogasalad.engine.model.event.Event;
+import oogasalad.engine.model.event.Event.EventType;
+import oogasalad.engine.model.event.condition.EventCondition;
+import oogasalad.engine.model.event.condition.EventCondition.ConditionType;
+import oogasalad.engine.model.event.outcome.EventOutcome;
+import oogasalad.engine.model.event.outcome.EventOutcome.OutcomeType;
+import oogasalad.engine.model.object.GameObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link DefaultEventHandler#handleEvent(Event)} across every event of a 1,000 object
+ * population, using event mixes that mirror the shipped levels: keyboard movement, gravity and
+ * patrol physics, collision checks against a group, and all of them together.
+ *
+ * @author Billy McCune
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class EventHandlerBenchmark {
+
+  private static final int OBJECT_COUNT = 1000;
+
+  @Param({"input", "physics", "collision", "mixed"})
+  private String eventMix;
+
+  private List<GameObject> objects;
+  private List<Event> events;
+  private DefaultEventHandler eventHandler;
+  private DefaultCollisionHandler collisionHandler;
+
+  /**
+   * Builds the object population, attaches the selected event mix, and primes the collision map
+   * the way the controller does at the start of a tick.
+   */
+  @Setup
+  public void setUp() {
+    objects = BenchmarkObjects.scatter(OBJECT_COUNT);
+    GameExecutor executor = BenchmarkObjects.staticExecutor();
+    collisionHandler = new DefaultCollisionHandler(() -> objects);
+    eventHandler = new DefaultEventHandler(BenchmarkObjects.heldKeys(KeyCode.D), collisionHandler,
+        executor, new DefaultAnimationHandler());
+    events = new ArrayList<>();
+    for (GameObject object : objects) {
+      List<Event> objectEvents = makeEvents(object);
+      object.setEvents(objectEvents);
+      events.addAll(objectEvents);
+    }
+    collisionHandler.updateCollisions();
+  }
+
+  /**
+   * Puts every object back where it started so positions do not drift between iterations.
+   */
+  @Setup(Level.Iteration)
+  public void resetPositions() {
+    List<GameObject> fresh = BenchmarkObjects.scatter(OBJECT_COUNT);
+    for (int i = 0; i < OBJECT_COUNT; i++) {
+      objects.get(i).setXPosition(fresh.get(i).getXPosition());
+      objects.get(i).setYPosition(fresh.get(i).getYPosition());
+      objects.get(i).setYVelocity(0);
+    }
+  }
+
+  /**
+   * Handles every event in the population once, as a single game tick would.
+   */
+  @Benchmark
+  public void handleEvents() throws Exception {
+    for (Event event : events) {
+      eventHandler.handleEvent(event);
+    }
+  }
+
+  private List<Event> makeEvents(GameObject object) {
+    List<Event> objectEvents = new ArrayList<>();
+    if (includes("input")) {
+      objectEvents.add(event(object, EventType.INPUT,
+          condition(ConditionType.KEY_PRESSED, Map.of("key", "d"), Map.of()),
+          outcome(OutcomeType.MOVE, Map.of(), Map.of("angle", 0.0, "amount", 1.0))));
+      objectEvents.add(event(object, EventType.INPUT,
+          condition(ConditionType.KEY_PRESSED, Map.of("key", "a"), Map.of()),
+          outcome(OutcomeType.MOVE, Map.of(), Map.of("angle", 180.0, "amount", 1.0))));
+    }
+    if (includes("physics")) {
+      objectEvents.add(event(object, EventType.PHYSICS,
+          condition(ConditionType.TRUE, Map.of(), Map.of()),
+          outcome(OutcomeType.APPLY_GRAVITY, Map.of(), Map.of("ApplyGravityAmount", 0.0))));
+      objectEvents.add(event(object, EventType.PHYSICS,
+          condition(ConditionType.TRUE, Map.of(), Map.of()),
+          outcome(OutcomeType.PATROL, Map.of(), Map.of("MovementAmount", 2.0))));
+    }
+    if (includes("collision")) {
+      objectEvents.add(event(object, EventType.COLLISION,
+          condition(ConditionType.COLLIDED_WITH_GROUP, Map.of("group", "coin"), Map.of()),
+          outcome(OutcomeType.CHANGE_VAR, Map.of("variable", "score"), Map.of("delta", 1.0))));
+      objectEvents.add(event(object, EventType.COLLISION,
+          condition(ConditionType.GREATER_VARIABLE_THRESHOLD, Map.of("variable", "score"),
+              Map.of("threshold", Double.MAX_VALUE)),
+          outcome(OutcomeType.RESET_VELOCITY, Map.of(), Map.of())));
+    }
+    return objectEvents;
+  }
+
+  private boolean includes(String category) {
+    return eventMix.equals("mixed") || eventMix.equals(category);
+  }
+
+  private static Event event(GameObject object, EventType type, EventCondition condition,
+      EventOutcome outcome) {
+    return new Event(object, List.of(List.of(condition)), List.of(outcome), type);
+  }
+
+  private static EventCondition condition(ConditionType type, Map<String, String> strings,
+      Map<String, Double> doubles) {
+    return new EventCondition(type, strings, doubles);
+  }
+
+  private static EventOutcome outcome(OutcomeType type, Map<String, String> strings,
+      Map<String, Double> doubles) {
+    return new EventOutcome(type, strings, doubles);
+  }
+}
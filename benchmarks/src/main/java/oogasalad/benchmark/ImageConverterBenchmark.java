@@ -0,0 +1,95 @@
+package oogasalad.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javafx.application.Platform;
+import oogasalad.engine.model.object.GameObject;
+import oogasalad.engine.model.object.ImmutableGameObject;
+import oogasalad.engine.view.ObjectImage;
+import oogasalad.engine.view.util.ViewObjectToImageConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link ViewObjectToImageConverter#convertObjectsToImages(List)} in its three regimes:
+ * the first frame of a level, where every object gets a new {@link ObjectImage}, a steady-state
+ * frame where nothing changed, and a frame where every object moved and its node is updated.
+ *
+ * <p>The nodes are never attached to a scene, so the JavaFX toolkit only has to be started; the
+ * work runs on the benchmark thread.
+ *
+ * @author Billy McCune
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class ImageConverterBenchmark {
+
+  @Param({"100", "1000"})
+  private int objectCount;
+
+  private List<ImmutableGameObject> objects;
+  private List<GameObject> movers;
+  private int step;
+  private ViewObjectToImageConverter steadyConverter;
+
+  /**
+   * Starts the JavaFX toolkit, builds the object population and converts it once so the steady
+   * state benchmark only measures updates.
+   */
+  @Setup
+  public void setUp() throws Exception {
+    try {
+      Platform.startup(() -> {
+      });
+    } catch (IllegalStateException alreadyStarted) {
+      // toolkit is shared by every benchmark in the fork
+    }
+    objects = new ArrayList<>();
+    movers = BenchmarkObjects.scatter(objectCount);
+    objects.addAll(movers);
+    steadyConverter = new ViewObjectToImageConverter();
+    steadyConverter.convertObjectsToImages(objects);
+  }
+
+  /**
+   * Converts every object with a fresh converter, as the first rendered frame of a level does.
+   */
+  @Benchmark
+  public List<ObjectImage> firstFrame() throws Exception {
+    return new ViewObjectToImageConverter().convertObjectsToImages(objects);
+  }
+
+  /**
+   * Converts already-converted objects that did not change, as static scenery is every frame.
+   */
+  @Benchmark
+  public List<ObjectImage> steadyFrame() throws Exception {
+    return steadyConverter.convertObjectsToImages(objects);
+  }
+
+  /**
+   * Moves every object by one pixel and updates its node, as a frame full of moving objects does.
+   */
+  @Benchmark
+  public List<ObjectImage> movingFrame() throws Exception {
+    int dx = (step++ & 1) == 0 ? 1 : -1;
+    for (GameObject object : movers) {
+      object.setXPosition(object.getXPosition() + dx);
+    }
+    return steadyConverter.convertObjectsToImages(objects);
+  }
+}
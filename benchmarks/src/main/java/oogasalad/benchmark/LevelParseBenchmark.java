@@ -0,0 +1,97 @@
+package oogasalad.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import oogasalad.fileparser.DefaultFileParser;
+import oogasalad.fileparser.FileParserApi;
+import oogasalad.fileparser.SpriteFileCache;
+import oogasalad.fileparser.StaxFileParser;
+import oogasalad.fileparser.records.LevelData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link FileParserApi#parseLevelFile(String)} of the DOM based {@link DefaultFileParser}
+ * and the streaming {@link StaxFileParser} on the shipped levels. Paths are relative to the project
+ * root, so the benchmark jar must be launched from there.
+ *
+ * <p>The shared {@link SpriteFileCache} is emptied before every parse, so both parsers read the
+ * level's sprite files from disk like a first load does.
+ *
+ * <p>DinoLevel2, DinoLevel3 and PhantomLeap/bt8 are left out because they reference sprite files
+ * that are not in the repository and fail to parse. Pass {@code -p levelFile=...} to benchmark
+ * any other level.
+ *
+ * @author Billy McCune
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class LevelParseBenchmark {
+
+  @Param({
+      "data/gameData/levels/celeste/Untitled.xml",
+      "data/gameData/levels/celeste/celesteLevel.xml",
+      "data/gameData/levels/celeste/gravityTest.xml",
+      "data/gameData/levels/celeste/gravityTest2.xml",
+      "data/gameData/levels/celeste/gravityTest3.xml",
+      "data/gameData/levels/coincollector/Level1.xml",
+      "data/gameData/levels/crossyroad/CrossyRoad.xml",
+      "data/gameData/levels/crossyroad/SlantyRoad.xml",
+      "data/gameData/levels/demo/Untitled.xml",
+      "data/gameData/levels/dinosaurgame/DinoLevel1.xml",
+      "data/gameData/levels/doodledrop/Level1.xml",
+      "data/gameData/levels/doodlejump/Level1.xml",
+      "data/gameData/levels/doodlejump/Level2.xml",
+      "data/gameData/levels/doodlejump/Level3.xml",
+      "data/gameData/levels/flappybird/Level1.xml",
+      "data/gameData/levels/geometrydash/StereoMadness.xml",
+      "data/gameData/levels/supermario/AkselGame.xml",
+      "data/gameData/levels/supermario/supermarioLevel1.xml"
+  })
+  private String levelFile;
+
+  @Param({"DefaultFileParser", "StaxFileParser"})
+  private String parser;
+
+  private FileParserApi fileParser;
+
+  /**
+   * Creates the parser under test.
+   */
+  @Setup
+  public void setUp() {
+    fileParser = switch (parser) {
+      case "StaxFileParser" -> new StaxFileParser();
+      default -> new DefaultFileParser();
+    };
+  }
+
+  /**
+   * Drops the sprite files parsed by the previous call.
+   */
+  @Setup(Level.Invocation)
+  public void clearSpriteFileCache() {
+    SpriteFileCache.getInstance().clear();
+  }
+
+  /**
+   * Parses the selected level from disk.
+   */
+  @Benchmark
+  public LevelData parseLevelFile() throws Exception {
+    return fileParser.parseLevelFile(levelFile);
+  }
+}
@@ -0,0 +1,100 @@
+package oogasalad.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import oogasalad.fileparser.SpriteDataParser;
+import oogasalad.fileparser.SpriteFileCache;
+import oogasalad.fileparser.records.SpriteData;
+import oogasalad.fileparser.records.SpriteRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link SpriteDataParser#getSpriteData(SpriteRequest)} for a small animated sprite and
+ * for a sprite that sits at the end of a large shared sprite file.
+ *
+ * <p>{@code getSpriteDataCold} empties the parser's sprite file cache before every call, so it
+ * measures reading and parsing the sprite file. {@code getSpriteDataCached} keeps the cache, so
+ * it measures the lookup a blueprint sharing an already parsed sprite file pays.
+ *
+ * @author Billy McCune
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class SpriteDataParserBenchmark {
+
+  @Param({
+      "dinosaurgame,entities,player,DinoStart,dinostart.xml",
+      "dinosaurgame,blocks,platform,track-4,dinosaurgame-track.xml"
+  })
+  private String sprite;
+
+  private SpriteDataParser spriteDataParser;
+  private SpriteRequest request;
+
+  /**
+   * A parser whose sprite file cache is emptied before every call.
+   */
+  @State(Scope.Thread)
+  public static class ColdParser {
+
+    private SpriteFileCache spriteFileCache;
+    private SpriteDataParser spriteDataParser;
+
+    /**
+     * Creates the parser and the cache it looks sprites up in.
+     */
+    @Setup
+    public void setUp() throws Exception {
+      spriteFileCache = new SpriteFileCache(Integer.MAX_VALUE);
+      spriteDataParser = new SpriteDataParser(spriteFileCache);
+    }
+
+    /**
+     * Drops the sprite file parsed by the previous call.
+     */
+    @Setup(Level.Invocation)
+    public void clearCache() {
+      spriteFileCache.clear();
+    }
+  }
+
+  /**
+   * Creates the cached parser and the request built from the selected parameter.
+   */
+  @Setup
+  public void setUp() throws Exception {
+    spriteDataParser = new SpriteDataParser();
+    String[] parts = sprite.split(",");
+    request = new SpriteRequest(parts[0], parts[1], parts[2], parts[3], parts[4]);
+  }
+
+  /**
+   * Resolves the sprite by parsing its XML file.
+   */
+  @Benchmark
+  public SpriteData getSpriteDataCold(ColdParser coldParser) throws Exception {
+    return coldParser.spriteDataParser.getSpriteData(request);
+  }
+
+  /**
+   * Resolves the sprite from the already parsed contents of its XML file.
+   */
+  @Benchmark
+  public SpriteData getSpriteDataCached() throws Exception {
+    return spriteDataParser.getSpriteData(request);
+  }
+}
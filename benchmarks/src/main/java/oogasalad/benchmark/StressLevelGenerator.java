@@ -0,0 +1,507 @@
+package oogasalad.benchmark;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import oogasalad.fileparser.DefaultFileParser;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Generates synthetic stress-test levels in the XML format read by {@link DefaultFileParser}.
+ *
+ * <p>The blueprints, sprite sheets and events of an existing level are reused, so every generated
+ * level loads real images and runs real events. Each non-player blueprint of the source level is
+ * cloned into a static variant (no events) and a dynamic variant (a configurable number of cheap
+ * per-frame events). A handful of spawner objects emit short-lived projectiles at a fixed rate so
+ * the object count stays bounded while add/destroy paths are exercised. The player of the source
+ * level is kept so tracking cameras and input events keep working.
+ *
+ * <p>Run from the project root; every argument is an optional {@code key=value} pair:
+ * <pre>
+ *   java -cp benchmarks/target/benchmarks.jar oogasalad.benchmark.StressLevelGenerator \
+ *       objects=1000,10000,100000 staticRatio=0.8 eventsPerBlueprint=2 spawners=10 spawnRate=1 \
+ *       width=20000 height=2000 seed=308 \
+ *       source=data/gameData/levels/supermario/supermarioLevel1.xml \
+ *       out=data/gameData/levels/stress
+ * </pre>
+ * One {@code stress-<count>.xml} file is written per object count.
+ *
+ * @author Billy McCune
+ */
+public class StressLevelGenerator {
+
+  private static final String DEFAULT_SOURCE = "data/gameData/levels/supermario/supermarioLevel1.xml";
+  private static final String DEFAULT_OUTPUT = "data/gameData/levels/stress";
+  private static final String DEFAULT_COUNTS = "1000,10000,100000";
+  private static final Pattern COORDINATE = Pattern.compile("\\((-?\\d+),(-?\\d+)\\)");
+
+  private static final String STATIC_LAYER = "static";
+  private static final String DYNAMIC_LAYER = "dynamic";
+  private static final int STATIC_Z = 0;
+  private static final int DYNAMIC_Z = 1;
+  private static final String EVENT_PREFIX = "stress-";
+  private static final String TICK_VARIABLE = "stressTicks";
+  private static final String SPAWN_VARIABLE = "stressSpawnTimer";
+  private static final String AGE_VARIABLE = "stressAge";
+  private static final double PATROL_SPEED = 2.0;
+  private static final double PROJECTILE_LIFETIME_SECONDS = 5.0;
+
+  private final Settings settings;
+
+  /**
+   * Parameters of a generated level.
+   *
+   * @param sourceLevel        level whose blueprints, sprites and events are reused
+   * @param objectCount        number of placed objects, not counting the player
+   * @param staticRatio        fraction of placed objects that have no events (0 to 1)
+   * @param eventsPerBlueprint number of events attached to each dynamic blueprint
+   * @param spawners           number of objects that periodically spawn projectiles
+   * @param spawnRate          projectiles spawned per second by each spawner
+   * @param ticksPerSecond     engine frame rate, used to turn rates into frame counts
+   * @param mapWidth           width of the generated map in pixels
+   * @param mapHeight          height of the generated map in pixels
+   * @param seed               random seed, so the same settings always produce the same level
+   */
+  public record Settings(String sourceLevel, int objectCount, double staticRatio,
+                         int eventsPerBlueprint, int spawners, double spawnRate,
+                         int ticksPerSecond, int mapWidth, int mapHeight, long seed) {
+
+    /**
+     * Validates the parameters.
+     */
+    public Settings {
+      if (objectCount < 0 || spawners < 0 || spawners > objectCount) {
+        throw new IllegalArgumentException("objectCount and spawners must satisfy "
+            + "0 <= spawners <= objectCount");
+      }
+      if (staticRatio < 0 || staticRatio > 1) {
+        throw new IllegalArgumentException("staticRatio must be between 0 and 1");
+      }
+      if (eventsPerBlueprint < 0 || spawnRate < 0 || ticksPerSecond <= 0) {
+        throw new IllegalArgumentException("eventsPerBlueprint, spawnRate and ticksPerSecond "
+            + "must not be negative");
+      }
+      if (mapWidth <= 0 || mapHeight <= 0) {
+        throw new IllegalArgumentException("map size must be positive");
+      }
+    }
+  }
+
+  /**
+   * @param settings parameters of the level to generate
+   */
+  public StressLevelGenerator(Settings settings) {
+    this.settings = settings;
+  }
+
+  /**
+   * Generates the level and writes it to {@code output}.
+   *
+   * @param output destination XML file; parent directories are created
+   * @throws Exception if the source level cannot be read or the output cannot be written
+   */
+  public void generate(File output) throws Exception {
+    Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+        .parse(new File(settings.sourceLevel()));
+    document.normalize();
+    stripWhitespace(document);
+    Element root = document.getDocumentElement();
+    Random random = new Random(settings.seed());
+
+    root.setAttribute("minX", "0");
+    root.setAttribute("minY", "0");
+    root.setAttribute("maxX", String.valueOf(settings.mapWidth()));
+    root.setAttribute("maxY", String.valueOf(settings.mapHeight()));
+
+    List<Element> blueprints = children(root, "game", "objectGroup", "object");
+    String trackedUid = trackedUid(root);
+    Element playerBlueprint = findPlayer(root, blueprints, trackedUid);
+    List<Element> templates = blueprints.stream()
+        .filter(blueprint -> !"player".equals(blueprint.getAttribute("type"))).toList();
+    if (templates.isEmpty()) {
+      throw new IllegalArgumentException(settings.sourceLevel() + " has no non-player blueprints");
+    }
+
+    int nextId = blueprints.stream().mapToInt(b -> Integer.parseInt(b.getAttribute("id")))
+        .max().orElse(0) + 1;
+    List<String> dynamicEvents = dynamicEventIds();
+    List<Integer> staticIds = new ArrayList<>();
+    List<Integer> dynamicIds = new ArrayList<>();
+    for (Element template : templates) {
+      staticIds.add(addVariant(template, nextId++, List.of()));
+      dynamicIds.add(addVariant(template, nextId++, dynamicEvents));
+    }
+    Element spawnTemplate = templates.get(random.nextInt(templates.size()));
+    int projectileId = addVariant(spawnTemplate, nextId++, List.of(
+        EVENT_PREFIX + "patrol", EVENT_PREFIX + "age", EVENT_PREFIX + "expire"));
+    int spawnerId = addVariant(spawnTemplate, nextId, List.of(
+        EVENT_PREFIX + "spawn-timer", EVENT_PREFIX + "spawn"));
+    writeEvents(document, root, projectileId);
+
+    Map<Integer, Placement> staticLayer = new LinkedHashMap<>();
+    Map<Integer, Placement> dynamicLayer = new LinkedHashMap<>();
+    int staticCount = (int) Math.round((settings.objectCount() - settings.spawners())
+        * settings.staticRatio());
+    int dynamicCount = settings.objectCount() - settings.spawners() - staticCount;
+    scatter(staticLayer, staticIds, staticCount, random);
+    scatter(dynamicLayer, dynamicIds, dynamicCount, random);
+    scatter(dynamicLayer, List.of(spawnerId), settings.spawners(), random);
+    String playerUid = placePlayer(root, playerBlueprint, trackedUid, dynamicLayer, random);
+
+    replaceLayers(document, root, staticLayer, dynamicLayer);
+    retargetCamera(root, playerUid);
+    write(document, output);
+  }
+
+  private void stripWhitespace(Node node) {
+    Node child = node.getFirstChild();
+    while (child != null) {
+      Node next = child.getNextSibling();
+      if (child.getNodeType() == Node.COMMENT_NODE
+          || child.getNodeType() == Node.TEXT_NODE && child.getTextContent().isBlank()) {
+        node.removeChild(child);
+      } else {
+        stripWhitespace(child);
+      }
+      child = next;
+    }
+  }
+
+  private String trackedUid(Element root) {
+    Element camera = firstChild(root, "cameraData");
+    if (camera == null) {
+      return null;
+    }
+    for (Element property : children(camera, "stringProperties", "property")) {
+      if ("objectToTrack".equals(property.getAttribute("name"))) {
+        return property.getAttribute("value").trim();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Picks the blueprint of the object the source camera tracks, or the first player blueprint if
+   * the tracked object cannot be found.
+   */
+  private Element findPlayer(Element root, List<Element> blueprints, String trackedUid) {
+    String playerId = null;
+    for (Element object : children(root, "layers", "layer", "data", "object")) {
+      if (trackedUid != null && uids(object).contains(trackedUid)) {
+        playerId = object.getAttribute("id");
+      }
+    }
+    for (Element blueprint : blueprints) {
+      if (playerId == null ? "player".equals(blueprint.getAttribute("type"))
+          : playerId.equals(blueprint.getAttribute("id"))) {
+        return blueprint;
+      }
+    }
+    return null;
+  }
+
+  private static List<String> uids(Element object) {
+    return Arrays.stream(object.getAttribute("uid").split(",")).map(String::trim).toList();
+  }
+
+  private int addVariant(Element template, int id, List<String> eventIds) {
+    Element variant = (Element) template.cloneNode(true);
+    variant.setAttribute("id", String.valueOf(id));
+    variant.setAttribute("eventIDs", String.join(",", eventIds));
+    template.getParentNode().appendChild(variant);
+    return id;
+  }
+
+  private List<String> dynamicEventIds() {
+    List<String> ids = new ArrayList<>();
+    for (int i = 0; i < settings.eventsPerBlueprint(); i++) {
+      ids.add(switch (i) {
+        case 0 -> EVENT_PREFIX + "patrol";
+        case 1 -> EVENT_PREFIX + "tick";
+        default -> EVENT_PREFIX + "check-" + i;
+      });
+    }
+    return ids;
+  }
+
+  private void writeEvents(Document document, Element root, int projectileId) {
+    Element events = firstChild(root, "events");
+    if (events == null) {
+      events = document.createElement("events");
+      root.appendChild(events);
+    }
+    double ticks = settings.ticksPerSecond();
+    double spawnPeriod = settings.spawnRate() == 0 ? Double.MAX_VALUE : ticks / settings.spawnRate();
+
+    events.appendChild(event(document, "patrol", condition(document, "TRUE", Map.of(), Map.of()),
+        outcome(document, "PATROL", Map.of(), Map.of("MovementAmount", PATROL_SPEED))));
+    events.appendChild(event(document, "tick", condition(document, "TRUE", Map.of(), Map.of()),
+        outcome(document, "CHANGE_VAR", Map.of("variable", TICK_VARIABLE), Map.of("delta", 1.0))));
+    for (int i = 2; i < settings.eventsPerBlueprint(); i++) {
+      events.appendChild(event(document, "check-" + i,
+          condition(document, "GREATER_VARIABLE_THRESHOLD", Map.of("variable", TICK_VARIABLE),
+              Map.of("threshold", ticks * i)),
+          outcome(document, "SET_VAR", Map.of("variable", TICK_VARIABLE), Map.of("amount", 0.0))));
+    }
+
+    events.appendChild(event(document, "spawn-timer",
+        condition(document, "TRUE", Map.of(), Map.of()),
+        outcome(document, "CHANGE_VAR", Map.of("variable", SPAWN_VARIABLE), Map.of("delta", 1.0))));
+    events.appendChild(event(document, "spawn",
+        condition(document, "GREATER_VARIABLE_THRESHOLD", Map.of("variable", SPAWN_VARIABLE),
+            Map.of("threshold", spawnPeriod)),
+        outcome(document, "SPAWN_ON_OBJECT", Map.of("layer_name", DYNAMIC_LAYER),
+            Map.of("blueprintId", (double) projectileId, "offset_x", 0.0, "offset_y", 0.0,
+                "layer", (double) DYNAMIC_Z)),
+        outcome(document, "SET_VAR", Map.of("variable", SPAWN_VARIABLE), Map.of("amount", 0.0))));
+
+    events.appendChild(event(document, "age", condition(document, "TRUE", Map.of(), Map.of()),
+        outcome(document, "CHANGE_VAR", Map.of("variable", AGE_VARIABLE), Map.of("delta", 1.0))));
+    events.appendChild(event(document, "expire",
+        condition(document, "GREATER_VARIABLE_THRESHOLD", Map.of("variable", AGE_VARIABLE),
+            Map.of("threshold", ticks * PROJECTILE_LIFETIME_SECONDS)),
+        outcome(document, "DESTROY_OBJECT", Map.of(), Map.of())));
+  }
+
+  private Element event(Document document, String id, Element condition, Element... outcomes) {
+    Element event = document.createElement("event");
+    event.setAttribute("type", "Physics");
+    event.setAttribute("id", EVENT_PREFIX + id);
+    Element conditions = document.createElement("conditions");
+    Element conditionSet = document.createElement("conditionSet");
+    conditionSet.appendChild(condition);
+    conditions.appendChild(conditionSet);
+    event.appendChild(conditions);
+    Element outcomeList = document.createElement("outcomes");
+    for (Element outcome : outcomes) {
+      outcomeList.appendChild(outcome);
+    }
+    event.appendChild(outcomeList);
+    return event;
+  }
+
+  private Element condition(Document document, String name, Map<String, String> strings,
+      Map<String, Double> doubles) {
+    return parameterized(document, "condition", name, strings, doubles);
+  }
+
+  private Element outcome(Document document, String name, Map<String, String> strings,
+      Map<String, Double> doubles) {
+    return parameterized(document, "outcome", name, strings, doubles);
+  }
+
+  private Element parameterized(Document document, String tag, String name,
+      Map<String, String> strings, Map<String, Double> doubles) {
+    Element element = document.createElement(tag);
+    element.setAttribute("name", name);
+    Element stringParameters = document.createElement("stringParameters");
+    strings.forEach((key, value) -> stringParameters.appendChild(
+        parameter(document, key, value)));
+    Element doubleParameters = document.createElement("doubleParameters");
+    doubles.forEach((key, value) -> doubleParameters.appendChild(
+        parameter(document, key, String.valueOf(value))));
+    element.appendChild(stringParameters);
+    element.appendChild(doubleParameters);
+    return element;
+  }
+
+  private Element parameter(Document document, String name, String value) {
+    Element parameter = document.createElement("parameter");
+    parameter.setAttribute("name", name);
+    parameter.setAttribute("value", value);
+    return parameter;
+  }
+
+  private void scatter(Map<Integer, Placement> layer, List<Integer> blueprintIds, int count,
+      Random random) {
+    for (int i = 0; i < count; i++) {
+      int blueprintId = blueprintIds.get(random.nextInt(blueprintIds.size()));
+      layer.computeIfAbsent(blueprintId, id -> new Placement())
+          .add(random.nextInt(settings.mapWidth()), random.nextInt(settings.mapHeight()), random);
+    }
+  }
+
+  /**
+   * Places the player where it started in the source level, clamped into the new map.
+   */
+  private String placePlayer(Element root, Element playerBlueprint, String trackedUid,
+      Map<Integer, Placement> dynamicLayer, Random random) {
+    if (playerBlueprint == null) {
+      return null;
+    }
+    int playerId = Integer.parseInt(playerBlueprint.getAttribute("id"));
+    int x = settings.mapWidth() / 2;
+    int y = 0;
+    for (Element object : children(root, "layers", "layer", "data", "object")) {
+      if (Integer.parseInt(object.getAttribute("id")) != playerId) {
+        continue;
+      }
+      int index = Math.max(0, uids(object).indexOf(trackedUid));
+      Matcher matcher = COORDINATE.matcher(object.getAttribute("coordinates"));
+      for (int i = 0; i <= index && matcher.find(); i++) {
+        x = Math.max(0, Math.min(Integer.parseInt(matcher.group(1)), settings.mapWidth() - 1));
+        y = Math.max(0, Math.min(Integer.parseInt(matcher.group(2)), settings.mapHeight() - 1));
+      }
+      break;
+    }
+    return dynamicLayer.computeIfAbsent(playerId, id -> new Placement()).add(x, y, random);
+  }
+
+  private void replaceLayers(Document document, Element root, Map<Integer, Placement> staticLayer,
+      Map<Integer, Placement> dynamicLayer) {
+    Element layers = firstChild(root, "layers");
+    Element replacement = document.createElement("layers");
+    replacement.appendChild(layer(document, STATIC_LAYER, STATIC_Z, staticLayer));
+    replacement.appendChild(layer(document, DYNAMIC_LAYER, DYNAMIC_Z, dynamicLayer));
+    if (layers == null) {
+      root.insertBefore(replacement, firstChild(root, "game"));
+    } else {
+      root.replaceChild(replacement, layers);
+    }
+  }
+
+  private Element layer(Document document, String name, int z, Map<Integer, Placement> objects) {
+    Element layer = document.createElement("layer");
+    layer.setAttribute("name", name);
+    layer.setAttribute("width", String.valueOf(settings.mapWidth()));
+    layer.setAttribute("height", String.valueOf(settings.mapHeight()));
+    layer.setAttribute("z", String.valueOf(z));
+    Element data = document.createElement("data");
+    objects.forEach((blueprintId, placement) -> {
+      Element object = document.createElement("object");
+      object.setAttribute("id", String.valueOf(blueprintId));
+      object.setAttribute("coordinates", placement.coordinates.toString());
+      object.setAttribute("uid", placement.uids.toString());
+      data.appendChild(object);
+    });
+    layer.appendChild(data);
+    return layer;
+  }
+
+  private void retargetCamera(Element root, String playerUid) {
+    Element camera = firstChild(root, "cameraData");
+    if (camera == null) {
+      return;
+    }
+    for (Element property : children(camera, "stringProperties", "property")) {
+      if ("objectToTrack".equals(property.getAttribute("name"))) {
+        if (playerUid == null) {
+          throw new IllegalArgumentException(
+              settings.sourceLevel() + " tracks an object but has no player blueprint");
+        }
+        property.setAttribute("value", playerUid);
+      }
+    }
+  }
+
+  private void write(Document document, File output) throws Exception {
+    File parent = output.getAbsoluteFile().getParentFile();
+    if (!parent.isDirectory() && !parent.mkdirs()) {
+      throw new IllegalStateException("Could not create " + parent);
+    }
+    Transformer transformer = TransformerFactory.newInstance().newTransformer();
+    transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+    transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+    transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "2");
+    transformer.transform(new DOMSource(document), new StreamResult(output));
+  }
+
+  private static Element firstChild(Element parent, String tag) {
+    for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+      if (node instanceof Element element && element.getTagName().equals(tag)) {
+        return element;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Collects the elements reached by following {@code path} through direct children only, so
+   * layer objects and blueprint objects are never confused.
+   */
+  private static List<Element> children(Element parent, String... path) {
+    List<Element> current = List.of(parent);
+    for (String tag : path) {
+      List<Element> next = new ArrayList<>();
+      for (Element element : current) {
+        NodeList nodes = element.getChildNodes();
+        for (int i = 0; i < nodes.getLength(); i++) {
+          if (nodes.item(i) instanceof Element child && child.getTagName().equals(tag)) {
+            next.add(child);
+          }
+        }
+      }
+      current = next;
+    }
+    return current;
+  }
+
+  /**
+   * Coordinates and UUIDs of every instance of one blueprint on one layer.
+   */
+  private static final class Placement {
+
+    private final StringBuilder coordinates = new StringBuilder();
+    private final StringBuilder uids = new StringBuilder();
+
+    private String add(int x, int y, Random random) {
+      String uid = new UUID(random.nextLong(), random.nextLong()).toString();
+      if (!coordinates.isEmpty()) {
+        coordinates.append(", ");
+        uids.append(", ");
+      }
+      coordinates.append('(').append(x).append(',').append(y).append(')');
+      uids.append(uid);
+      return uid;
+    }
+  }
+
+  /**
+   * Generates one level per requested object count.
+   *
+   * @param args optional {@code key=value} overrides, see the class documentation
+   */
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = new LinkedHashMap<>();
+    for (String arg : args) {
+      String[] pair = arg.split("=", 2);
+      if (pair.length != 2) {
+        throw new IllegalArgumentException("Expected key=value but got " + arg);
+      }
+      options.put(pair[0], pair[1]);
+    }
+    File outputDirectory = new File(options.getOrDefault("out", DEFAULT_OUTPUT));
+    for (String count : options.getOrDefault("objects", DEFAULT_COUNTS).split(",")) {
+      Settings settings = new Settings(
+          options.getOrDefault("source", DEFAULT_SOURCE),
+          Integer.parseInt(count.trim()),
+          Double.parseDouble(options.getOrDefault("staticRatio", "0.8")),
+          Integer.parseInt(options.getOrDefault("eventsPerBlueprint", "2")),
+          Integer.parseInt(options.getOrDefault("spawners", "10")),
+          Double.parseDouble(options.getOrDefault("spawnRate", "1")),
+          Integer.parseInt(options.getOrDefault("ticksPerSecond", "40")),
+          Integer.parseInt(options.getOrDefault("width", "20000")),
+          Integer.parseInt(options.getOrDefault("height", "2000")),
+          Long.parseLong(options.getOrDefault("seed", "308")));
+      File output = new File(outputDirectory, "stress-" + settings.objectCount() + ".xml");
+      new StressLevelGenerator(settings).generate(output);
+      System.out.println("Wrote " + output);
+    }
+  }
+}
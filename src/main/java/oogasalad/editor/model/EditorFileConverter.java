@@ -13,8 +13,11 @@ import oogasalad.exceptions.LayerParseException;
 import oogasalad.exceptions.LevelDataParseException;
 import oogasalad.exceptions.PropertyParsingException;
 import oogasalad.exceptions.SpriteParseException;
-import oogasalad.fileparser.DefaultFileParser;
+import oogasalad.fileparser.CachingFileParser;
+import oogasalad.fileparser.CompiledLevelFileParser;
 import oogasalad.fileparser.FileParserApi;
+import oogasalad.fileparser.LevelDataCache;
+import oogasalad.fileparser.StaxFileParser;
 import oogasalad.fileparser.records.LevelData;
 import oogasalad.filesaver.savestrategy.SaverStrategy;
 
@@ -38,7 +41,17 @@ public class EditorFileConverter implements EditorFileConverterAPI {
   @Override
   public LevelData loadFileToEditor(String fileName)
       throws LayerParseException, LevelDataParseException, PropertyParsingException, SpriteParseException, EventParseException, HitBoxParseException, BlueprintParseException, GameObjectParseException {
-    FileParserApi parser = new DefaultFileParser();
-    return parser.parseLevelFile(fileName);
+    FileParserApi parser = new CachingFileParser(
+        new CompiledLevelFileParser(new StaxFileParser()));
+    LevelData levelData = parser.parseLevelFile(fileName);
+    try {
+      return LevelDataCache.mutableCopy(levelData);
+    } catch (IllegalStateException e) {
+      // the copy resolves the blueprints the level does not use, which parsing left lazy
+      if (e.getCause() instanceof SpriteParseException spriteParseException) {
+        throw spriteParseException;
+      }
+      throw e;
+    }
   }
 }
@@ -114,8 +114,9 @@ public class DefaultEngineFileConverter implements EngineFileConverterAPI {
         blueprintData.hitBoxData().spriteDx(), blueprintData.hitBoxData().spriteDy(), blueprintData.spriteData().spriteFile(),
         blueprintData.rotation(), blueprintData.isFlipped());
     List<Event> emptyEvents = new ArrayList<>();
-    Map<String, String> stringParams = blueprintData.stringProperties();
-    Map<String, Double> doubleParams = blueprintData.doubleProperties();
+    // each object gets its own copy, as outcomes change these at runtime
+    Map<String, String> stringParams = new HashMap<>(blueprintData.stringProperties());
+    Map<String, Double> doubleParams = new HashMap<>(blueprintData.doubleProperties());
     List<String> displayedStats = blueprintData.displayedProperties();
 
     if (blueprintData.type().equals("player")) {
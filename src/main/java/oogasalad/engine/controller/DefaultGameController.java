@@ -18,6 +18,7 @@ import oogasalad.engine.controller.api.GameExecutor;
 import oogasalad.engine.controller.api.GameManagerAPI;
 import oogasalad.engine.controller.api.GameObjectProvider;
 import oogasalad.engine.controller.api.InputProvider;
+import oogasalad.engine.controller.api.LevelLoadListener;
 import oogasalad.engine.model.animation.DefaultAnimationHandler;
 import oogasalad.engine.model.event.CollisionHandler;
 import oogasalad.engine.model.event.DefaultCollisionHandler;
@@ -52,13 +53,16 @@ import oogasalad.fileparser.records.LevelData;
 public class DefaultGameController implements GameControllerAPI, GameObjectProvider, GameExecutor {
 
   private static final ResourceManagerAPI resourceManager = ResourceManager.getInstance();
+  private static final double STEP_MILLIS = 1000.0 / Double.parseDouble(
+      resourceManager.getConfig("engine.controller.gamemanager", "framesPerSecond"));
 
   private final EventHandler eventHandler;
   private final CollisionHandler collisionHandler;
   private Map<String, GameObject> myGameObjectMap;
   private List<GameObject> myGameObjects;
   private mapObject myMapObject;
-  private Camera myCamera;
+  // replaced by the loader or simulation thread and read by the JavaFX thread each frame
+  private volatile Camera myCamera;
   private final GameManagerAPI myGameManager;
   private final DefaultAnimationHandler myAnimationHandler;
 
@@ -145,6 +149,7 @@ public class DefaultGameController implements GameControllerAPI, GameObjectProvi
       }
       gameObject.updatePosition(); //process y velocity/xvelocity from gravity/jump
     }
+    myAnimationHandler.advanceAll(STEP_MILLIS);
 
   }
 
@@ -193,10 +198,14 @@ public class DefaultGameController implements GameControllerAPI, GameObjectProvi
     return myGameManager.getCurrentLevelName();
   }
 
+  /**
+   * Loads the level in the background; the current level keeps its state, paused, until the new
+   * one is ready.
+   */
   @Override
   public void selectLevel(String filePath)
       throws LayerParseException, EventParseException, BlueprintParseException, IOException, InvocationTargetException, NoSuchMethodException, IllegalAccessException, DataFormatException, LevelDataParseException, PropertyParsingException, SpriteParseException, HitBoxParseException, GameObjectParseException, ClassNotFoundException, InstantiationException {
-    myGameManager.selectGame(filePath);
+    myGameManager.selectGameAsync(filePath, LevelLoadListener.NONE);
   }
 
   private List<ImmutableGameObject> makeGameObjectsImmutable(
@@ -4,11 +4,17 @@ import java.awt.Point;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.DataFormatException;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.scene.input.KeyCode;
 import javafx.stage.Stage;
 import javafx.util.Duration;
@@ -16,11 +22,16 @@ import oogasalad.ResourceManager;
 import oogasalad.ResourceManagerAPI;
 import oogasalad.engine.controller.api.GameControllerAPI;
 import oogasalad.engine.controller.api.GameManagerAPI;
+import oogasalad.engine.controller.api.GameObjectProvider;
 import oogasalad.engine.controller.api.InputProvider;
 import oogasalad.engine.controller.api.LevelAPI;
+import oogasalad.engine.controller.api.LevelLoadListener;
+import oogasalad.engine.model.object.FrameSnapshot;
+import oogasalad.engine.model.object.FrameSnapshot.ViewChange;
 import oogasalad.engine.model.object.GameObject;
 import oogasalad.engine.model.object.ImmutableGameObject;
 import oogasalad.engine.view.DefaultView;
+import oogasalad.engine.view.camera.Camera;
 import oogasalad.exceptions.BlueprintParseException;
 import oogasalad.exceptions.EventParseException;
 import oogasalad.exceptions.GameObjectParseException;
@@ -33,11 +44,17 @@ import oogasalad.exceptions.RenderingException;
 import oogasalad.exceptions.SpriteParseException;
 import oogasalad.exceptions.ViewInitializationException;
 import oogasalad.fileparser.records.GameObjectData;
+import oogasalad.fileparser.records.LevelData;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
- * Game manager api implementation
+ * Game manager api implementation.
+ *
+ * <p>Game ticks run on a {@link SimulationLoop} thread. The JavaFX {@link Timeline} only hands
+ * input to the simulation and draws the newest {@link FrameSnapshot}, so a slow tick never blocks
+ * input or drawing. Objects leaving or entering the level are recorded with the tick and replayed
+ * by the view together with the snapshot they belong to.
  */
 public class DefaultGameManager implements GameManagerAPI, InputProvider {
 
@@ -45,12 +62,18 @@ public class DefaultGameManager implements GameManagerAPI, InputProvider {
   private static final ResourceManagerAPI resourceManager = ResourceManager.getInstance();
 
   private final Timeline myGameLoop;
+  private final SimulationLoop mySimulation;
   private final GameControllerAPI myGameController;
+  private final GameObjectProvider myGameObjectProvider;
   private final LevelAPI myLevelAPI;
   private DefaultView myView;
-  private static List<KeyCode> currentKeysPressed;
-  private List<KeyCode> currentKeysReleased;
+  private volatile List<KeyCode> currentKeysPressed = List.of();
+  private final Set<KeyCode> pendingKeysReleased = ConcurrentHashMap.newKeySet();
+  private List<KeyCode> currentKeysReleased = new ArrayList<>();
   private String myCurrentGamePath;
+  private String myLoadingLevel;
+  private volatile CompletableFuture<Void> myLevelLoad = CompletableFuture.completedFuture(null);
+  private volatile FrameSnapshot myLatestFrame;
   private String currentLevel;
   private boolean gameWon = false;
 
@@ -62,21 +85,27 @@ public class DefaultGameManager implements GameManagerAPI, InputProvider {
   public DefaultGameManager()
       throws ViewInitializationException, FileNotFoundException {
     myGameLoop = initGameLoop();
-    myGameController = new DefaultGameController(this, this);
+    DefaultGameController gameController = new DefaultGameController(this, this);
+    myGameController = gameController;
+    myGameObjectProvider = gameController;
     myLevelAPI = new DefaultLevel(myGameController);
+    mySimulation = new SimulationLoop(Double.parseDouble(
+        resourceManager.getConfig("engine.controller.gamemanager", "framesPerSecond")), this::tick);
     initializeMyView();
   }
 
 
   @Override
   public void playGame() {
-    myGameLoop.play();
+    mySimulation.start();
+    onFxThread(myGameLoop::play);
   }
 
 
   @Override
   public void pauseGame() {
-    myGameLoop.pause();
+    mySimulation.stop();
+    onFxThread(myGameLoop::pause);
   }
 
 
@@ -84,8 +113,12 @@ public class DefaultGameManager implements GameManagerAPI, InputProvider {
   public void restartGame()
       throws DataFormatException, IOException, ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException, LayerParseException, LevelDataParseException, PropertyParsingException, SpriteParseException, EventParseException, HitBoxParseException, BlueprintParseException, GameObjectParseException {
     if (!(currentLevel == null)) {
-      myLevelAPI.selectGame(currentLevel);
-      playGame();
+      mySimulation.getModelLock().lock();
+      try {
+        myLevelAPI.selectGame(currentLevel);
+      } finally {
+        mySimulation.getModelLock().unlock();
+      }
     }
   }
 
@@ -94,9 +127,78 @@ public class DefaultGameManager implements GameManagerAPI, InputProvider {
   public void selectGame(String filePath)
       throws DataFormatException, IOException, ClassNotFoundException, InvocationTargetException,
       NoSuchMethodException, InstantiationException, IllegalAccessException, LayerParseException, LevelDataParseException, PropertyParsingException, SpriteParseException, EventParseException, HitBoxParseException, BlueprintParseException, GameObjectParseException {
+    synchronized (this) {
+      myLoadingLevel = filePath;
+    }
     currentLevel = filePath;
     myCurrentGamePath = filePath;
-    myLevelAPI.selectGame(filePath);
+    mySimulation.getModelLock().lock();
+    try {
+      myLevelAPI.selectGame(filePath);
+    } finally {
+      mySimulation.getModelLock().unlock();
+    }
+  }
+
+  /**
+   * @see GameManagerAPI#selectGameAsync(String, LevelLoadListener)
+   */
+  @Override
+  public CompletableFuture<Void> selectGameAsync(String filePath, LevelLoadListener listener) {
+    CompletableFuture<Void> load = new CompletableFuture<>();
+    boolean resume;
+    synchronized (this) {
+      if (filePath.equals(myLoadingLevel) && !myLevelLoad.isDone()) {
+        return myLevelLoad;
+      }
+      resume = mySimulation.isRunning();
+      mySimulation.stop();
+      myLoadingLevel = filePath;
+      myLevelLoad = load;
+    }
+    // the level is swapped in outside the monitor, as a tick selecting a level holds the model
+    // lock and then needs the monitor
+    myLevelAPI.loadLevel(filePath, listener)
+        .thenAccept(levelData -> selectLoadedLevel(filePath, levelData))
+        .whenComplete((ignored, failure) -> {
+          if (resume) {
+            mySimulation.start();
+          }
+          if (failure != null) {
+            LOG.error(resourceManager.getText("exceptions", "CannotSelectLevel"), failure);
+            load.completeExceptionally(failure);
+          } else {
+            load.complete(null);
+          }
+        });
+    return load;
+  }
+
+  @Override
+  public CompletableFuture<Void> levelLoaded() {
+    return myLevelLoad;
+  }
+
+  /**
+   * Swaps in a level loaded in the background, unless another level was selected since. Failing
+   * to create the level's objects completes the load exceptionally.
+   */
+  private void selectLoadedLevel(String filePath, LevelData levelData) {
+    synchronized (this) {
+      if (!filePath.equals(myLoadingLevel)) {
+        return;
+      }
+    }
+    mySimulation.getModelLock().lock();
+    try {
+      currentLevel = filePath;
+      myCurrentGamePath = filePath;
+      myLevelAPI.selectLoadedLevel(levelData);
+    } catch (ReflectiveOperationException e) {
+      throw new CompletionException(e);
+    } finally {
+      mySimulation.getModelLock().unlock();
+    }
   }
 
   @Override
@@ -129,17 +231,24 @@ public class DefaultGameManager implements GameManagerAPI, InputProvider {
    */
   @Override
   public void displayGameObjects() throws RenderingException, FileNotFoundException {
-    myView.renderGameObjects(myGameController.getImmutableObjects(), myGameController.getCamera());
+    FrameSnapshot snapshot;
+    mySimulation.getModelLock().lock();
+    try {
+      snapshot = mySimulation.captureNow(myGameObjectProvider.getGameObjects());
+    } finally {
+      mySimulation.getModelLock().unlock();
+    }
+    render(snapshot);
   }
 
   @Override
   public void removeGameObjectImage(ImmutableGameObject gameObject) {
-    myView.removeGameObjectImage(gameObject);
+    mySimulation.recordChange(gameObject, false);
   }
 
   @Override
   public void addGameObjectImage(ImmutableGameObject gameObject) {
-    myView.addGameObjectImage(gameObject);
+    mySimulation.recordChange(gameObject, true);
   }
 
   @Override
@@ -162,9 +271,19 @@ public class DefaultGameManager implements GameManagerAPI, InputProvider {
     LOG.info("Setting language to {}", language);
   }
 
+  /**
+   * Returns the first player as drawn in the latest frame. The player is a read-only copy taken
+   * from the frame's snapshot, so it can be read on any thread while the simulation runs.
+   *
+   * @return the player, or {@code null} if no frame with a player has been drawn yet
+   */
   @Override
   public Object getPlayer() {
-    return myGameController.getImmutablePlayers().getFirst();
+    FrameSnapshot frame = myLatestFrame;
+    if (frame == null || frame.getPlayers().isEmpty()) {
+      return null;
+    }
+    return frame.getPlayers().getFirst();
   }
 
   @Override
@@ -214,27 +333,61 @@ public class DefaultGameManager implements GameManagerAPI, InputProvider {
   public void endGame(boolean gameWon) {
     pauseGame();
     setGameWonVariable(gameWon);
-    myView.renderEndGameScreen(gameWon);
+    onFxThread(() -> myView.renderEndGameScreen(gameWon));
   }
 
-  private void step()
-      throws RenderingException, InputException, IOException, LayerParseException, EventParseException, BlueprintParseException, InvocationTargetException, NoSuchMethodException, IllegalAccessException, DataFormatException, LevelDataParseException, PropertyParsingException, SpriteParseException, HitBoxParseException, GameObjectParseException, ClassNotFoundException, InstantiationException {
-    updateInputList();
+  /**
+   * Runs one simulation tick on the simulation thread.
+   *
+   * @return the live objects to capture for the view
+   */
+  private List<GameObject> tick()
+      throws IOException, LayerParseException, EventParseException, BlueprintParseException, InvocationTargetException, NoSuchMethodException, IllegalAccessException, DataFormatException, LevelDataParseException, PropertyParsingException, SpriteParseException, HitBoxParseException, GameObjectParseException, ClassNotFoundException, InstantiationException {
+    currentKeysReleased = new ArrayList<>(pendingKeysReleased);
+    pendingKeysReleased.removeAll(currentKeysReleased);
     myGameController.updateGameState();
-    myView.renderGameObjects(myGameController.getImmutableObjects(), myGameController.getCamera());
-    renderPlayerStats();
+    return myGameObjectProvider.getGameObjects();
+  }
+
+  /**
+   * Runs one frame on the JavaFX thread: passes input on to the simulation and draws the newest
+   * snapshot, if a tick finished since the last frame.
+   */
+  private void step() throws RenderingException, InputException, FileNotFoundException {
+    updateInputList();
     myView.clearReleasedInputs();
+    FrameSnapshot snapshot = mySimulation.takeLatest();
+    if (snapshot != null) {
+      render(snapshot);
+    }
   }
 
-  private void renderPlayerStats() {
-    for (ImmutableGameObject immutableGameObject : myGameController.getImmutablePlayers()) {
-      myView.renderPlayerStats(immutableGameObject);
+  private void render(FrameSnapshot snapshot) throws RenderingException, FileNotFoundException {
+    for (ViewChange change : snapshot.getChanges()) {
+      if (change.added()) {
+        myView.addGameObjectImage(change.gameObject());
+      } else {
+        myView.removeGameObjectImage(change.gameObject());
+      }
     }
+    // read once, so a level loaded mid-frame cannot switch cameras part way through drawing
+    Camera camera = myGameController.getCamera();
+    myView.renderGameObjects(snapshot.getObjects(), camera);
+    myView.renderPlayerStats(snapshot.getPlayers());
+    myLatestFrame = snapshot;
   }
 
   private void updateInputList() throws InputException {
-    currentKeysPressed = myView.getCurrentInputs();
-    currentKeysReleased = myView.getReleasedInputs();
+    currentKeysPressed = List.copyOf(myView.getCurrentInputs());
+    pendingKeysReleased.addAll(myView.getReleasedInputs());
+  }
+
+  private static void onFxThread(Runnable action) {
+    if (Platform.isFxApplicationThread()) {
+      action.run();
+    } else {
+      Platform.runLater(action);
+    }
   }
 
   private void initializeMyView() throws ViewInitializationException, FileNotFoundException {
@@ -254,12 +407,7 @@ public class DefaultGameManager implements GameManagerAPI, InputProvider {
     gameLoop.getKeyFrames().add(new KeyFrame(Duration.seconds(secondDelay), e -> {
       try {
         step();
-      } catch (RenderingException | InputException | IOException | LayerParseException |
-               EventParseException | BlueprintParseException | InvocationTargetException |
-               NoSuchMethodException | IllegalAccessException | DataFormatException |
-               LevelDataParseException | PropertyParsingException | SpriteParseException |
-               HitBoxParseException | GameObjectParseException | ClassNotFoundException |
-               InstantiationException ex) {
+      } catch (RenderingException | InputException | FileNotFoundException ex) {
         throw new RuntimeException(ex);
       }
     }));
@@ -1,15 +1,30 @@
 package oogasalad.engine.controller;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.logging.Logger;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.DoubleConsumer;
+import oogasalad.ResourceManager;
+import oogasalad.ResourceManagerAPI;
 import oogasalad.engine.controller.api.EngineFileConverterAPI;
 import oogasalad.engine.controller.api.GameControllerAPI;
 import oogasalad.engine.controller.api.LevelAPI;
+import oogasalad.engine.controller.api.LevelLoadListener;
+import oogasalad.engine.model.event.outcome.EventOutcome.OutcomeType;
 import oogasalad.engine.model.object.GameObject;
+import oogasalad.engine.view.util.SpriteAtlasPacker;
+import oogasalad.engine.view.util.TextureCache;
 import oogasalad.exceptions.BlueprintParseException;
 import oogasalad.exceptions.EventParseException;
 import oogasalad.exceptions.GameObjectParseException;
@@ -18,11 +33,20 @@ import oogasalad.exceptions.LayerParseException;
 import oogasalad.exceptions.LevelDataParseException;
 import oogasalad.exceptions.PropertyParsingException;
 import oogasalad.exceptions.SpriteParseException;
-import oogasalad.fileparser.DefaultFileParser;
+import oogasalad.fileparser.CachingFileParser;
+import oogasalad.fileparser.CompiledLevelFileParser;
 import oogasalad.fileparser.FileParserApi;
+import oogasalad.fileparser.LazyBlueprintMap;
+import oogasalad.fileparser.LevelCatalog;
+import oogasalad.fileparser.StaxFileParser;
 import oogasalad.fileparser.records.BlueprintData;
+import oogasalad.fileparser.records.EventData;
 import oogasalad.fileparser.records.GameObjectData;
 import oogasalad.fileparser.records.LevelData;
+import oogasalad.fileparser.records.OutcomeData;
+import oogasalad.filesaver.savestrategy.BinaryStrategy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 /**
  * Default implementation of the {@link LevelAPI}.
@@ -31,16 +55,36 @@ import oogasalad.fileparser.records.LevelData;
  * category, and level name. It uses a {@link FileParserApi} to parse the level file and delegates
  * to the {@link GameControllerAPI} to update the engine with the parsed data.
  *
+ * <p>Levels can also be loaded on a small pool of background threads. Once a level is selected,
+ * the levels its {@code SELECT_LEVEL} outcomes point to are preloaded there, so moving on to them
+ * does not wait for parsing or image decoding.
+ *
  * @author Gage Garcia, Billy McCune
  */
 public class DefaultLevel implements LevelAPI {
 
-  private static final Logger LOG = Logger.getLogger(DefaultLevel.class.getName());
+  private static final Logger LOG = LogManager.getLogger();
+  private static final ResourceManagerAPI resourceManager = ResourceManager.getInstance();
+  private static final String LEVEL_CONFIG = "engine.controller.level";
   private final FileParserApi myFileParser;
   private final GameControllerAPI myGameController;
-  private static final String LEVEL_FILE_PATH =
-      System.getProperty("user.dir") + "/data/gameData/levels/";
+  private static final String LEVEL_PATH_PARAMETER = "levelPath";
+  private static final double PARSED_PROGRESS = 0.5;
+  private static final double PACKED_PROGRESS = 0.7;
+  private static final ExecutorService LEVEL_LOADER = Executors.newFixedThreadPool(2, runnable -> {
+    Thread thread = new Thread(runnable, "level-loader");
+    thread.setDaemon(true);
+    return thread;
+  });
   private static LevelData levelData;
+  private final Map<String, Preload> myPreloads = new ConcurrentHashMap<>();
+
+  /**
+   * A level loading in the background, stamped with its file's modification time.
+   */
+  private record Preload(long lastModified, CompletableFuture<LevelData> level) {
+
+  }
 
   /**
    * Default level constructor
@@ -48,7 +92,19 @@ public class DefaultLevel implements LevelAPI {
    * @param gameController the game controller manages the back-end of the game
    */
   public DefaultLevel(GameControllerAPI gameController) {
-    myFileParser = new DefaultFileParser();
+    this(gameController, new CachingFileParser(new CompiledLevelFileParser(new StaxFileParser(),
+        Boolean.parseBoolean(resourceManager.getConfig(LEVEL_CONFIG, "CompileLevels"))
+            ? new BinaryStrategy() : null)));
+  }
+
+  /**
+   * Creates a level loader that reads level files with the given parser
+   *
+   * @param gameController the game controller manages the back-end of the game
+   * @param fileParser     the parser level files are read with
+   */
+  public DefaultLevel(GameControllerAPI gameController, FileParserApi fileParser) {
+    myFileParser = fileParser;
     myGameController = gameController;
   }
 
@@ -60,9 +116,165 @@ public class DefaultLevel implements LevelAPI {
   @Override
   public void selectGame(String filePath)
       throws LevelDataParseException, PropertyParsingException, SpriteParseException, EventParseException, HitBoxParseException, BlueprintParseException, GameObjectParseException, LayerParseException, ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
-    LOG.info("Selecting game " + filePath);
-    levelData = myFileParser.parseLevelFile(filePath);
+    LOG.info("Selecting game {}", filePath);
+    CompletableFuture<LevelData> preloaded = freshPreload(filePath);
+    if (preloaded != null && preloaded.isDone() && !preloaded.isCompletedExceptionally()) {
+      selectLoadedLevel(preloaded.join());
+    } else {
+      selectLoadedLevel(load(filePath, LevelLoadListener.NONE));
+    }
+  }
+
+  /**
+   * @see LevelAPI#loadLevel(String, LevelLoadListener)
+   */
+  @Override
+  public CompletableFuture<LevelData> loadLevel(String filePath, LevelLoadListener listener) {
+    CompletableFuture<LevelData> preloaded = freshPreload(filePath);
+    if (preloaded != null && !preloaded.isCompletedExceptionally()) {
+      preloaded.thenRun(() -> listener.progressChanged(1));
+      return preloaded;
+    }
+    return loadInBackground(filePath, listener);
+  }
+
+  /**
+   * @see LevelAPI#selectLoadedLevel(LevelData)
+   */
+  @Override
+  public void selectLoadedLevel(LevelData data)
+      throws ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+    levelData = data;
     myGameController.setLevelData(levelData);
+    if (Boolean.parseBoolean(resourceManager.getConfig(LEVEL_CONFIG, "PreloadNextLevels"))) {
+      preloadLevels(selectLevelTargets(levelData));
+    }
+  }
+
+  /**
+   * @see LevelAPI#preloadLevels(Collection)
+   */
+  @Override
+  public void preloadLevels(Collection<String> filePaths) {
+    myPreloads.keySet().retainAll(filePaths);
+    for (String filePath : filePaths) {
+      if (freshPreload(filePath) == null) {
+        LOG.info("Preloading level {}", filePath);
+        myPreloads.put(filePath, new Preload(new File(filePath).lastModified(),
+            loadInBackground(filePath, LevelLoadListener.NONE)));
+      }
+    }
+  }
+
+  /**
+   * Returns the preload of a level, unless there is none or the level file changed since it was
+   * started.
+   */
+  private CompletableFuture<LevelData> freshPreload(String filePath) {
+    Preload preload = myPreloads.get(filePath);
+    if (preload == null) {
+      return null;
+    }
+    if (preload.lastModified() != new File(filePath).lastModified()) {
+      myPreloads.remove(filePath, preload);
+      return null;
+    }
+    return preload.level();
+  }
+
+  private CompletableFuture<LevelData> loadInBackground(String filePath,
+      LevelLoadListener listener) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return load(filePath, listener);
+      } catch (LevelDataParseException | PropertyParsingException | SpriteParseException
+               | EventParseException | HitBoxParseException | BlueprintParseException
+               | GameObjectParseException | LayerParseException e) {
+        throw new CompletionException(e);
+      }
+    }, LEVEL_LOADER);
+  }
+
+  /**
+   * Parses a level, packs its sprites and decodes its sprite sheets, reporting each step.
+   */
+  private LevelData load(String filePath, LevelLoadListener listener)
+      throws LevelDataParseException, PropertyParsingException, SpriteParseException, EventParseException, HitBoxParseException, BlueprintParseException, GameObjectParseException, LayerParseException {
+    listener.progressChanged(0);
+    LevelData data = myFileParser.parseLevelFile(filePath);
+    listener.progressChanged(PARSED_PROGRESS);
+    data = packAtlas(data);
+    listener.progressChanged(PACKED_PROGRESS);
+    preloadTextures(data, progress ->
+        listener.progressChanged(PACKED_PROGRESS + progress * (1 - PACKED_PROGRESS)));
+    listener.progressChanged(1);
+    return data;
+  }
+
+  /**
+   * Collects the levels the level's {@code SELECT_LEVEL} outcomes lead to, in the order their
+   * blueprints are listed. Blueprints the level never instantiates are left unresolved and
+   * skipped.
+   */
+  private static Set<String> selectLevelTargets(LevelData data) {
+    Set<String> targets = new LinkedHashSet<>();
+    for (BlueprintData blueprint : LazyBlueprintMap.resolvedValues(data.gameBluePrintData())) {
+      if (blueprint.eventDataList() == null) {
+        continue;
+      }
+      for (EventData event : blueprint.eventDataList()) {
+        if (event == null || event.outcomes() == null) {
+          continue;
+        }
+        for (OutcomeData outcome : event.outcomes()) {
+          String levelPath = outcome.stringProperties() == null ? null
+              : outcome.stringProperties().get(LEVEL_PATH_PARAMETER);
+          if (OutcomeType.SELECT_LEVEL.name().equals(outcome.name()) && levelPath != null) {
+            targets.add(levelPath);
+          }
+        }
+      }
+    }
+    return targets;
+  }
+
+  /**
+   * Packs the frames of the level's sprites into atlas pages of the game, so the renderer binds a
+   * few large images instead of one per blueprint sheet. Falls back to the original sheets if the
+   * atlas cannot be built.
+   */
+  private LevelData packAtlas(LevelData data) {
+    Collection<BlueprintData> blueprints = LazyBlueprintMap.resolvedValues(
+        data.gameBluePrintData());
+    if (!Boolean.parseBoolean(resourceManager.getConfig(LEVEL_CONFIG, "AtlasEnabled"))
+        || blueprints.isEmpty()) {
+      return data;
+    }
+    String gameName = blueprints.iterator().next().gameName();
+    File directory = new File(System.getProperty("user.dir"), String.format(
+        resourceManager.getConfig(LEVEL_CONFIG, "AtlasDirectory"), gameName));
+    SpriteAtlasPacker packer = new SpriteAtlasPacker(directory,
+        Integer.parseInt(resourceManager.getConfig(LEVEL_CONFIG, "AtlasPageSize")),
+        Integer.parseInt(resourceManager.getConfig(LEVEL_CONFIG, "AtlasPadding")));
+    try {
+      return packer.pack(data);
+    } catch (IOException e) {
+      LOG.warn("Could not pack sprite atlas, using separate sheets", e);
+      return data;
+    }
+  }
+
+  /**
+   * Decodes every sprite sheet the level's blueprints use, including ones only spawned later, in
+   * parallel, and waits for them so the first rendered frame does not stall on image decoding.
+   * Blueprints the level never instantiates are left unresolved and skipped.
+   */
+  private void preloadTextures(LevelData data, DoubleConsumer progress) {
+    Set<File> spriteFiles = new LinkedHashSet<>();
+    for (BlueprintData blueprint : LazyBlueprintMap.resolvedValues(data.gameBluePrintData())) {
+      spriteFiles.add(blueprint.spriteData().spriteFile());
+    }
+    TextureCache.getInstance().preloadAsync(spriteFiles, progress).join();
   }
 
   /**
@@ -76,23 +288,15 @@ public class DefaultLevel implements LevelAPI {
   }
 
   /**
-   * List all saved level files
+   * List all saved level files, as catalogued by the {@link LevelCatalog}
    *
-   * @return
+   * @return the levels, as "game/level"
    */
   @Override
   public List<String> listLevels() {
     List<String> levels = new ArrayList<>();
-    File levelsDir = new File(LEVEL_FILE_PATH);
-
-    if (levelsDir.exists() && levelsDir.isDirectory()) {
-      File[] files = levelsDir.listFiles((dir, name) -> name.toLowerCase().endsWith(".xml"));
-      if (files != null) {
-        for (File file : files) {
-          levels.add(
-              file.getName()); // or file.getName().replace(".xml", "") if you want cleaner names
-        }
-      }
+    for (LevelCatalog.Entry entry : LevelCatalog.getInstance().entries()) {
+      levels.add(entry.game() + "/" + entry.level());
     }
     return levels;
   }
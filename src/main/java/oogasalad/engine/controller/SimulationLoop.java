@@ -0,0 +1,191 @@
+package oogasalad.engine.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import oogasalad.engine.model.object.FrameSnapshot;
+import oogasalad.engine.model.object.FrameSnapshot.ViewChange;
+import oogasalad.engine.model.object.GameObject;
+import oogasalad.engine.model.object.ImmutableGameObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Runs game ticks at a fixed rate on a dedicated simulation thread and hands the result of each
+ * tick to the view as a {@link FrameSnapshot}.
+ *
+ * <p>The live game objects belong to the simulation thread. Anything else that reads or replaces
+ * them, such as loading a level from a menu, must hold {@link #getModelLock()}; ticks hold it too.
+ * The lock is reentrant, so work triggered from inside a tick (an event that restarts the level,
+ * for example) does not deadlock.
+ *
+ * <p>Only the newest snapshot is kept. If the view is slower than the simulation, the snapshot it
+ * missed is absorbed into the next one, so dirty bits and level changes are never dropped.
+ *
+ * @author Alana Zinkin
+ */
+public class SimulationLoop {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final ScheduledExecutorService myExecutor;
+  private final ReentrantLock myModelLock;
+  private final Object mySnapshotLock;
+  private final long myTickNanos;
+  private final Tick myTick;
+  private final List<ViewChange> myChanges;
+  private ScheduledFuture<?> myRunningTicks;
+  private FrameSnapshot myLatest;
+  private volatile Exception myFailure;
+
+  /**
+   * A single simulation step.
+   */
+  @FunctionalInterface
+  public interface Tick {
+
+    /**
+     * Advances the game by one step. Runs on the simulation thread with the model lock held.
+     *
+     * @return the live objects to capture once the step is done
+     * @throws Exception if the step fails; the loop stops and the error is reported
+     */
+    List<? extends GameObject> run() throws Exception;
+  }
+
+  /**
+   * Creates a stopped simulation loop.
+   *
+   * @param ticksPerSecond how many ticks to run each second
+   * @param tick           the step to run on every tick
+   */
+  public SimulationLoop(double ticksPerSecond, Tick tick) {
+    myExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "simulation");
+      thread.setDaemon(true);
+      return thread;
+    });
+    myModelLock = new ReentrantLock();
+    mySnapshotLock = new Object();
+    myTickNanos = Math.round(TimeUnit.SECONDS.toNanos(1) / ticksPerSecond);
+    myTick = tick;
+    myChanges = new ArrayList<>();
+  }
+
+  /**
+   * Starts ticking if the loop is stopped.
+   */
+  public synchronized void start() {
+    if (myRunningTicks == null) {
+      myRunningTicks = myExecutor.scheduleAtFixedRate(this::runTick, myTickNanos, myTickNanos,
+          TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Stops ticking after the tick in progress, if any.
+   */
+  public synchronized void stop() {
+    if (myRunningTicks != null) {
+      myRunningTicks.cancel(false);
+      myRunningTicks = null;
+    }
+  }
+
+  /**
+   * @return whether the loop is ticking
+   */
+  public synchronized boolean isRunning() {
+    return myRunningTicks != null;
+  }
+
+  /**
+   * @return the lock guarding the live game objects
+   */
+  public ReentrantLock getModelLock() {
+    return myModelLock;
+  }
+
+  /**
+   * Records an object leaving or entering the level, to be replayed by the view with the next
+   * snapshot.
+   *
+   * @param gameObject the object
+   * @param added      {@code true} if it was added, {@code false} if it was removed
+   */
+  public void recordChange(ImmutableGameObject gameObject, boolean added) {
+    synchronized (myChanges) {
+      myChanges.add(new ViewChange(gameObject, added));
+    }
+  }
+
+  /**
+   * Captures the live objects right away, outside the tick schedule, for example to show a level
+   * that was just loaded. The caller must hold the model lock. A snapshot not yet drawn is
+   * absorbed into this one, which supersedes it.
+   *
+   * @param gameObjects the live objects of the level
+   * @return the captured snapshot
+   */
+  public FrameSnapshot captureNow(List<? extends GameObject> gameObjects) {
+    FrameSnapshot snapshot = FrameSnapshot.capture(gameObjects, drainChanges());
+    synchronized (mySnapshotLock) {
+      if (myLatest != null) {
+        snapshot.absorb(myLatest);
+      }
+      myLatest = null;
+    }
+    return snapshot;
+  }
+
+  /**
+   * Takes the newest snapshot for drawing.
+   *
+   * @return the newest snapshot, or {@code null} if no tick finished since the last call
+   * @throws IllegalStateException if a tick failed; the loop is stopped and the failure is
+   *                               reported to the drawing thread this way
+   */
+  public FrameSnapshot takeLatest() {
+    Exception failure = myFailure;
+    if (failure != null) {
+      myFailure = null;
+      throw new IllegalStateException(failure);
+    }
+    synchronized (mySnapshotLock) {
+      FrameSnapshot latest = myLatest;
+      myLatest = null;
+      return latest;
+    }
+  }
+
+  private void runTick() {
+    myModelLock.lock();
+    try {
+      FrameSnapshot snapshot = FrameSnapshot.capture(myTick.run(), drainChanges());
+      synchronized (mySnapshotLock) {
+        if (myLatest != null) {
+          snapshot.absorb(myLatest);
+        }
+        myLatest = snapshot;
+      }
+    } catch (Exception e) {
+      LOG.error("Simulation tick failed", e);
+      myFailure = e;
+      stop();
+    } finally {
+      myModelLock.unlock();
+    }
+  }
+
+  private List<ViewChange> drainChanges() {
+    synchronized (myChanges) {
+      List<ViewChange> changes = new ArrayList<>(myChanges);
+      myChanges.clear();
+      return changes;
+    }
+  }
+}
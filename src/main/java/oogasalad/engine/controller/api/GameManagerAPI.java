@@ -5,6 +5,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.zip.DataFormatException;
 import oogasalad.engine.model.object.GameObject;
 import oogasalad.engine.model.object.ImmutableGameObject;
@@ -39,7 +40,7 @@ public interface GameManagerAPI {
 
   /**
    * Restarts the current game from the beginning (or last checkpoint), resetting all necessary
-   * model data.
+   * model data. A running game keeps running with the reloaded level; a paused one stays paused.
    */
   void restartGame()
       throws DataFormatException, IOException, ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException, LayerParseException, LevelDataParseException, PropertyParsingException, SpriteParseException, EventParseException, HitBoxParseException, BlueprintParseException, GameObjectParseException;
@@ -51,6 +52,23 @@ public interface GameManagerAPI {
   void selectGame(String filePath)
       throws DataFormatException, IOException, ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException, LayerParseException, LevelDataParseException, PropertyParsingException, SpriteParseException, EventParseException, HitBoxParseException, BlueprintParseException, GameObjectParseException;
 
+  /**
+   * Selects a level without blocking the caller: the level is loaded in the background and
+   * replaces the current one once it is ready. A running game is paused while the level loads and
+   * resumes with the new level.
+   *
+   * @param filePath the path to the level file
+   * @param listener notified as the load advances, on the loader thread
+   * @return a future completing once the new level is in place
+   */
+  CompletableFuture<Void> selectGameAsync(String filePath, LevelLoadListener listener);
+
+  /**
+   * @return a future completing once the most recently selected level is in place, already
+   * complete if no level is loading
+   */
+  CompletableFuture<Void> levelLoaded();
+
   /**
    * Pauses the timeline and displays a splashscreen when the user either wins or loses
    */
@@ -2,7 +2,9 @@ package oogasalad.engine.controller.api;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.zip.DataFormatException;
 import oogasalad.engine.model.object.GameObject;
 import oogasalad.exceptions.BlueprintParseException;
@@ -14,6 +16,7 @@ import oogasalad.exceptions.LevelDataParseException;
 import oogasalad.exceptions.PropertyParsingException;
 import oogasalad.exceptions.SpriteParseException;
 import oogasalad.fileparser.records.GameObjectData;
+import oogasalad.fileparser.records.LevelData;
 
 /**
  * Interface used for selecting a new Game or new Level of a Game
@@ -31,6 +34,42 @@ public interface LevelAPI {
   void selectGame(String filePath)
       throws DataFormatException, IOException, ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException, LevelDataParseException, PropertyParsingException, SpriteParseException, EventParseException, HitBoxParseException, BlueprintParseException, GameObjectParseException, LayerParseException;
 
+  /**
+   * Loads a level on a background thread without selecting it: the level file is parsed, its
+   * sprites are packed and its sprite sheets are decoded. A level already being preloaded is not
+   * loaded again.
+   *
+   * @param filePath the path to the level file
+   * @param listener notified as the load advances
+   * @return a future completing with the loaded level, to be passed to
+   * {@link #selectLoadedLevel(LevelData)}
+   */
+  CompletableFuture<LevelData> loadLevel(String filePath, LevelLoadListener listener);
+
+  /**
+   * Makes a level returned by {@link #loadLevel(String, LevelLoadListener)} the current one and
+   * starts preloading the levels it can lead to. The caller must own the live game objects, as
+   * for {@link #selectGame(String)}.
+   *
+   * @param levelData the loaded level
+   * @throws ClassNotFoundException    if the level names a class that does not exist
+   * @throws InvocationTargetException if creating the level's objects or camera fails
+   * @throws NoSuchMethodException     if the level names a camera that cannot be created
+   * @throws InstantiationException    if the level's objects or camera cannot be created
+   * @throws IllegalAccessException    if the level's objects or camera cannot be created
+   */
+  void selectLoadedLevel(LevelData levelData)
+      throws ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException;
+
+  /**
+   * Hints that the given levels are likely to be selected next, so they are loaded in the
+   * background while the current level is played. Earlier hints that are not repeated are
+   * dropped.
+   *
+   * @param filePaths the paths to the level files
+   */
+  void preloadLevels(Collection<String> filePaths);
+
   /**
    * Create a game object from a GameObjectData record
    *
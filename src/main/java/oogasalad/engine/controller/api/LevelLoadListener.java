@@ -0,0 +1,25 @@
+package oogasalad.engine.controller.api;
+
+/**
+ * Listens to the progress of a level loading in the background, for example to fill a loading
+ * bar.
+ *
+ * @author Billy McCune
+ */
+@FunctionalInterface
+public interface LevelLoadListener {
+
+  /**
+   * A listener that ignores progress.
+   */
+  LevelLoadListener NONE = progress -> {
+  };
+
+  /**
+   * Called whenever the load advances. Runs on the loader thread, so views must hand the update
+   * to the JavaFX thread themselves.
+   *
+   * @param progress how much of the load is done, from {@code 0} to {@code 1}
+   */
+  void progressChanged(double progress);
+}
@@ -0,0 +1,116 @@
+package oogasalad.engine.model.animation;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import oogasalad.ResourceManager;
+import oogasalad.fileparser.records.AnimationData;
+import oogasalad.fileparser.records.FrameData;
+
+/**
+ * An {@link AnimationData} compiled for playback: frame names are resolved to {@link FrameData}
+ * once, and each frame's duration is converted from ticks to milliseconds.
+ *
+ * <p>{@code frameLen} in sprite files counts ticks of a reference clock running at
+ * {@code frameLenTicksPerSecond} ({@code config/engine/model/animation.properties}), which matches
+ * the game loop the sprite files were authored against. Each frame lasts at least one reference
+ * tick, so fractional lengths play exactly as they did under the tick-based player.
+ *
+ * @author Billy McCune
+ */
+public final class AnimationClip {
+
+  /**
+   * Length of one {@code frameLen} unit in milliseconds.
+   */
+  public static final double TICK_MILLIS = 1000.0 / Double.parseDouble(
+      ResourceManager.getInstance().getConfig("engine.model.animation", "frameLenTicksPerSecond"));
+
+  private final String name;
+  private final FrameData[] frames;
+  private final double[] frameMillis;
+
+  private AnimationClip(String name, FrameData[] frames, double[] frameMillis) {
+    this.name = name;
+    this.frames = frames;
+    this.frameMillis = frameMillis;
+  }
+
+  /**
+   * Resolves the frames of {@code data} against {@code frameMap}.
+   *
+   * @param data     the animation to compile
+   * @param frameMap the sprite's frames by name
+   * @return the compiled clip, or {@code null} if the animation is empty or names a frame that
+   * does not exist
+   */
+  public static AnimationClip compile(AnimationData data, Map<String, FrameData> frameMap) {
+    List<String> frameNames = data.frameNames();
+    if (frameNames == null || frameNames.isEmpty()) {
+      return null;
+    }
+    FrameData[] frames = new FrameData[frameNames.size()];
+    double[] frameMillis = new double[frames.length];
+    double millis = Math.max(1, Math.ceil(data.frameLen())) * TICK_MILLIS;
+    for (int i = 0; i < frames.length; i++) {
+      frames[i] = frameMap.get(frameNames.get(i));
+      if (frames[i] == null) {
+        return null;
+      }
+      frameMillis[i] = millis;
+    }
+    return new AnimationClip(data.name(), frames, frameMillis);
+  }
+
+  /**
+   * Compiles every animation of a sprite, leaving out the ones that cannot be played.
+   *
+   * @param animations the sprite's animations by name
+   * @param frameMap   the sprite's frames by name
+   * @return the playable clips by animation name
+   */
+  public static Map<String, AnimationClip> compileAll(Map<String, AnimationData> animations,
+      Map<String, FrameData> frameMap) {
+    Map<String, AnimationClip> clips = new HashMap<>();
+    if (animations == null || frameMap == null) {
+      return clips;
+    }
+    for (Map.Entry<String, AnimationData> entry : animations.entrySet()) {
+      AnimationClip clip = compile(entry.getValue(), frameMap);
+      if (clip != null) {
+        clips.put(entry.getKey(), clip);
+      }
+    }
+    return clips;
+  }
+
+  /**
+   * @return the name of the animation this clip was compiled from
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return the number of frames in the clip
+   */
+  public int frameCount() {
+    return frames.length;
+  }
+
+  /**
+   * @param index position of the frame in the clip
+   * @return the frame to draw at that position
+   */
+  public FrameData frame(int index) {
+    return frames[index];
+  }
+
+  /**
+   * @param index position of the frame in the clip
+   * @return how long that frame stays on screen, in milliseconds
+   */
+  public double frameMillis(int index) {
+    return frameMillis[index];
+  }
+}
@@ -17,6 +17,21 @@ public interface AnimationHandlerApi {
    */
   public FrameData getCurrentFrameInAnimation(GameObject gameObject);
 
+  /**
+   * Schedules the game object's animations to be advanced by the next {@link #advanceAll(double)}
+   * pass, which then sets its current frame.
+   *
+   * @param gameObject the game object whose animations should run this step.
+   */
+  public void runAnimations(GameObject gameObject);
+
+  /**
+   * Advances every scheduled game object by the given time and sets their current frames.
+   *
+   * @param deltaMillis the time that passed since the previous pass, in milliseconds.
+   */
+  public void advanceAll(double deltaMillis);
+
   /**
    * Sets the current gameObject's currentImage to the baseImage in the spriteData.
    *
@@ -2,97 +2,118 @@ package oogasalad.engine.model.animation;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
-import oogasalad.engine.model.object.Sprite;
-import oogasalad.fileparser.records.AnimationData;
 import oogasalad.fileparser.records.FrameData;
 
 /**
  * Represents the current animation playback state for a single GameObject. It maintains a queue of
- * animations, frame indices, and tick counters, and provides the next frame to render on each game
- * loop iteration.
+ * compiled animation clips, the index of the frame being shown and the time spent on it, and
+ * provides the frame to render on each game loop iteration.
  *
  * @author Billy McCune
  */
 public class AnimationState {
 
-  private final Deque<String> queue = new ArrayDeque<>();
+  private final Deque<AnimationClip> queue = new ArrayDeque<>();
   private int frameIndex = 0;
-  private int frameTick = 0;
+  private double elapsedMillis = 0;
+  private boolean scheduled = false;
 
   /**
-   * Clears all pending animations and resets the frame index and tick counter. After this call,
-   * nextFrame(...) will return the sprite's base frame.
+   * Clears all pending animations and resets the playback position. After this call,
+   * nextFrame(...) will return the base frame.
    */
   public void goToBase() {
     queue.clear();
-    frameIndex = frameTick = 0;
+    reset();
   }
 
   /**
    * Enqueues an animation to play after existing ones complete.
    *
-   * @param animationName the key of the AnimationData in the Sprite's map
+   * @param clip the compiled animation, or {@code null} to ignore an unknown animation
    */
-  public void addAnimation(String animationName) {
-    queue.addLast(animationName);
+  public void addAnimation(AnimationClip clip) {
+    if (clip != null) {
+      queue.addLast(clip);
+    }
   }
 
   /**
    * Clears any currently queued animations and starts playing only the specified animation from its
    * first frame.
    *
-   * @param animationName the key of the AnimationData to play immediately
+   * @param clip the compiled animation to play immediately, or {@code null} to only clear the
+   *             queue
    */
-  public void clearAndPlay(String animationName) {
+  public void clearAndPlay(AnimationClip clip) {
     queue.clear();
-    queue.addLast(animationName);
-    frameIndex = frameTick = 0;
+    reset();
+    addAnimation(clip);
   }
 
   /**
-   * Advances the animation by one game tick and returns the FrameData to render.
+   * Returns the frame to render for this step, then advances playback by {@code deltaMillis}.
    * <ul>
-   *   <li>If the queue is empty, the sprite's base frame is returned.</li>
-   *   <li>Otherwise, it plays through the queued animations, popping each off when complete.</li>
+   *   <li>If the queue is empty, {@code baseFrame} is returned.</li>
+   *   <li>Otherwise, it plays through the queued clips, popping each off when complete and carrying
+   *   any remaining time into the next one.</li>
    * </ul>
    *
-   * @param sprite the Sprite containing animation definitions and frame mappings
+   * @param baseFrame   the frame shown while no animation is playing
+   * @param deltaMillis time that passes during this step, in milliseconds
    * @return the FrameData for the current animation frame, or the base frame if idle
    */
-  public FrameData nextFrame(Sprite sprite) {
-    if (queue.isEmpty()) {
-      return sprite.getBaseSprite();
-    }
-
-    String animName = queue.peekFirst();
-    AnimationData data = sprite.getAnimations().get(animName);
-    if (data == null) {
-      // Unknown animation: drop it and retry
-      queue.removeFirst();
-      frameIndex = frameTick = 0;
-      return nextFrame(sprite);
+  public FrameData nextFrame(FrameData baseFrame, double deltaMillis) {
+    AnimationClip clip = queue.peekFirst();
+    if (clip == null) {
+      return baseFrame;
     }
-
-    String frameName = data.frameNames().get(frameIndex);
-    FrameData frame = sprite.getFrameMap().get(frameName);
-    if (frame == null) {
-      // Missing frame: drop this animation and retry
-      queue.removeFirst();
-      frameIndex = frameTick = 0;
-      return nextFrame(sprite);
-    }
-
-    // Advance tick; cycle frames or remove animation when done
-    frameTick++;
-    if (frameTick >= data.frameLen()) {
-      frameTick = 0;
+    FrameData frame = clip.frame(frameIndex);
+    elapsedMillis += deltaMillis;
+    while (clip != null && elapsedMillis >= clip.frameMillis(frameIndex)) {
+      elapsedMillis -= clip.frameMillis(frameIndex);
       frameIndex++;
-      if (frameIndex >= data.frameNames().size()) {
+      if (frameIndex >= clip.frameCount()) {
         queue.removeFirst();
         frameIndex = 0;
+        clip = queue.peekFirst();
       }
     }
-
+    if (clip == null) {
+      reset();
+    }
     return frame;
   }
-}
\ No newline at end of file
+
+  /**
+   * Marks this state to be advanced by the next batched pass.
+   *
+   * @return {@code true} if it was not already marked for this pass
+   */
+  boolean schedule() {
+    if (scheduled) {
+      return false;
+    }
+    scheduled = true;
+    return true;
+  }
+
+  /**
+   * Clears the mark set by {@link #schedule()} once the batched pass has run.
+   */
+  void unschedule() {
+    scheduled = false;
+  }
+
+  /**
+   * @return {@code true} if an animation is queued or playing
+   */
+  public boolean isAnimating() {
+    return !queue.isEmpty();
+  }
+
+  private void reset() {
+    frameIndex = 0;
+    elapsedMillis = 0;
+  }
+}
@@ -1,23 +1,35 @@
 
 package oogasalad.engine.model.animation;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
+import oogasalad.ResourceManager;
 import oogasalad.engine.model.object.GameObject;
 import oogasalad.engine.model.object.Sprite;
 import oogasalad.fileparser.records.FrameData;
 
 /**
- * Default implementation of {@link AnimationHandlerApi}, managing an {@link AnimationState} for
- * each GameObject by its UUID. It advances and applies frame updates on each call to
- * getCurrentFrameInAnimation().
+ * Default implementation of {@link AnimationHandlerApi}. Playback state lives on each object's
+ * {@link Sprite}, so it is released together with the object. Objects whose animations run during
+ * a step are collected and advanced together by {@link #advanceAll(double)}.
  *
  * @author Billy McCune
  */
 public class DefaultAnimationHandler implements AnimationHandlerApi {
 
-  private final Map<String, AnimationState> stateMap = new HashMap<>();
-  private Sprite currentSprite;
+  private final List<GameObject> scheduled = new ArrayList<>();
+  private double stepMillis = 1000.0 / Double.parseDouble(
+      ResourceManager.getInstance().getConfig("engine.controller.gamemanager", "framesPerSecond"));
+
+  /**
+   * Sets how much time each call to {@link #getCurrentFrameInAnimation(GameObject)} advances
+   * playback by. Defaults to one step of the configured game loop.
+   *
+   * @param stepMillis the length of a game loop step in milliseconds
+   */
+  public void setStepMillis(double stepMillis) {
+    this.stepMillis = stepMillis;
+  }
 
   /**
    * Advances the animation state for the given GameObject and updates its current frame. If no
@@ -28,11 +40,38 @@ public class DefaultAnimationHandler implements AnimationHandlerApi {
    */
   @Override
   public FrameData getCurrentFrameInAnimation(GameObject gameObject) {
-    String id = gameObject.getUUID();
     Sprite sprite = gameObject.getSpriteInfo();
-    AnimationState state = stateMap.computeIfAbsent(id, k -> new AnimationState());
-    FrameData next = state.nextFrame(sprite);
-    return next;
+    return sprite.getAnimationState().nextFrame(sprite.getBaseSprite(), stepMillis);
+  }
+
+  /**
+   * Schedules the GameObject for the next {@link #advanceAll(double)} pass. Scheduling the same
+   * object more than once in a step still advances it only once.
+   *
+   * @param gameObject the object whose animation to advance
+   */
+  @Override
+  public void runAnimations(GameObject gameObject) {
+    if (gameObject.getSpriteInfo().getAnimationState().schedule()) {
+      scheduled.add(gameObject);
+    }
+  }
+
+  /**
+   * Advances every scheduled GameObject by {@code deltaMillis} and sets its current frame, then
+   * clears the schedule for the next step.
+   *
+   * @param deltaMillis the time that passed since the previous pass, in milliseconds
+   */
+  @Override
+  public void advanceAll(double deltaMillis) {
+    for (GameObject gameObject : scheduled) {
+      Sprite sprite = gameObject.getSpriteInfo();
+      AnimationState state = sprite.getAnimationState();
+      state.unschedule();
+      gameObject.setCurrentFrame(state.nextFrame(sprite.getBaseSprite(), deltaMillis));
+    }
+    scheduled.clear();
   }
 
   /**
@@ -43,10 +82,7 @@ public class DefaultAnimationHandler implements AnimationHandlerApi {
    */
   @Override
   public void goToBaseImage(GameObject gameObject) {
-    AnimationState state = stateMap.get(gameObject.getUUID());
-    if (state != null) {
-      state.goToBase();
-    }
+    gameObject.getSpriteInfo().getAnimationState().goToBase();
     gameObject.setCurrentFrame(gameObject.getSpriteInfo().getBaseSprite());
   }
 
@@ -58,9 +94,8 @@ public class DefaultAnimationHandler implements AnimationHandlerApi {
    */
   @Override
   public void addToAnimations(GameObject gameObject, String animationName) {
-    AnimationState state = stateMap.computeIfAbsent(gameObject.getUUID(),
-        k -> new AnimationState());
-    state.addAnimation(animationName);
+    Sprite sprite = gameObject.getSpriteInfo();
+    sprite.getAnimationState().addAnimation(sprite.getClip(animationName));
   }
 
   /**
@@ -71,9 +106,8 @@ public class DefaultAnimationHandler implements AnimationHandlerApi {
    */
   @Override
   public void clearAndAddToAnimationList(GameObject gameObject, String animationName) {
-    AnimationState state = stateMap.computeIfAbsent(gameObject.getUUID(),
-        k -> new AnimationState());
-    state.clearAndPlay(animationName);
+    Sprite sprite = gameObject.getSpriteInfo();
+    sprite.getAnimationState().clearAndPlay(sprite.getClip(animationName));
   }
 
   /**
@@ -16,8 +16,8 @@ import oogasalad.exceptions.PropertyParsingException;
 import oogasalad.exceptions.SpriteParseException;
 
 /**
- * Outcome that advances the animation for the target GameObject by one tick
- * and sets its current frame accordingly.
+ * Outcome that schedules the animation of the target GameObject to advance this step. The
+ * animation handler advances all scheduled objects together and sets their current frames.
  */
 public class RunObjectsAnimationsOutcome implements Outcome {
 
@@ -31,8 +31,8 @@ public class RunObjectsAnimationsOutcome implements Outcome {
   }
 
   /**
-   * Executes this outcome by advancing the animation state for the given GameObject and updating
-   * its current frame.
+   * Executes this outcome by scheduling the animation state of the given GameObject for the
+   * handler's next batched pass.
    *
    * @param gameObject       the object whose animation to advance
    * @param stringParameters unused by this outcome
@@ -43,7 +43,7 @@ public class RunObjectsAnimationsOutcome implements Outcome {
   public void execute(GameObject gameObject, Map<String, String> stringParameters,
       Map<String, Double> doubleParameters)
       throws LayerParseException, EventParseException, BlueprintParseException, IOException, InvocationTargetException, NoSuchMethodException, IllegalAccessException, DataFormatException, LevelDataParseException, PropertyParsingException, SpriteParseException, HitBoxParseException, GameObjectParseException, ClassNotFoundException, InstantiationException {
-   gameObject.setCurrentFrame(animationHandler.getCurrentFrameInAnimation(gameObject));
+    animationHandler.runAnimations(gameObject);
   }
 }
 
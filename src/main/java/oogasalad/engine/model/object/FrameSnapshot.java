@@ -0,0 +1,307 @@
+package oogasalad.engine.model.object;
+
+import java.io.File;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import oogasalad.fileparser.records.FrameData;
+
+/**
+ * An immutable copy of everything the view needs to draw one simulation tick: positions, frames,
+ * orientation and rotation of every object, the stats of every player, and the objects removed
+ * from or added to the level during the tick.
+ *
+ * <p>The simulation captures a snapshot at the end of each tick and hands it to the view, which
+ * can then draw on another thread while the next tick mutates the live {@link GameObject}s. The
+ * data is held in parallel arrays; {@link #getObjects()} exposes it as read-only
+ * {@link ImmutableGameObject}s, so the view renders a snapshot exactly as it would live objects.
+ *
+ * <p>Capturing consumes the dirty bits of the live objects, and drawing consumes the bits of the
+ * snapshot. If the view skips a snapshot, the next one {@link #absorb(FrameSnapshot) absorbs} it
+ * so no change is lost.
+ *
+ * @author Alana Zinkin
+ */
+public class FrameSnapshot {
+
+  private final String[] uuids;
+  private final int[] layers;
+  private final int[] xPositions;
+  private final int[] yPositions;
+  private final int[] hitBoxWidths;
+  private final int[] hitBoxHeights;
+  private final int[] spriteDxs;
+  private final int[] spriteDys;
+  private final FrameData[] frames;
+  private final File[] spriteFiles;
+  private final boolean[] flipped;
+  private final double[] rotations;
+  private final boolean[] isStatic;
+  private final int[] dirtyFlags;
+  private final List<Map<String, String>> playerStats;
+  private final List<ImmutableGameObject> objects;
+  private final List<ImmutableGameObject> players;
+  private final List<ViewChange> changes;
+
+  private FrameSnapshot(List<? extends GameObject> gameObjects, List<ViewChange> changes) {
+    int count = gameObjects.size();
+    uuids = new String[count];
+    layers = new int[count];
+    xPositions = new int[count];
+    yPositions = new int[count];
+    hitBoxWidths = new int[count];
+    hitBoxHeights = new int[count];
+    spriteDxs = new int[count];
+    spriteDys = new int[count];
+    frames = new FrameData[count];
+    spriteFiles = new File[count];
+    flipped = new boolean[count];
+    rotations = new double[count];
+    isStatic = new boolean[count];
+    dirtyFlags = new int[count];
+    playerStats = new ArrayList<>();
+    players = new ArrayList<>();
+    ImmutableGameObject[] views = new ImmutableGameObject[count];
+    for (int i = 0; i < count; i++) {
+      GameObject gameObject = gameObjects.get(i);
+      uuids[i] = gameObject.getUUID();
+      layers[i] = gameObject.getLayer();
+      xPositions[i] = gameObject.getXPosition();
+      yPositions[i] = gameObject.getYPosition();
+      hitBoxWidths[i] = gameObject.getHitBoxWidth();
+      hitBoxHeights[i] = gameObject.getHitBoxHeight();
+      spriteDxs[i] = gameObject.getSpriteDx();
+      spriteDys[i] = gameObject.getSpriteDy();
+      frames[i] = gameObject.getCurrentFrame();
+      spriteFiles[i] = gameObject.getSpriteFile();
+      flipped[i] = gameObject.isFlipped();
+      rotations[i] = gameObject.getRotation();
+      isStatic[i] = gameObject.isStatic();
+      dirtyFlags[i] = gameObject.getDirtyFlags();
+      gameObject.clearDirtyFlags();
+      if (gameObject instanceof ImmutablePlayer player) {
+        playerStats.add(
+            Collections.unmodifiableMap(new LinkedHashMap<>(player.getDisplayedStatsMap())));
+        views[i] = new SnapshotPlayer(i, playerStats.size() - 1);
+        players.add(views[i]);
+      } else {
+        views[i] = new SnapshotObject(i);
+      }
+    }
+    objects = Collections.unmodifiableList(new ArrayView(views));
+    this.changes = new ArrayList<>(changes);
+  }
+
+  /**
+   * Copies the drawable state of the given objects and consumes their dirty bits. Must be called
+   * by the thread that owns the objects, between ticks.
+   *
+   * @param gameObjects the live objects of the level, in draw-list order
+   * @param changes     the objects removed from or added to the level since the last capture, in
+   *                    the order it happened
+   * @return the captured snapshot
+   */
+  public static FrameSnapshot capture(List<? extends GameObject> gameObjects,
+      List<ViewChange> changes) {
+    return new FrameSnapshot(gameObjects, changes);
+  }
+
+  /**
+   * @return every object of the tick, as read-only views of this snapshot
+   */
+  public List<ImmutableGameObject> getObjects() {
+    return objects;
+  }
+
+  /**
+   * @return the players of the tick; each also implements {@link ImmutablePlayer}
+   */
+  public List<ImmutableGameObject> getPlayers() {
+    return Collections.unmodifiableList(players);
+  }
+
+  /**
+   * @return the objects removed from or added to the level, oldest first
+   */
+  public List<ViewChange> getChanges() {
+    return Collections.unmodifiableList(changes);
+  }
+
+  /**
+   * Folds in a snapshot the view never drew: its dirty bits are merged into the matching objects
+   * of this one and its level changes are replayed first. Only valid before this snapshot is handed
+   * to the view.
+   *
+   * @param unrendered the previous snapshot, which was superseded before it was drawn
+   */
+  public void absorb(FrameSnapshot unrendered) {
+    Map<String, Integer> indices = new HashMap<>();
+    for (int i = 0; i < uuids.length; i++) {
+      indices.put(uuids[i], i);
+    }
+    for (int j = 0; j < unrendered.uuids.length; j++) {
+      Integer i = indices.get(unrendered.uuids[j]);
+      if (i != null) {
+        dirtyFlags[i] |= unrendered.dirtyFlags[j];
+      }
+    }
+    changes.addAll(0, unrendered.changes);
+  }
+
+  /**
+   * An object leaving or entering the level during a tick, replayed by the view before it draws the
+   * snapshot.
+   *
+   * @param gameObject the object; only its UUID and layer are read by the view
+   * @param added      {@code true} if the object was added, {@code false} if it was removed
+   */
+  public record ViewChange(ImmutableGameObject gameObject, boolean added) {
+
+  }
+
+  private static final class ArrayView extends AbstractList<ImmutableGameObject> {
+
+    private final ImmutableGameObject[] views;
+
+    ArrayView(ImmutableGameObject[] views) {
+      this.views = views;
+    }
+
+    @Override
+    public ImmutableGameObject get(int index) {
+      return views[index];
+    }
+
+    @Override
+    public int size() {
+      return views.length;
+    }
+  }
+
+  /**
+   * A read-only view of one object in the snapshot arrays.
+   */
+  private class SnapshotObject implements ImmutableGameObject {
+
+    protected final int index;
+
+    SnapshotObject(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public String getUUID() {
+      return uuids[index];
+    }
+
+    @Override
+    public int getXPosition() {
+      return xPositions[index];
+    }
+
+    @Override
+    public int getYPosition() {
+      return yPositions[index];
+    }
+
+    @Override
+    public int getLayer() {
+      return layers[index];
+    }
+
+    @Override
+    public FrameData getCurrentFrame() {
+      return frames[index];
+    }
+
+    @Override
+    public int getHitBoxWidth() {
+      return hitBoxWidths[index];
+    }
+
+    @Override
+    public int getHitBoxHeight() {
+      return hitBoxHeights[index];
+    }
+
+    @Override
+    public int getSpriteDx() {
+      return spriteDxs[index];
+    }
+
+    @Override
+    public int getSpriteDy() {
+      return spriteDys[index];
+    }
+
+    @Override
+    public File getSpriteFile() {
+      return spriteFiles[index];
+    }
+
+    /**
+     * Snapshots report orientation through {@link #isFlipped()} and
+     * {@link ImmutableGameObject#FLIP_CHANGED}; there is never a pending flip.
+     */
+    @Override
+    public boolean getNeedsFlipped() {
+      return false;
+    }
+
+    @Override
+    public void setNeedsFlipped(boolean didFlip) {
+      // snapshots are immutable
+    }
+
+    @Override
+    public boolean isFlipped() {
+      return flipped[index];
+    }
+
+    @Override
+    public double getRotation() {
+      return rotations[index];
+    }
+
+    @Override
+    public boolean isStatic() {
+      return isStatic[index];
+    }
+
+    @Override
+    public int getDirtyFlags() {
+      return dirtyFlags[index];
+    }
+
+    /**
+     * Marks this object's changes as drawn. Each snapshot is drawn once, so the view consumes its
+     * bits the same way it would consume those of a live object.
+     */
+    @Override
+    public void clearDirtyFlags() {
+      dirtyFlags[index] = 0;
+    }
+  }
+
+  /**
+   * A read-only view of a player, including the stats shown in the HUD.
+   */
+  private class SnapshotPlayer extends SnapshotObject implements ImmutablePlayer {
+
+    private final int statsIndex;
+
+    SnapshotPlayer(int index, int statsIndex) {
+      super(index);
+      this.statsIndex = statsIndex;
+    }
+
+    @Override
+    public Map<String, String> getDisplayedStatsMap() {
+      return playerStats.get(statsIndex);
+    }
+  }
+}
@@ -32,6 +32,7 @@ public abstract class GameObject implements ImmutableGameObject{
   private Map<String, String> stringParams;
   private Map<String, Double> doubleParams;
   private boolean isGrounded;
+  private boolean positionChanged;
 
   /**
    * Constructs a new {@code GameObject} with all necessary components.
@@ -61,6 +62,7 @@ public abstract class GameObject implements ImmutableGameObject{
     this.stringParams = stringParams;
     this.doubleParams = doubleParams;
     this.isGrounded = true;
+    this.positionChanged = true;
   }
 
   /**
@@ -229,6 +231,7 @@ public abstract class GameObject implements ImmutableGameObject{
    * @param x new x-position
    */
   public void setXPosition(int x) {
+    positionChanged |= x != hitBox.getX();
     hitBox.setX(x);
   }
 
@@ -238,6 +241,7 @@ public abstract class GameObject implements ImmutableGameObject{
    * @param y new y-position
    */
   public void setYPosition(int y) {
+    positionChanged |= y != hitBox.getY();
     hitBox.setY(y);
   }
 
@@ -275,6 +279,11 @@ public abstract class GameObject implements ImmutableGameObject{
     this.spriteInfo.setNeedsFlipped(didFlip);
   }
 
+  @Override
+  public boolean isFlipped() {
+    return spriteInfo.isFlipped();
+  }
+
   @Override
   public double getRotation() {
     return spriteInfo.getRotation();
@@ -294,5 +303,20 @@ public abstract class GameObject implements ImmutableGameObject{
   public void setCurrentFrame(FrameData currentFrame) {
     spriteInfo.setCurrentSprite(currentFrame);
   }
-}
 
+  @Override
+  public boolean isStatic() {
+    return events.isEmpty() && xVelocity == 0 && yVelocity == 0;
+  }
+
+  @Override
+  public int getDirtyFlags() {
+    return (positionChanged ? POSITION_CHANGED : 0) | spriteInfo.getDirtyFlags();
+  }
+
+  @Override
+  public void clearDirtyFlags() {
+    positionChanged = false;
+    spriteInfo.clearDirtyFlags();
+  }
+}
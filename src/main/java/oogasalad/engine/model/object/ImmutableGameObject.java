@@ -13,6 +13,31 @@ import oogasalad.fileparser.records.FrameData;
  */
 public interface ImmutableGameObject {
 
+  /**
+   * Dirty bit set when the object's position changed since the view last drew it.
+   */
+  int POSITION_CHANGED = 1;
+
+  /**
+   * Dirty bit set when the object's current frame changed since the view last drew it.
+   */
+  int FRAME_CHANGED = 1 << 1;
+
+  /**
+   * Dirty bit set when the object was asked to flip since the view last drew it.
+   */
+  int FLIP_CHANGED = 1 << 2;
+
+  /**
+   * Dirty bit set when the object's rotation changed since the view last drew it.
+   */
+  int ROTATION_CHANGED = 1 << 3;
+
+  /**
+   * Every dirty bit; a newly created object starts fully dirty.
+   */
+  int ALL_CHANGED = POSITION_CHANGED | FRAME_CHANGED | FLIP_CHANGED | ROTATION_CHANGED;
+
   /**
    * Returns the unique identifier (UUID) of the game object.
    *
@@ -92,8 +117,31 @@ public interface ImmutableGameObject {
    */
   void setNeedsFlipped(boolean didFlip);
 
+  /**
+   * @return whether the object is currently drawn mirrored horizontally.
+   */
+  boolean isFlipped();
+
   /**
    * @return the rotation for the object.
    */
   double getRotation();
+
+  /**
+   * Returns whether the object is static scenery: it has no events of its own and no velocity, so
+   * it only moves or changes if another object's event acts on it.
+   *
+   * @return {@code true} if the object is static scenery
+   */
+  boolean isStatic();
+
+  /**
+   * @return the dirty bits of every visual property changed since {@link #clearDirtyFlags()}
+   */
+  int getDirtyFlags();
+
+  /**
+   * Marks every visual property as drawn; called by the view once it has pushed the changes.
+   */
+  void clearDirtyFlags();
 }
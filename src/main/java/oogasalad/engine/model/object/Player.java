@@ -1,7 +1,9 @@
 package oogasalad.engine.model.object;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -56,22 +58,23 @@ public class Player extends GameObject implements ImmutablePlayer {
   }
 
   /**
-   * Returns a map of the stats that are displayed to the player.
+   * Returns a map of the stats that are displayed to the player, in the order they are listed. Each
+   * call builds a new unmodifiable map, so it can be kept or read on another thread.
    *
    * @return a map of visible stat names and values
    */
   @Override
   public Map<String, String> getDisplayedStatsMap() {
-    Map<String,String> displayedStatsMap = new HashMap<>();
+    Map<String, String> displayedStatsMap = new LinkedHashMap<>();
     for (String stat : displayedStats) {
       if (getDoubleParams().containsKey(stat)) {
-        displayedStatsMap.put(stat,String.valueOf(getDoubleParams().get(stat).intValue()));
+        displayedStatsMap.put(stat, String.valueOf(getDoubleParams().get(stat).intValue()));
       }
       else if (getStringParams().containsKey(stat)) {
-        displayedStatsMap.put(stat,getStringParams().get(stat));
+        displayedStatsMap.put(stat, getStringParams().get(stat));
       }
     }
-    return displayedStatsMap;
+    return Collections.unmodifiableMap(displayedStatsMap);
   }
 
   /**
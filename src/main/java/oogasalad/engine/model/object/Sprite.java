@@ -4,6 +4,8 @@ import java.io.File;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.ResourceBundle;
+import oogasalad.engine.model.animation.AnimationClip;
+import oogasalad.engine.model.animation.AnimationState;
 import oogasalad.fileparser.records.AnimationData;
 import oogasalad.fileparser.records.FrameData;
 
@@ -33,13 +35,18 @@ public class Sprite {
   private FrameData currentSprite;
   private Map<String, FrameData> frameMap;
   private Map<String, AnimationData> animations;
+  private Map<String, AnimationClip> clips;
+  private final AnimationState animationState = new AnimationState();
   private File spriteFile;
   private String currAnimation;
   private int frameNumber;
   private int animationNumber;
   private FrameData baseSprite;
   private boolean needsFlipped;
+  private boolean flipped;
   private double rotation;
+  private int dirtyFlags = ImmutableGameObject.FRAME_CHANGED | ImmutableGameObject.FLIP_CHANGED
+      | ImmutableGameObject.ROTATION_CHANGED;
 
 
   /**
@@ -60,11 +67,13 @@ public class Sprite {
     this.currentSprite = currentSprite;
     this.baseSprite = currentSprite;
     this.animations = animations;
+    this.clips = AnimationClip.compileAll(animations, frameMap);
     this.spriteFile = spriteFile;
     this.frameNumber = 0;
     this.animationNumber = 0;
     this.currAnimation = "base";
     this.needsFlipped = needsFlipped;
+    this.flipped = needsFlipped;
     this.rotation = rotation;
   }
 
@@ -153,6 +162,27 @@ public class Sprite {
     return animations;
   }
 
+  /**
+   * Returns an animation with its frames already resolved, ready for playback.
+   *
+   * @param animationName the key of the animation in {@link #getAnimations()}
+   * @return the compiled clip, or {@code null} if the animation does not exist or references a
+   * missing frame
+   */
+  public AnimationClip getClip(String animationName) {
+    return clips.get(animationName);
+  }
+
+  /**
+   * Returns the animation playback state of this sprite. The state lives and dies with the sprite,
+   * so destroyed objects release it without any bookkeeping.
+   *
+   * @return the sprite's {@link AnimationState}
+   */
+  public AnimationState getAnimationState() {
+    return animationState;
+  }
+
   /**
    * Returns the base (default) sprite frame for this object.
    *
@@ -168,6 +198,9 @@ public class Sprite {
    * @param currentSprite the {@link FrameData} to set as the current sprite
    */
   public void setCurrentSprite(FrameData currentSprite) {
+    if (currentSprite != this.currentSprite) {
+      dirtyFlags |= ImmutableGameObject.FRAME_CHANGED;
+    }
     this.currentSprite = currentSprite;
   }
 
@@ -196,9 +229,22 @@ public class Sprite {
    * @param needsFlipped {@code true} to flip the object; {@code false} to leave it as-is
    */
   public void setNeedsFlipped(boolean needsFlipped) {
+    if (needsFlipped) {
+      flipped = !flipped;
+      dirtyFlags |= ImmutableGameObject.FLIP_CHANGED;
+    }
     this.needsFlipped = needsFlipped;
   }
 
+  /**
+   * Returns whether the sprite is currently drawn mirrored. Every request to flip toggles it.
+   *
+   * @return {@code true} if the sprite faces the other way from its sprite sheet
+   */
+  public boolean isFlipped() {
+    return flipped;
+  }
+
   /**
    * Returns the current rotation of the object about its center.
    *
@@ -214,6 +260,25 @@ public class Sprite {
    * @param rotation the angle in degrees to rotate the sprite about its center
    */
   public void setRotation(double rotation) {
+    if (rotation != this.rotation) {
+      dirtyFlags |= ImmutableGameObject.ROTATION_CHANGED;
+    }
     this.rotation = rotation;
   }
-}
\ No newline at end of file
+
+  /**
+   * Returns which visual properties of this sprite changed since the view last drew it.
+   *
+   * @return the {@link ImmutableGameObject} dirty bits for the frame, flip and rotation
+   */
+  public int getDirtyFlags() {
+    return dirtyFlags;
+  }
+
+  /**
+   * Marks the frame, flip and rotation as drawn.
+   */
+  public void clearDirtyFlags() {
+    dirtyFlags = 0;
+  }
+}
@@ -0,0 +1,228 @@
+package oogasalad.engine.view;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import oogasalad.ResourceManager;
+import oogasalad.ResourceManagerAPI;
+import oogasalad.engine.model.object.ImmutableGameObject;
+import oogasalad.engine.view.camera.Camera;
+import oogasalad.engine.view.util.FrameVariantCache;
+import oogasalad.engine.view.util.FrameVariantCache.FrameVariant;
+import oogasalad.engine.view.util.TextureCache;
+import oogasalad.exceptions.RenderingException;
+import oogasalad.fileparser.records.FrameData;
+
+/**
+ * A level display that draws every game object onto a single {@link Canvas} each frame instead of
+ * keeping one {@code ImageView} node per object. Objects are drawn back to front by layer, matching
+ * the view order used by {@link LevelDisplay}.
+ *
+ * <p>The canvas only covers the visible part of the level. {@link #renderGameObjects(List)}
+ * records the objects of the frame, and {@link #shiftNode(Camera)} lets the camera transform this
+ * group as usual, then places the canvas under the screen and paints it. Objects outside the
+ * camera's viewport, widened by the same margin {@link LevelDisplay} uses, are not drawn. Mirrored
+ * and rotated objects are blitted from pre-rendered {@link FrameVariantCache} variants. When the
+ * camera zooms out, frames are cut from a {@link TextureCache} mipmap matching the zoom.
+ *
+ * @author Billy McCune
+ */
+public final class CanvasLevelDisplay extends Display {
+
+  private static final ResourceManagerAPI resourceManager = ResourceManager.getInstance();
+  private static final double SCREEN_WIDTH = Double.parseDouble(
+      resourceManager.getConfig("engine.controller.level", "LevelWidth"));
+  private static final double SCREEN_HEIGHT = Double.parseDouble(
+      resourceManager.getConfig("engine.controller.level", "LevelHeight"));
+  private static final double CULL_MARGIN = Double.parseDouble(
+      resourceManager.getConfig("engine.view.levelDisplay", "cullMargin"));
+  private static final Comparator<ImmutableGameObject> BACK_TO_FRONT =
+      Comparator.comparingInt(ImmutableGameObject::getLayer).reversed();
+
+  private final Canvas myCanvas;
+  private final Map<File, Image> mySheets;
+  private final Map<File, Image> myMipmaps;
+  private int myMipmapLevel;
+  private List<ImmutableGameObject> myObjects;
+
+  /**
+   * Creates an empty canvas display.
+   */
+  public CanvasLevelDisplay() {
+    myCanvas = new Canvas(SCREEN_WIDTH, SCREEN_HEIGHT);
+    mySheets = new HashMap<>();
+    myMipmaps = new HashMap<>();
+    myObjects = new ArrayList<>();
+    this.getChildren().add(myCanvas);
+  }
+
+  /**
+   * Records the objects to draw this frame and resolves their sprite sheets. Drawing happens in
+   * {@link #shiftNode(Camera)}, once the camera position for the frame is known.
+   *
+   * @param gameObjects every game object of the level
+   * @throws FileNotFoundException if a sprite sheet cannot be loaded
+   */
+  @Override
+  public void renderGameObjects(List<ImmutableGameObject> gameObjects)
+      throws RenderingException, FileNotFoundException {
+    List<ImmutableGameObject> objects = new ArrayList<>(gameObjects);
+    objects.sort(BACK_TO_FRONT);
+    for (ImmutableGameObject object : objects) {
+      if (!mySheets.containsKey(object.getSpriteFile())) {
+        mySheets.put(object.getSpriteFile(),
+            TextureCache.getInstance().acquire(object.getSpriteFile()));
+      }
+    }
+    myObjects = objects;
+  }
+
+  /**
+   * Applies the camera to this display, moves the canvas so it covers the screen and redraws the
+   * recorded objects.
+   *
+   * @param myCamera a camera instance which the node should shift relative to.
+   */
+  @Override
+  public void shiftNode(Camera myCamera) {
+    myCamera.updateCamera(this);
+    double zoom = getScaleX();
+    double width = screenWidth() / zoom;
+    double height = screenHeight() / zoom;
+    // the group scales about the centre of the canvas, so solve for the canvas origin that lands
+    // on the top-left corner of the screen
+    double originX = -getTranslateX() - width / 2 * (1 - zoom);
+    double originY = -getTranslateY() - height / 2 * (1 - zoom);
+    myCanvas.setWidth(width);
+    myCanvas.setHeight(height);
+    myCanvas.setLayoutX(originX);
+    myCanvas.setLayoutY(originY);
+    int level = TextureCache.mipmapLevelFor(zoom);
+    if (level != myMipmapLevel) {
+      myMipmapLevel = level;
+      myMipmaps.clear();
+    }
+    try {
+      paint(originX, originY, width, height);
+    } catch (FileNotFoundException e) {
+      // the sheets were decoded in renderGameObjects, so their files existed moments ago
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void paint(double originX, double originY, double width, double height)
+      throws FileNotFoundException {
+    GraphicsContext graphics = myCanvas.getGraphicsContext2D();
+    graphics.clearRect(0, 0, width, height);
+    graphics.save();
+    graphics.translate(-originX, -originY);
+    for (ImmutableGameObject object : myObjects) {
+      if (isNear(object, originX, originY, width, height)) {
+        draw(graphics, object);
+      }
+    }
+    graphics.restore();
+  }
+
+  private static boolean isNear(ImmutableGameObject object, double originX, double originY,
+      double width, double height) {
+    FrameData frame = object.getCurrentFrame();
+    double x = object.getXPosition() + object.getSpriteDx();
+    double y = object.getYPosition() + object.getSpriteDy();
+    return x + frame.width() > originX - CULL_MARGIN && x < originX + width + CULL_MARGIN
+        && y + frame.height() > originY - CULL_MARGIN && y < originY + height + CULL_MARGIN;
+  }
+
+  private void draw(GraphicsContext graphics, ImmutableGameObject object)
+      throws FileNotFoundException {
+    FrameData frame = object.getCurrentFrame();
+    Image sheet = mySheets.get(object.getSpriteFile());
+    double x = object.getXPosition() + object.getSpriteDx();
+    double y = object.getYPosition() + object.getSpriteDy();
+    FrameVariantCache variants = FrameVariantCache.getInstance();
+    if (!variants.needsVariant(object.isFlipped(), object.getRotation())) {
+      Image mipmap = mipmapOf(object.getSpriteFile(), sheet);
+      double scaleX = mipmap.getWidth() / sheet.getWidth();
+      double scaleY = mipmap.getHeight() / sheet.getHeight();
+      graphics.drawImage(mipmap, frame.x() * scaleX, frame.y() * scaleY, frame.width() * scaleX,
+          frame.height() * scaleY, x, y, frame.width(), frame.height());
+      return;
+    }
+    FrameVariant variant = variants.getVariant(object.getSpriteFile(), sheet, frame,
+        object.isFlipped(), object.getRotation());
+    graphics.drawImage(variant.image(), x + variant.offsetX(), y + variant.offsetY());
+  }
+
+  private Image mipmapOf(File spriteFile, Image sheet) throws FileNotFoundException {
+    if (myMipmapLevel == 0) {
+      return sheet;
+    }
+    Image mipmap = myMipmaps.get(spriteFile);
+    if (mipmap == null) {
+      mipmap = TextureCache.getInstance().getMipmap(spriteFile, myMipmapLevel);
+      myMipmaps.put(spriteFile, mipmap);
+    }
+    return mipmap;
+  }
+
+  private double screenWidth() {
+    return getScene() == null ? SCREEN_WIDTH : getScene().getWidth();
+  }
+
+  private double screenHeight() {
+    return getScene() == null ? SCREEN_HEIGHT : getScene().getHeight();
+  }
+
+  /**
+   * Nothing to detach; the object is no longer drawn from the next frame on.
+   *
+   * @param gameObject the Immutable game object to remove from the scene
+   */
+  @Override
+  public void removeGameObjectImage(ImmutableGameObject gameObject) {
+    // not drawn with the next frame
+  }
+
+  /**
+   * Nothing to attach; the object is drawn from the next frame on.
+   *
+   * @param gameObject the Immutable game object to add to the scene
+   */
+  @Override
+  public void addGameObjectImage(ImmutableGameObject gameObject) {
+    // drawn with the next frame
+  }
+
+  /**
+   * Releases every sprite sheet this display acquired and forgets the recorded objects.
+   */
+  @Override
+  public void dispose() {
+    for (File spriteFile : mySheets.keySet()) {
+      TextureCache.getInstance().release(spriteFile);
+    }
+    mySheets.clear();
+    myMipmaps.clear();
+    myObjects = new ArrayList<>();
+  }
+
+  @Override
+  public void renderPlayerStats(ImmutableGameObject player) {
+    throw new UnsupportedOperationException(
+        resourceManager.getText("exceptions", "CannotDisplayPlayerStats"));
+  }
+
+  @Override
+  public void renderEndGameScreen(boolean gameWon) {
+    throw new UnsupportedOperationException(
+        resourceManager.getText("exceptions", "CannotDisplayEndGameScreen"));
+  }
+}
@@ -68,6 +68,9 @@ public class DefaultView implements ViewAPI {
 
     int width = splashScreen.getSplashWidth();
     int height = splashScreen.getSplashHeight();
+    if (currentDisplay != null) {
+      currentDisplay.dispose();
+    }
     currentDisplay = splashScreen;
 
     currentScene = new Scene(currentDisplay, width, height);
@@ -128,9 +131,12 @@ public class DefaultView implements ViewAPI {
   }
 
   /**
-   * Set the current display.
+   * Set the current display, disposing of the one it replaces.
    */
   void setCurrentDisplay(Display display) {
+    if (currentDisplay != null && currentDisplay != display) {
+      currentDisplay.dispose();
+    }
     currentDisplay = display;
     currentScene.setRoot(currentDisplay);
   }
@@ -162,6 +168,15 @@ public class DefaultView implements ViewAPI {
     currentDisplay.renderPlayerStats(player);
   }
 
+  /**
+   * renders the statistics of every player of a frame within the HUD display
+   *
+   * @param players the player game objects still in the level
+   */
+  public void renderPlayerStats(List<ImmutableGameObject> players) {
+    currentDisplay.renderPlayerStats(players);
+  }
+
   /**
    * Package protected method that allows frontend to trigger key pressed in input list.
    *
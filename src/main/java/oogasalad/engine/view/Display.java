@@ -35,6 +35,14 @@ public abstract class Display extends Group {
     //No implementation is needed
   }
 
+  /**
+   * Releases what the display holds outside the scene graph, such as sprite sheets pinned in the
+   * texture cache, once another display replaces it. Default implementation holds nothing.
+   */
+  public void dispose() {
+    //No implementation is needed
+  }
+
   /**
    * This method will provide the option to hide the display from the scene. Subclasses can define
    * how they should be hidden.
@@ -71,6 +79,18 @@ public abstract class Display extends Group {
    */
   public abstract void renderPlayerStats(ImmutableGameObject player);
 
+  /**
+   * renders the statistics of every player in one frame. Displays that keep per-player nodes can
+   * override this to drop the nodes of players that are no longer rendered.
+   *
+   * @param players game objects of the player type, one entry per player still in the level
+   */
+  public void renderPlayerStats(List<ImmutableGameObject> players) {
+    for (ImmutableGameObject player : players) {
+      renderPlayerStats(player);
+    }
+  }
+
   /**
    * renders the end game splash screen (win/lose) depending on player outcome
    *
@@ -1,7 +1,9 @@
 package oogasalad.engine.view;
 
 import java.io.FileNotFoundException;
+import java.lang.reflect.InvocationTargetException;
 import java.util.List;
+import oogasalad.ResourceManager;
 import oogasalad.engine.model.object.ImmutableGameObject;
 import oogasalad.engine.view.camera.Camera;
 import oogasalad.engine.view.components.GameControlPanel;
@@ -26,7 +28,7 @@ public class GameDisplay extends Display {
   private final GameControlPanel myGameControlPanel;
   private final HUD myHUD;
   private final NewGameComponents myNewGameComponents;
-  private final LevelDisplay myLevelView;
+  private final Display myLevelView;
 
   /**
    * Initializes a game scene object.
@@ -36,11 +38,32 @@ public class GameDisplay extends Display {
     this.myGameControlPanel = new GameControlPanel(viewState);
     this.myHUD = new HUD();
     this.myNewGameComponents = new NewGameComponents(viewState);
-    this.myLevelView = new LevelDisplay(); //sets background and sets to pause
+    this.myLevelView = makeLevelDisplay(); //sets background and sets to pause
 
     this.getChildren().addAll(myGameControlPanel, myLevelView, myNewGameComponents, myHUD);
   }
 
+  /**
+   * Creates the level renderer named by {@code renderer} in the levelDisplay config, falling back
+   * to the node-based {@link LevelDisplay}.
+   */
+  private Display makeLevelDisplay() {
+    String renderer = ResourceManager.getInstance().getConfig("engine.view.levelDisplay",
+        "renderer");
+    if (renderer.equalsIgnoreCase("Node")) {
+      return new LevelDisplay();
+    }
+    String className = "oogasalad.engine.view." + renderer + "LevelDisplay";
+    try {
+      Class<?> clazz = Class.forName(className);
+      return (Display) clazz.getDeclaredConstructor().newInstance();
+    } catch (RuntimeException | ClassNotFoundException | InvocationTargetException |
+             InstantiationException | IllegalAccessException | NoSuchMethodException e) {
+      LOG.warn("Unknown level renderer {}, using node-based display", renderer);
+      return new LevelDisplay();
+    }
+  }
+
   /**
    * Updates objects visually based on backend changes.
    *
@@ -60,6 +83,14 @@ public class GameDisplay extends Display {
     myLevelView.shiftNode(myCamera);
   }
 
+  /**
+   * Releases the sprite sheets of the level view.
+   */
+  @Override
+  public void dispose() {
+    myLevelView.dispose();
+  }
+
   @Override
   public void removeGameObjectImage(ImmutableGameObject gameObject) {
     myLevelView.removeGameObjectImage(gameObject);
@@ -75,6 +106,11 @@ public class GameDisplay extends Display {
     myHUD.renderPlayerStats(player);
   }
 
+  @Override
+  public void renderPlayerStats(List<ImmutableGameObject> players) {
+    myHUD.renderPlayerStats(players);
+  }
+
   @Override
   public void renderEndGameScreen(boolean gameWon) {
     LOG.info("Rendering End Game Scene: " + gameWon);
@@ -1,11 +1,19 @@
 package oogasalad.engine.view;
 
 import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
 import oogasalad.ResourceManager;
 import oogasalad.ResourceManagerAPI;
 import oogasalad.engine.model.object.ImmutableGameObject;
 import oogasalad.engine.view.camera.Camera;
+import oogasalad.engine.view.util.BakedChunk;
+import oogasalad.engine.view.util.TextureCache;
 import oogasalad.engine.view.util.ViewObjectToImageConverter;
 import oogasalad.exceptions.RenderingException;
 import org.apache.logging.log4j.LogManager;
@@ -14,9 +22,26 @@ import org.apache.logging.log4j.Logger;
 /**
  * This class is the view for a level in a game. It includes all visual elements in a level.
  *
+ * <p>Each level layer is its own {@link RenderLayer} group, so draw order comes from the handful of
+ * layer groups rather than from sorting every node, and layers whose objects stop changing, such as
+ * backgrounds, are drawn from a cached bitmap.
+ *
+ * <p>On the first frame, layers with enough static scenery have it baked into {@link BakedChunk}
+ * images. A baked object that later changes or is destroyed is taken out of its chunks and drawn
+ * on its own from then on.
+ *
+ * <p>Only objects inside the camera's viewport, widened by a margin, have their images attached
+ * and updated; the rest are detached until they scroll back into view. The viewport is the one the
+ * camera computed on the previous frame, and the margin covers how far the camera moves in between.
+ * Until the camera has computed a viewport, on the first frame of a new display, every object is
+ * drawn.
+ *
+ * <p>When the camera zooms out, images sample a {@link TextureCache} mipmap matching the zoom
+ * rather than the full-resolution sheet. Baked chunks stay at full resolution.
+ *
  * @author Aksel Bell
  */
-public class LevelDisplay extends Display {
+public final class LevelDisplay extends Display {
 
   private static final ResourceManagerAPI resourceManager = ResourceManager.getInstance();
 
@@ -25,19 +50,43 @@ public class LevelDisplay extends Display {
   // talks to the camera API to show a certain part of the screen
   // upon update will rerender any objects with the IDs specified
   private static final Logger LOG = LogManager.getLogger();
+  private static final double CULL_MARGIN = Double.parseDouble(
+      resourceManager.getConfig("engine.view.levelDisplay", "cullMargin"));
+  private static final int STATIC_LAYER_FRAMES = Integer.parseInt(
+      resourceManager.getConfig("engine.view.levelDisplay", "staticLayerFrames"));
+  private static final int BAKE_CHUNK_SIZE = Integer.parseInt(
+      resourceManager.getConfig("engine.view.levelDisplay", "bakeChunkSize"));
+  private static final int BAKE_MIN_OBJECTS = Integer.parseInt(
+      resourceManager.getConfig("engine.view.levelDisplay", "bakeMinObjects"));
   private final ViewObjectToImageConverter myConverter;
-
-  private List<ObjectImage> sprites;
+  private final Map<Integer, RenderLayer> myLayers;
+  private final List<BakedChunk> myChunks;
+  private final Map<String, List<BakedChunk>> myBakedObjects;
+  private boolean myIsBaked;
+  private boolean myMipmapChanged;
+  private final Rectangle myWorldBounds;
+  private Rectangle2D myViewport;
 
   /**
    * Default constructor for a level view. Sets the level to pause.
    */
   public LevelDisplay() {
     myConverter = new ViewObjectToImageConverter();
+    myLayers = new HashMap<>();
+    myChunks = new ArrayList<>();
+    myBakedObjects = new HashMap<>();
+    myViewport = Rectangle2D.EMPTY;
+    // an invisible rectangle spanning every object keeps the group's bounds, and therefore the
+    // pivot the camera zooms about, independent of which images are currently attached
+    myWorldBounds = new Rectangle();
+    myWorldBounds.setFill(Color.TRANSPARENT);
+    myWorldBounds.setMouseTransparent(true);
+    myWorldBounds.setViewOrder(Double.MAX_VALUE);
+    this.getChildren().add(myWorldBounds);
   }
 
   /**
-   * Re-renders all game objects that have been updated in the backend.
+   * Re-renders the game objects near the camera's viewport and detaches the images of all others.
    *
    * @param gameObjects a list of gameObjects with objects to be updated visually
    * @throws RenderingException thrown if there is an error while rendering
@@ -45,20 +94,170 @@ public class LevelDisplay extends Display {
   @Override
   public void renderGameObjects(List<ImmutableGameObject> gameObjects)
       throws RenderingException, FileNotFoundException {
-    sprites = myConverter.convertObjectsToImages(gameObjects);
-    for (ObjectImage sprite : sprites) {
-      this.getChildren().add(sprite.getImageView());
+    double minX = Double.POSITIVE_INFINITY;
+    double minY = Double.POSITIVE_INFINITY;
+    double maxX = Double.NEGATIVE_INFINITY;
+    double maxY = Double.NEGATIVE_INFINITY;
+    if (!myIsBaked) {
+      bakeStaticScenery(gameObjects);
+      myIsBaked = true;
+    }
+    Rectangle2D region = widen(myViewport);
+    for (ImmutableGameObject object : gameObjects) {
+      double left = Math.min(object.getXPosition(), object.getXPosition() + object.getSpriteDx());
+      double top = Math.min(object.getYPosition(), object.getYPosition() + object.getSpriteDy());
+      double right = Math.max(object.getXPosition() + object.getHitBoxWidth(),
+          object.getXPosition() + object.getSpriteDx() + object.getCurrentFrame().width());
+      double bottom = Math.max(object.getYPosition() + object.getHitBoxHeight(),
+          object.getYPosition() + object.getSpriteDy() + object.getCurrentFrame().height());
+      minX = Math.min(minX, left);
+      minY = Math.min(minY, top);
+      maxX = Math.max(maxX, right);
+      maxY = Math.max(maxY, bottom);
+      if (myBakedObjects.containsKey(object.getUUID())) {
+        if (object.getDirtyFlags() == 0) {
+          continue;
+        }
+        unbake(object);
+      }
+      RenderLayer layer = layerFor(object.getLayer());
+      if (isInView(region, left, top, right - left, bottom - top)) {
+        // an image coming back into view missed the changes made while it was culled
+        boolean refresh = myConverter.hasImageObject(object) && (myMipmapChanged
+            || myConverter.retrieveImageObject(object).getImageView().getParent() == null);
+        if (refresh || object.getDirtyFlags() != 0) {
+          layer.markChanged();
+        }
+        layer.attach(myConverter.convertObjectToImage(object, refresh).getImageView());
+      } else {
+        cull(object, layer);
+      }
+    }
+    myMipmapChanged = false;
+    updateWorldBounds(minX, minY, maxX, maxY);
+    renderChunks(region);
+    for (RenderLayer layer : myLayers.values()) {
+      layer.endFrame();
+    }
+  }
+
+  private void cull(ImmutableGameObject gameObject, RenderLayer layer) {
+    if (!myConverter.hasImageObject(gameObject)) {
+      return;
+    }
+    ObjectImage image = myConverter.retrieveImageObject(gameObject);
+    layer.detach(image.getImageView());
+    layer.detach(image.getHitBox());
+  }
+
+  private RenderLayer layerFor(int layerNumber) {
+    RenderLayer layer = myLayers.get(layerNumber);
+    if (layer == null) {
+      layer = new RenderLayer(layerNumber, STATIC_LAYER_FRAMES);
+      myLayers.put(layerNumber, layer);
+      this.getChildren().add(layer);
     }
+    return layer;
+  }
+
+  private void bakeStaticScenery(List<ImmutableGameObject> gameObjects)
+      throws FileNotFoundException {
+    Map<Integer, List<ImmutableGameObject>> staticByLayer = new HashMap<>();
+    for (ImmutableGameObject object : gameObjects) {
+      if (BakedChunk.canBake(object)) {
+        staticByLayer.computeIfAbsent(object.getLayer(), layer -> new ArrayList<>()).add(object);
+      }
+    }
+    for (List<ImmutableGameObject> scenery : staticByLayer.values()) {
+      if (scenery.size() < BAKE_MIN_OBJECTS) {
+        continue;
+      }
+      for (BakedChunk chunk : BakedChunk.bake(scenery, BAKE_CHUNK_SIZE)) {
+        myChunks.add(chunk);
+      }
+      for (ImmutableGameObject object : scenery) {
+        myBakedObjects.put(object.getUUID(), new ArrayList<>());
+      }
+    }
+    for (BakedChunk chunk : myChunks) {
+      for (ImmutableGameObject object : chunk.getMembers()) {
+        myBakedObjects.get(object.getUUID()).add(chunk);
+      }
+    }
+    LOG.info("Baked {} static objects into {} chunks", myBakedObjects.size(), myChunks.size());
+  }
+
+  private void unbake(ImmutableGameObject gameObject) {
+    for (BakedChunk chunk : myBakedObjects.remove(gameObject.getUUID())) {
+      chunk.remove(gameObject);
+    }
+  }
+
+  private void renderChunks(Rectangle2D region) throws FileNotFoundException {
+    for (BakedChunk chunk : myChunks) {
+      RenderLayer layer = layerFor(chunk.getLayer());
+      if (chunk.rebakeIfNeeded()) {
+        layer.markChanged();
+      }
+      Rectangle2D bounds = chunk.getBounds();
+      if (isInView(region, bounds.getMinX(), bounds.getMinY(), bounds.getWidth(),
+          bounds.getHeight())) {
+        layer.attach(chunk.getImageView());
+      } else {
+        layer.detach(chunk.getImageView());
+      }
+    }
+  }
+
+  private void updateWorldBounds(double minX, double minY, double maxX, double maxY) {
+    if (minX > maxX) {
+      return;
+    }
+    myWorldBounds.setX(minX);
+    myWorldBounds.setY(minY);
+    myWorldBounds.setWidth(maxX - minX);
+    myWorldBounds.setHeight(maxY - minY);
   }
 
   /**
-   * Shifts the camera view focused on this level view.
+   * An empty region means the camera has not computed a viewport yet, so nothing is culled.
+   */
+  private static boolean isInView(Rectangle2D region, double x, double y, double width,
+      double height) {
+    return region == Rectangle2D.EMPTY || region.intersects(x, y, width, height);
+  }
+
+  private static Rectangle2D widen(Rectangle2D viewport) {
+    if (viewport == Rectangle2D.EMPTY) {
+      return viewport;
+    }
+    return new Rectangle2D(viewport.getMinX() - CULL_MARGIN, viewport.getMinY() - CULL_MARGIN,
+        viewport.getWidth() + 2 * CULL_MARGIN, viewport.getHeight() + 2 * CULL_MARGIN);
+  }
+
+  /**
+   * Shifts the camera view focused on this level view and remembers the viewport it produced for
+   * culling the next frame. If the zoom now calls for a different mipmap level, every image in view
+   * is switched to it on the next render.
    *
    * @param myCamera a camera instance which the node should shift relative to.
    */
   @Override
   public void shiftNode(Camera myCamera) {
     myCamera.updateCamera(this);
+    myViewport = myCamera.getViewport();
+    if (myConverter.setMipmapLevel(TextureCache.mipmapLevelFor(getScaleX()))) {
+      myMipmapChanged = true;
+    }
+  }
+
+  /**
+   * Releases the sprite sheets of every object image. Baked chunks hold none; they release their
+   * sheets as soon as they are drawn.
+   */
+  @Override
+  public void dispose() {
+    myConverter.releaseAll();
   }
 
   /**
@@ -68,16 +267,28 @@ public class LevelDisplay extends Display {
    */
   @Override
   public void removeGameObjectImage(ImmutableGameObject gameObject) {
-    ObjectImage imageToRemove = myConverter.retrieveImageObject(gameObject);
-    this.getChildren().remove(imageToRemove.getImageView());
-    this.getChildren().remove(imageToRemove.getHitBox());
+    if (myBakedObjects.containsKey(gameObject.getUUID())) {
+      unbake(gameObject);
+    }
+    if (!myConverter.hasImageObject(gameObject)) {
+      return;
+    }
+    ObjectImage imageToRemove = myConverter.removeImageObject(gameObject);
+    RenderLayer layer = layerFor(gameObject.getLayer());
+    layer.detach(imageToRemove.getImageView());
+    layer.detach(imageToRemove.getHitBox());
   }
 
   @Override
   public void addGameObjectImage(ImmutableGameObject gameObject) {
+    if (!myConverter.hasImageObject(gameObject)) {
+      // new objects get their image on the next render
+      return;
+    }
     ObjectImage imageToAdd = myConverter.retrieveImageObject(gameObject);
-    this.getChildren().add(imageToAdd.getImageView());
-    this.getChildren().add(imageToAdd.getHitBox());
+    RenderLayer layer = layerFor(gameObject.getLayer());
+    layer.attach(imageToAdd.getImageView());
+    layer.attach(imageToAdd.getHitBox());
   }
 
   @Override
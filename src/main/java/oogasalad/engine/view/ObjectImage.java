@@ -1,6 +1,8 @@
 package oogasalad.engine.view;
 
+import java.io.File;
 import java.io.FileNotFoundException;
+import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
@@ -26,6 +28,8 @@ public class ObjectImage {
   private final int spriteDx;
   private final int spriteDy;
   private final String UUID;
+  private final File spriteFile;
+  private final Image spriteSheet;
 
   /**
    * Constructs an {@code ObjectImage} with the given parameters.
@@ -36,11 +40,13 @@ public class ObjectImage {
   public ObjectImage(ImmutableGameObject viewObject)
       throws FileNotFoundException {
     this.UUID = viewObject.getUUID();
+    this.spriteFile = viewObject.getSpriteFile();
     converter = new ViewObjectToImageConverter();
     this.imageView = converter.convertFrameToView(viewObject);
+    this.spriteSheet = imageView.getImage();
     imageView.setX(viewObject.getXPosition() + viewObject.getSpriteDx());
     imageView.setY(viewObject.getYPosition() + viewObject.getSpriteDy());
-    this.spriteDx = viewObject.getSpriteDy();
+    this.spriteDx = viewObject.getSpriteDx();
     this.spriteDy = viewObject.getSpriteDy();
     displayHitBox(viewObject.getXPosition(), viewObject.getYPosition(), viewObject.getHitBoxWidth(),
         viewObject.getHitBoxHeight());
@@ -64,6 +70,25 @@ public class ObjectImage {
     return UUID;
   }
 
+  /**
+   * Returns the sprite sheet file whose image this object displays.
+   *
+   * @return the sprite sheet file
+   */
+  public File getSpriteFile() {
+    return spriteFile;
+  }
+
+  /**
+   * Returns the decoded sprite sheet this object's frames are cut from. The image view may show a
+   * pre-rendered variant instead while the object is mirrored or rotated.
+   *
+   * @return the sprite sheet image
+   */
+  public Image getSpriteSheet() {
+    return spriteSheet;
+  }
+
   /**
    * Returns the image view used to visually represent the object.
    *
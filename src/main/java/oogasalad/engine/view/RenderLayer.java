@@ -0,0 +1,79 @@
+package oogasalad.engine.view;
+
+import javafx.scene.CacheHint;
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+/**
+ * The nodes of one level layer. Layers are ordered by their view order, so objects never have to
+ * be sorted against objects of other layers.
+ *
+ * <p>A layer that has not changed for a number of frames is rasterized and drawn from the cached
+ * bitmap, which the camera can still move and scale. Attaching, detaching or updating any of its
+ * nodes drops the cache until the layer is quiet again.
+ *
+ * @author Aksel Bell
+ */
+class RenderLayer extends Group {
+
+  private final int quietFramesBeforeCaching;
+  private int quietFrames;
+  private boolean changed;
+
+  /**
+   * @param layer                    the level layer; lower layers are drawn in front
+   * @param quietFramesBeforeCaching how many frames without changes before the layer is cached
+   */
+  RenderLayer(int layer, int quietFramesBeforeCaching) {
+    this.quietFramesBeforeCaching = quietFramesBeforeCaching;
+    setViewOrder(layer);
+  }
+
+  /**
+   * Adds a node to this layer if it is not already shown.
+   *
+   * @param node the node to show
+   */
+  void attach(Node node) {
+    if (node.getParent() != this) {
+      getChildren().add(node);
+      changed = true;
+    }
+  }
+
+  /**
+   * Removes a node from this layer if it is shown.
+   *
+   * @param node the node to hide
+   */
+  void detach(Node node) {
+    if (node.getParent() == this) {
+      getChildren().remove(node);
+      changed = true;
+    }
+  }
+
+  /**
+   * Records that a node of this layer was updated this frame.
+   */
+  void markChanged() {
+    changed = true;
+  }
+
+  /**
+   * Ends the frame: a changed layer is drawn live, and a layer that stayed quiet long enough is
+   * cached.
+   */
+  void endFrame() {
+    if (changed) {
+      quietFrames = 0;
+      changed = false;
+      if (isCache()) {
+        setCache(false);
+      }
+    } else if (++quietFrames == quietFramesBeforeCaching) {
+      setCache(true);
+      setCacheHint(CacheHint.SPEED);
+    }
+  }
+}
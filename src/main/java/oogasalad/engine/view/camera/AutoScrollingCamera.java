@@ -1,5 +1,6 @@
 package oogasalad.engine.view.camera;
 
+import javafx.geometry.Rectangle2D;
 import javafx.scene.Group;
 import oogasalad.ResourceManager;
 import oogasalad.ResourceManagerAPI;
@@ -22,6 +23,7 @@ public class AutoScrollingCamera implements Camera {
   private double xOffset;
   private double yOffset;
   private double zoom;
+  private Rectangle2D viewport = Rectangle2D.EMPTY;
 
   /**
    * Updates the camera, causing the game world to scroll automatically. This method should be
@@ -43,6 +45,7 @@ public class AutoScrollingCamera implements Camera {
     // Negative translation moves the world in the opposite direction to simulate camera movement.
     gameWorld.setTranslateX(-xOffset);
     gameWorld.setTranslateY(-yOffset);
+    viewport = CameraViewport.of(gameWorld);
   }
 
   @Override
@@ -57,6 +60,11 @@ public class AutoScrollingCamera implements Camera {
 
   }
 
+  @Override
+  public Rectangle2D getViewport() {
+    return viewport;
+  }
+
   @Override
   public void setZoom(double zoom) {
     this.zoom = zoom;
@@ -1,5 +1,6 @@
 package oogasalad.engine.view.camera;
 
+import javafx.geometry.Rectangle2D;
 import javafx.scene.Group;
 
 /**
@@ -45,5 +46,13 @@ public interface Camera {
    * @param y the y position to set to
    */
   void setCameraOffsetY(double y);
-}
 
+  /**
+   * Returns the part of the game world that the last call to {@link #updateCamera(Group)} put on
+   * screen, in world (untransformed) coordinates. Displays use it to skip objects that cannot be
+   * seen.
+   *
+   * @return the visible world-space rectangle, or {@link Rectangle2D#EMPTY} before the first update
+   */
+  Rectangle2D getViewport();
+}
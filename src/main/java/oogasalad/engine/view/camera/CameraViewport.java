@@ -0,0 +1,45 @@
+package oogasalad.engine.view.camera;
+
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Group;
+import oogasalad.ResourceManager;
+import oogasalad.ResourceManagerAPI;
+
+/**
+ * Computes the world-space viewport of a camera from the transform it left on the game world.
+ *
+ * <p>Cameras translate and scale the whole game world {@link Group}, and JavaFX scales a node about
+ * the centre of its layout bounds. Mapping the screen rectangle back through the group's own
+ * transform therefore gives the exact visible region without each camera re-deriving the pivot.
+ *
+ * @author Alana Zinkin
+ */
+final class CameraViewport {
+
+  private static final ResourceManagerAPI resourceManager = ResourceManager.getInstance();
+  private static final double SCREEN_WIDTH = Double.parseDouble(
+      resourceManager.getConfig("engine.controller.level", "LevelWidth"));
+  private static final double SCREEN_HEIGHT = Double.parseDouble(
+      resourceManager.getConfig("engine.controller.level", "LevelHeight"));
+
+  private CameraViewport() {
+  }
+
+  /**
+   * @param gameWorld the game world after the camera has translated and scaled it
+   * @return the world-space rectangle covered by the screen, or {@link Rectangle2D#EMPTY} if the
+   * world is scaled to nothing
+   */
+  static Rectangle2D of(Group gameWorld) {
+    double width = gameWorld.getScene() == null ? SCREEN_WIDTH : gameWorld.getScene().getWidth();
+    double height =
+        gameWorld.getScene() == null ? SCREEN_HEIGHT : gameWorld.getScene().getHeight();
+    Bounds world = gameWorld.parentToLocal(new BoundingBox(0, 0, width, height));
+    if (world == null || world.isEmpty()) {
+      return Rectangle2D.EMPTY;
+    }
+    return new Rectangle2D(world.getMinX(), world.getMinY(), world.getWidth(), world.getHeight());
+  }
+}
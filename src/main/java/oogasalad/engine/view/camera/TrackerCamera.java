@@ -1,6 +1,7 @@
 package oogasalad.engine.view.camera;
 
 import java.util.NoSuchElementException;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.Group;
 import oogasalad.ResourceManager;
 import oogasalad.ResourceManagerAPI;
@@ -35,6 +36,7 @@ public class TrackerCamera implements Camera {
   private double xOffset;
   private double yOffset;
   private double zoom;
+  private Rectangle2D viewport = Rectangle2D.EMPTY;
   private ImmutableGameObject viewObjectToTrack;
 
   /**
@@ -53,6 +55,7 @@ public class TrackerCamera implements Camera {
       scaleWorld(gameWorld);
       gameWorld.setTranslateX(xOffset - viewObjectToTrack.getXPosition());
       gameWorld.setTranslateY(yOffset - viewObjectToTrack.getYPosition());
+      viewport = CameraViewport.of(gameWorld);
     } catch (Exception e) {
       throw new NoSuchElementException(resourceManager.getText("exceptions","ObjectDoesntExist"));
     }
@@ -69,6 +72,11 @@ public class TrackerCamera implements Camera {
     }
   }
 
+  @Override
+  public Rectangle2D getViewport() {
+    return viewport;
+  }
+
   @Override
   public void setZoom(double zoom) {
     LOG.info("Setting zoom to " + zoom);
@@ -1,8 +1,14 @@
 package oogasalad.engine.view.components;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.Objects;
+import java.util.Set;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Text;
@@ -18,6 +24,11 @@ import org.apache.logging.log4j.Logger;
  * The {@code HUD} class represents a Heads-Up Display in the game view. It is responsible for
  * rendering player statistics on screen and is a type of {@link Display}.
  *
+ * <p>The text nodes of each player are built once and kept, and stat labels are localized once per
+ * HUD. Rendering a frame only rewrites the text of stats whose value changed; the nodes are rebuilt
+ * only if the set of displayed stats changes. The nodes of a player that stops being rendered are
+ * removed at the end of that frame.
+ *
  * <p>This class does not support game object images and throws an exception if such operations are
  * attempted.
  *
@@ -32,6 +43,9 @@ public class HUD extends Display {
   private static final Logger LOG = LogManager.getLogger();
   private Pane container;
   private String HUDStylesheet;
+  private final String statStyleClass;
+  private final Map<String, String> localizedStats;
+  private final Map<String, PlayerStats> playerStats;
 
   /**
    * Constructs a new {@code HUD} instance and initializes its layout and components.
@@ -41,6 +55,10 @@ public class HUD extends Display {
     String HUDStylesheetFilepath = resourceManager.getConfig("engine.view.hud",
         "hud.stylesheet");
     HUDStylesheet = Objects.requireNonNull(getClass().getResource(HUDStylesheetFilepath)).toExternalForm();
+    container.getStylesheets().add(HUDStylesheet);
+    statStyleClass = resourceManager.getConfig("engine.view.hud", "hud.stats.style");
+    localizedStats = new HashMap<>();
+    playerStats = new LinkedHashMap<>();
   }
 
   /**
@@ -72,27 +90,48 @@ public class HUD extends Display {
   }
 
   /**
-   * Renders the statistics of the given player to the HUD. It attempts to localize the stat labels
-   * using the resource manager.
+   * Renders the statistics of the given player to the HUD. The player's text nodes are created on
+   * the first call; later calls only update the stats whose value changed.
    *
    * @param player the {@link ImmutableGameObject} representing the player
    */
   @Override
   public void renderPlayerStats(ImmutableGameObject player) {
-    container.getChildren().clear();
     Map<String, String> displayedStats = ((ImmutablePlayer) player).getDisplayedStatsMap();
-    for (String stat : displayedStats.keySet()) {
-      String localizedStat;
-      try {
-        localizedStat = resourceManager.getText("displayedText", stat);
-      } catch (MissingResourceException e) {
-        LOG.error("{}{}", resourceManager.getText("exceptions", "StatCannotBeTranslated"),
-            e.getMessage());
-        localizedStat = stat;
+    PlayerStats stats = playerStats.computeIfAbsent(player.getUUID(), uuid -> {
+      PlayerStats created = new PlayerStats();
+      container.getChildren().add(created.box);
+      return created;
+    });
+    if (!stats.texts.keySet().equals(displayedStats.keySet())) {
+      stats.rebuild(displayedStats);
+      return;
+    }
+    for (Map.Entry<String, String> stat : displayedStats.entrySet()) {
+      stats.update(stat.getKey(), stat.getValue());
+    }
+  }
+
+  /**
+   * Renders the statistics of every player of a frame, then removes the text nodes of players that
+   * were not among them, such as destroyed players or those of a previous level.
+   *
+   * @param players the players still in the level
+   */
+  @Override
+  public void renderPlayerStats(List<ImmutableGameObject> players) {
+    Set<String> rendered = new HashSet<>();
+    for (ImmutableGameObject player : players) {
+      renderPlayerStats(player);
+      rendered.add(player.getUUID());
+    }
+    Iterator<Map.Entry<String, PlayerStats>> entries = playerStats.entrySet().iterator();
+    while (entries.hasNext()) {
+      Map.Entry<String, PlayerStats> entry = entries.next();
+      if (!rendered.contains(entry.getKey())) {
+        container.getChildren().remove(entry.getValue().box);
+        entries.remove();
       }
-      Text statText = new Text(String.format("%s: %s", localizedStat, displayedStats.get(stat)));
-      styleStats(statText);
-      container.getChildren().add(statText);
     }
   }
 
@@ -101,8 +140,46 @@ public class HUD extends Display {
     throw new UnsupportedOperationException(resourceManager.getText("exceptions", "CannotDisplayEndGameScreen"));
   }
 
-  private void styleStats(Text statText) {
-    container.getStylesheets().add(HUDStylesheet);
-    statText.getStyleClass().add(resourceManager.getConfig("engine.view.hud", "hud.stats.style"));
+  private String localize(String stat) {
+    return localizedStats.computeIfAbsent(stat, key -> {
+      try {
+        return resourceManager.getText("displayedText", key);
+      } catch (MissingResourceException e) {
+        LOG.error("{}{}", resourceManager.getText("exceptions", "StatCannotBeTranslated"),
+            e.getMessage());
+        return key;
+      }
+    });
+  }
+
+  /**
+   * The text nodes of one player and the values they currently show.
+   */
+  private class PlayerStats {
+
+    private final VBox box = new VBox();
+    private final Map<String, Text> texts = new LinkedHashMap<>();
+    private final Map<String, String> values = new HashMap<>();
+
+    private void rebuild(Map<String, String> displayedStats) {
+      box.getChildren().clear();
+      texts.clear();
+      values.clear();
+      for (Map.Entry<String, String> stat : displayedStats.entrySet()) {
+        Text statText = new Text();
+        statText.getStyleClass().add(statStyleClass);
+        texts.put(stat.getKey(), statText);
+        box.getChildren().add(statText);
+        update(stat.getKey(), stat.getValue());
+      }
+    }
+
+    private void update(String stat, String value) {
+      if (values.containsKey(stat) && Objects.equals(values.get(stat), value)) {
+        return;
+      }
+      values.put(stat, value);
+      texts.get(stat).setText(String.format("%s: %s", localize(stat), value));
+    }
   }
 }
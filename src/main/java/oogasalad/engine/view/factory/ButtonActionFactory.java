@@ -8,6 +8,7 @@ import java.lang.reflect.Method;
 import java.net.URISyntaxException;
 import java.util.Map;
 import java.util.zip.DataFormatException;
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
 import javafx.stage.FileChooser;
@@ -18,6 +19,7 @@ import oogasalad.editor.controller.EditorController;
 import oogasalad.editor.controller.EditorMaker;
 import oogasalad.engine.controller.DefaultGameManager;
 import oogasalad.engine.controller.api.GameManagerAPI;
+import oogasalad.engine.controller.api.LevelLoadListener;
 import oogasalad.engine.model.object.ImmutablePlayer;
 import oogasalad.engine.view.DefaultView;
 import oogasalad.engine.view.GameDisplay;
@@ -108,30 +110,43 @@ public class ButtonActionFactory {
   }
 
   /**
-   * Start button on the home page.
+   * Start button on the home page. The game is shown once the selected level has loaded; if it
+   * failed to load, the error is logged and the home page stays up.
    *
    * @throws ViewInitializationException thrown if error initializing the view.
    * @throws InputException              if error parsing user key inputs.
    */
   public Runnable startGame() throws ViewInitializationException, InputException {
-    return () -> {
-      try {
-        DefaultView gameView = viewState.getDefaultView();
-        GameManagerAPI gameManager = viewState.getGameManager();
-        Stage currentStage = viewState.getStage();
+    return () -> viewState.getGameManager().levelLoaded()
+        .whenComplete((ignored, failure) -> Platform.runLater(() -> {
+          if (failure != null) {
+            LOG.error(resourceManager.getText("exceptions", "CannotSelectLevel"), failure);
+            return;
+          }
+          showGame();
+        }));
+  }
 
-        GameDisplay game = new GameDisplay(viewState);
-        viewState.setDisplay(game);
+  /**
+   * Shows the selected level once it has finished loading.
+   */
+  private void showGame() {
+    try {
+      DefaultView gameView = viewState.getDefaultView();
+      GameManagerAPI gameManager = viewState.getGameManager();
+      Stage currentStage = viewState.getStage();
 
-        currentStage.setWidth(1000); // TODO set this to the game size
-        currentStage.setHeight(1000);
+      GameDisplay game = new GameDisplay(viewState);
+      viewState.setDisplay(game);
 
-        gameManager.displayGameObjects();
-        setCurrentInputs(gameView.getCurrentScene()).run();
-      } catch (Exception e) {
-        LOG.error("Error starting game", e);
-      }
-    };
+      currentStage.setWidth(1000); // TODO set this to the game size
+      currentStage.setHeight(1000);
+
+      gameManager.displayGameObjects();
+      setCurrentInputs(gameView.getCurrentScene()).run();
+    } catch (Exception e) {
+      LOG.error("Error starting game", e);
+    }
   }
 
   /**
@@ -224,7 +239,8 @@ public class ButtonActionFactory {
    * reinitializing the view and model components.
    *
    * <p>This method handles re-parsing level data, reloading sprites, events, blueprints,
-   * and game objects, and reconstructing the game's layers and hitboxes as needed.</p>
+   * and game objects, and reconstructing the game's layers and hitboxes as needed. The game is
+   * paused while it reloads and resumes once the new view is shown.</p>
    *
    * @throws DataFormatException       if there is an error decompressing or processing data
    * @throws IOException               if there is an input/output error while loading resources
@@ -248,11 +264,14 @@ public class ButtonActionFactory {
       throws DataFormatException, IOException, ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException, LayerParseException, LevelDataParseException, PropertyParsingException, SpriteParseException, EventParseException, HitBoxParseException, BlueprintParseException, GameObjectParseException, RenderingException {
     savePlayerProgress().run();
 
-    viewState.getGameManager().restartGame();
+    GameManagerAPI gameManager = viewState.getGameManager();
+    // the loop stays stopped until the new display is shown, so no frame draws into the old one
+    gameManager.pauseGame();
+    gameManager.restartGame();
     GameDisplay game = new GameDisplay(viewState);
     viewState.setDisplay(game);
-    viewState.getGameManager().displayGameObjects();
-    viewState.getGameManager().pauseGame();
+    gameManager.displayGameObjects();
+    gameManager.playGame();
   }
 
   /**
@@ -331,25 +350,31 @@ public class ButtonActionFactory {
   /**
    * Returns a {@link Runnable} that attempts to load and initialize a game level based on the
    * selected game and level names. This method constructs the path to the level file using the
-   * provided game and level names and delegates to the {@code GameManager} to load the level.
+   * provided game and level names and delegates to the {@code GameManager} to load the level in
+   * the background.
    *
    * @param game  the name of the game (i.e., the folder name under the game levels directory)
    * @param level the name of the level file (typically with .xml extension) inside the game folder
    * @return a {@code Runnable} that, when executed, loads the specified level into the game engine
    */
   public Runnable selectLevel(String game, String level) {
+    return selectLevel(game, level,
+        progress -> LOG.debug("Loading {}/{}: {}%", game, level, Math.round(progress * 100)));
+  }
+
+  /**
+   * Returns a {@link Runnable} that loads a game level in the background like
+   * {@link #selectLevel(String, String)}, reporting the load's progress to a listener.
+   *
+   * @param game     the name of the game (i.e., the folder name under the game levels directory)
+   * @param level    the name of the level file inside the game folder
+   * @param listener told the progress of the load, on the loader thread
+   * @return a {@code Runnable} that, when executed, loads the specified level into the game engine
+   */
+  public Runnable selectLevel(String game, String level, LevelLoadListener listener) {
     return () -> {
       if (game != null && level != null) {
-        try {
-          viewState.getGameManager()
-              .selectGame(gamesFilePath + game + "/" + level);
-        } catch (DataFormatException | IOException | ClassNotFoundException |
-                 InvocationTargetException | NoSuchMethodException | InstantiationException |
-                 IllegalAccessException | LayerParseException | LevelDataParseException |
-                 PropertyParsingException | SpriteParseException | EventParseException |
-                 HitBoxParseException | BlueprintParseException | GameObjectParseException e) {
-          LOG.error(resourceManager.getText("exceptions", "CannotSelectLevel"), e);
-        }
+        viewState.getGameManager().selectGameAsync(gamesFilePath + game + "/" + level, listener);
       }
     };
   }
@@ -2,12 +2,13 @@ package oogasalad.engine.view.screen;
 
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.util.Arrays;
-import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
+import javafx.application.Platform;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.ComboBox;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -21,6 +22,7 @@ import oogasalad.engine.model.object.ImmutableGameObject;
 import oogasalad.engine.view.Display;
 import oogasalad.engine.view.ViewState;
 import oogasalad.engine.view.factory.ButtonActionFactory;
+import oogasalad.fileparser.LevelCatalog;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -33,7 +35,6 @@ public class SplashScreen extends Display {
 
   private static final Logger LOG = LogManager.getLogger();
   private static ResourceManagerAPI resourceManager = ResourceManager.getInstance();
-  private static final String gamesFilePath = "data/gameData/levels/";
   private final String exceptions = "exceptions";
   private static final String displayedText = "displayedText";
   private final String splashConfig = "engine.view.splashScene";
@@ -43,6 +44,7 @@ public class SplashScreen extends Display {
   private ViewState viewState;
   private ComboBox<String> gameTypeBox;
   private ComboBox<String> levelBox;
+  private ProgressBar levelLoadProgress;
 
   /**
    * Constructor for making a new opening splash screen
@@ -291,6 +293,7 @@ public class SplashScreen extends Display {
         comboBoxIDs, comboBoxStyles, splashBox);
     levelBox = createComboBox(comboBoxTexts, 1, buttonWidth, buttonHeight,
         comboBoxIDs, comboBoxStyles, splashBox);
+    levelLoadProgress = createLevelLoadProgress(buttonWidth, splashBox);
     populateGameTypeComboBox(gameTypeBox);
     selectGameType(gameTypeBox, levelBox);
     setComboBoxButtonAction(gameTypeBox, levelBox);
@@ -348,10 +351,30 @@ public class SplashScreen extends Display {
     ButtonActionFactory factory = new ButtonActionFactory(viewState);
     levelBox.valueProperty().addListener((obs, oldValue, level) -> {
       String game = gameBox.getValue();
-      factory.selectLevel(game, level).run();
+      levelLoadProgress.setProgress(0);
+      levelLoadProgress.setVisible(game != null && level != null);
+      factory.selectLevel(game, level, progress -> Platform.runLater(() -> {
+        if (Objects.equals(level, levelBox.getValue())) {
+          levelLoadProgress.setProgress(progress);
+        }
+      })).run();
     });
   }
 
+  /**
+   * Creates the bar showing how far the selected level has loaded, hidden until a level is
+   * selected.
+   */
+  private ProgressBar createLevelLoadProgress(double width, VBox splashBox) {
+    ProgressBar progressBar = new ProgressBar(0);
+    progressBar.setPrefWidth(width);
+    progressBar.setId(resourceManager.getConfig(splashConfig, "splash.levelLoadProgress.id"));
+    progressBar.managedProperty().bind(progressBar.visibleProperty());
+    progressBar.setVisible(false);
+    splashBox.getChildren().add(progressBar);
+    return progressBar;
+  }
+
   private void setEditorButtonAction(Button startEditor) {
     ButtonActionFactory factory = new ButtonActionFactory(viewState);
     startEditor.setOnAction(event -> {
@@ -373,36 +396,21 @@ public class SplashScreen extends Display {
   }
 
   private void populateLevelComboBox(String game, ComboBox<String> levelComboBox) {
-    File levelFile = new File(gamesFilePath, game);
-    File[] levels = levelFile.listFiles((dir, name) -> name.endsWith(".xml"));
-    if (levels != null) {
-      levelComboBox.getItems().clear();
-      for (File level : levels) {
-        levelComboBox.getItems().add(level.getName());
-      }
-      levelComboBox.getItems().sort(Comparator.naturalOrder());
-    }
+    levelComboBox.getItems().setAll(LevelCatalog.getInstance().levels(game));
   }
 
   private void populateGameTypeComboBox(ComboBox<String> gameTypeComboBox)
       throws FileNotFoundException {
-    File[] gameFolders = getGameFolders();
-    gameTypeComboBox.getItems().setAll(
-        Arrays.stream(gameFolders)
-            .map(File::getName)
-            .sorted()
-            .toList()
-    );
+    gameTypeComboBox.getItems().setAll(getGames());
   }
 
-  private File[] getGameFolders() throws FileNotFoundException {
-    File gamesDir = new File(gamesFilePath);
+  private List<String> getGames() throws FileNotFoundException {
+    File gamesDir = LevelCatalog.defaultRoot();
     if (!gamesDir.exists() || !gamesDir.isDirectory()) {
       throw new FileNotFoundException(
           resourceManager.getText(exceptions, "GameDirectoryNotFound"));
     }
-    File[] folders = gamesDir.listFiles(File::isDirectory);
-    return folders != null ? folders : new File[0];
+    return LevelCatalog.getInstance().games();
   }
 
 
@@ -0,0 +1,192 @@
+package oogasalad.engine.view.util;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.paint.Color;
+import oogasalad.engine.model.object.ImmutableGameObject;
+import oogasalad.fileparser.records.FrameData;
+
+/**
+ * A square region of one level layer whose static scenery is composited into a single image, so
+ * the view shows one {@link ImageView} instead of one per tile. The objects themselves stay in the
+ * model for collisions; only their drawing is baked.
+ *
+ * <p>Chunks are built once per level by {@link #bake(List, int)}. If a baked object later changes
+ * or is destroyed, it is {@link #remove(ImmutableGameObject) removed} and the chunk redraws itself
+ * on the next {@link #rebakeIfNeeded()}.
+ *
+ * <p>Baking draws on a {@link Canvas} and snapshots it, so it must run on the JavaFX application
+ * thread.
+ *
+ * @author Billy McCune
+ */
+public class BakedChunk {
+
+  private final int layer;
+  private final Rectangle2D bounds;
+  private final Map<String, ImmutableGameObject> members;
+  private final ImageView imageView;
+  private boolean needsRebake;
+
+  private BakedChunk(int layer, Rectangle2D bounds) {
+    this.layer = layer;
+    this.bounds = bounds;
+    this.members = new LinkedHashMap<>();
+    this.imageView = new ImageView();
+    imageView.setX(bounds.getMinX());
+    imageView.setY(bounds.getMinY());
+    imageView.setMouseTransparent(true);
+  }
+
+  /**
+   * Returns whether an object can be baked: static, unrotated and not mirrored.
+   *
+   * @param object the object to check
+   * @return {@code true} if the object can be drawn into a chunk
+   */
+  public static boolean canBake(ImmutableGameObject object) {
+    return object.isStatic() && object.getRotation() == 0 && !object.isFlipped();
+  }
+
+  /**
+   * Composites the given objects into chunks of {@code chunkSize} world units per layer. An object
+   * that straddles a chunk border is drawn into every chunk it overlaps. The dirty bits of baked
+   * objects are cleared, so a later change can be detected.
+   *
+   * @param objects   the objects to bake; each must satisfy {@link #canBake(ImmutableGameObject)}
+   * @param chunkSize the width and height of a chunk in world units
+   * @return the baked chunks
+   * @throws FileNotFoundException if a sprite sheet cannot be loaded
+   */
+  public static List<BakedChunk> bake(List<ImmutableGameObject> objects, int chunkSize)
+      throws FileNotFoundException {
+    Map<String, BakedChunk> chunks = new LinkedHashMap<>();
+    for (ImmutableGameObject object : objects) {
+      Rectangle2D sprite = spriteBounds(object);
+      int firstColumn = Math.floorDiv((int) sprite.getMinX(), chunkSize);
+      int lastColumn = Math.floorDiv((int) Math.ceil(sprite.getMaxX()) - 1, chunkSize);
+      int firstRow = Math.floorDiv((int) sprite.getMinY(), chunkSize);
+      int lastRow = Math.floorDiv((int) Math.ceil(sprite.getMaxY()) - 1, chunkSize);
+      for (int column = firstColumn; column <= lastColumn; column++) {
+        for (int row = firstRow; row <= lastRow; row++) {
+          int x = column;
+          int y = row;
+          chunks.computeIfAbsent(object.getLayer() + ":" + column + ":" + row,
+              key -> new BakedChunk(object.getLayer(),
+                  new Rectangle2D((double) x * chunkSize, (double) y * chunkSize, chunkSize,
+                      chunkSize))).members.put(object.getUUID(), object);
+        }
+      }
+      object.clearDirtyFlags();
+    }
+    for (BakedChunk chunk : chunks.values()) {
+      chunk.draw();
+    }
+    return new ArrayList<>(chunks.values());
+  }
+
+  /**
+   * @return the level layer this chunk belongs to
+   */
+  public int getLayer() {
+    return layer;
+  }
+
+  /**
+   * @return the world-space region covered by this chunk
+   */
+  public Rectangle2D getBounds() {
+    return bounds;
+  }
+
+  /**
+   * @return the objects currently drawn into this chunk
+   */
+  public Collection<ImmutableGameObject> getMembers() {
+    return Collections.unmodifiableCollection(members.values());
+  }
+
+  /**
+   * @return the image view showing the baked chunk
+   */
+  public ImageView getImageView() {
+    return imageView;
+  }
+
+  /**
+   * Takes an object out of the chunk, for example because it moved or was destroyed. The chunk is
+   * redrawn by the next {@link #rebakeIfNeeded()}.
+   *
+   * @param object the object to take out
+   */
+  public void remove(ImmutableGameObject object) {
+    if (members.remove(object.getUUID()) != null) {
+      needsRebake = true;
+    }
+  }
+
+  /**
+   * Redraws the chunk if objects were removed since it was last drawn.
+   *
+   * @return {@code true} if the chunk was redrawn
+   * @throws FileNotFoundException if a sprite sheet cannot be loaded
+   */
+  public boolean rebakeIfNeeded() throws FileNotFoundException {
+    if (!needsRebake) {
+      return false;
+    }
+    needsRebake = false;
+    draw();
+    return true;
+  }
+
+  private void draw() throws FileNotFoundException {
+    if (members.isEmpty()) {
+      imageView.setImage(null);
+      return;
+    }
+    Canvas canvas = new Canvas(bounds.getWidth(), bounds.getHeight());
+    GraphicsContext graphics = canvas.getGraphicsContext2D();
+    Map<File, Image> sheets = new HashMap<>();
+    try {
+      for (ImmutableGameObject object : members.values()) {
+        Image sheet = sheets.get(object.getSpriteFile());
+        if (sheet == null) {
+          sheet = TextureCache.getInstance().acquire(object.getSpriteFile());
+          sheets.put(object.getSpriteFile(), sheet);
+        }
+        FrameData frame = object.getCurrentFrame();
+        Rectangle2D sprite = spriteBounds(object);
+        graphics.drawImage(sheet, frame.x(), frame.y(), frame.width(), frame.height(),
+            sprite.getMinX() - bounds.getMinX(), sprite.getMinY() - bounds.getMinY(),
+            frame.width(), frame.height());
+      }
+    } finally {
+      for (File sheet : sheets.keySet()) {
+        TextureCache.getInstance().release(sheet);
+      }
+    }
+    SnapshotParameters parameters = new SnapshotParameters();
+    parameters.setFill(Color.TRANSPARENT);
+    imageView.setImage(canvas.snapshot(parameters, null));
+  }
+
+  private static Rectangle2D spriteBounds(ImmutableGameObject object) {
+    FrameData frame = object.getCurrentFrame();
+    return new Rectangle2D(object.getXPosition() + object.getSpriteDx(),
+        object.getYPosition() + object.getSpriteDy(), frame.width(), frame.height());
+  }
+}
@@ -0,0 +1,140 @@
+package oogasalad.engine.view.util;
+
+import java.io.File;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Map;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import oogasalad.ResourceManager;
+import oogasalad.ResourceManagerAPI;
+import oogasalad.fileparser.records.FrameData;
+
+/**
+ * Process-wide cache of pre-rendered frame variants: mirrored and rotated copies of a sprite sheet
+ * frame, so renderers can blit a transformed sprite as a plain image instead of transforming every
+ * node or canvas draw each frame.
+ *
+ * <p>Rotations are quantized to a fixed number of steps per turn, read from the
+ * {@code rotationSteps} key of the level display config, which bounds the number of variants a
+ * frame can have. Variants are drawn lazily the first time they are requested and grouped per
+ * sprite sheet; each sheet's variants are only softly held, like unused images in
+ * {@link TextureCache}, so they can be reclaimed under memory pressure and redrawn on demand.
+ *
+ * <p>Drawing a variant snapshots a {@link Canvas}, so lookups must run on the JavaFX application
+ * thread.
+ *
+ * @author Billy McCune
+ */
+public class FrameVariantCache {
+
+  private static final ResourceManagerAPI resourceManager = ResourceManager.getInstance();
+  private static final FrameVariantCache instance = new FrameVariantCache(Integer.parseInt(
+      resourceManager.getConfig("engine.view.levelDisplay", "rotationSteps")));
+  private static final double ROUNDING_NOISE = 1e-9;
+
+  private final int rotationSteps;
+  private final Map<File, SoftReference<Map<VariantKey, FrameVariant>>> sheets;
+
+  /**
+   * A frame drawn mirrored and/or rotated about its centre.
+   *
+   * @param image   the rendered variant
+   * @param offsetX where to draw the variant horizontally, relative to the left edge of the
+   *                untransformed frame
+   * @param offsetY where to draw the variant vertically, relative to the top edge of the
+   *                untransformed frame
+   */
+  public record FrameVariant(Image image, double offsetX, double offsetY) {
+
+  }
+
+  private record VariantKey(FrameData frame, boolean flipped, int rotationStep) {
+
+  }
+
+  FrameVariantCache(int rotationSteps) {
+    this.rotationSteps = rotationSteps;
+    this.sheets = new HashMap<>();
+  }
+
+  /**
+   * @return the frame variant cache instance
+   */
+  public static FrameVariantCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Returns whether a frame shown with this orientation needs a variant, or can be drawn straight
+   * from its sprite sheet.
+   *
+   * @param flipped  {@code true} if the frame is mirrored
+   * @param rotation the rotation in degrees
+   * @return {@code true} if {@link #getVariant} must be used
+   */
+  public boolean needsVariant(boolean flipped, double rotation) {
+    return flipped || quantize(rotation) != 0;
+  }
+
+  /**
+   * Returns the variant of a frame, drawing it on first use. The rotation is rounded to the nearest
+   * step.
+   *
+   * @param spriteFile the sprite sheet file, which groups the variants
+   * @param sheet      the decoded sprite sheet
+   * @param frame      the frame of the sheet to transform
+   * @param flipped    {@code true} to mirror the frame horizontally
+   * @param rotation   the clockwise rotation about the frame's centre, in degrees
+   * @return the cached variant
+   */
+  public FrameVariant getVariant(File spriteFile, Image sheet, FrameData frame, boolean flipped,
+      double rotation) {
+    SoftReference<Map<VariantKey, FrameVariant>> reference = sheets.get(spriteFile);
+    Map<VariantKey, FrameVariant> variants = reference == null ? null : reference.get();
+    if (variants == null) {
+      variants = new HashMap<>();
+      sheets.put(spriteFile, new SoftReference<>(variants));
+    }
+    int step = quantize(rotation);
+    return variants.computeIfAbsent(new VariantKey(frame, flipped, step),
+        key -> draw(sheet, frame, flipped, step * 360.0 / rotationSteps));
+  }
+
+  /**
+   * Drops every variant of a sprite sheet, for example once a level that used it is unloaded.
+   *
+   * @param spriteFile the sprite sheet file
+   */
+  public void evict(File spriteFile) {
+    sheets.remove(spriteFile);
+  }
+
+  int quantize(double rotation) {
+    return Math.floorMod(Math.round(rotation * rotationSteps / 360.0), rotationSteps);
+  }
+
+  private static FrameVariant draw(Image sheet, FrameData frame, boolean flipped, double angle) {
+    double radians = Math.toRadians(angle);
+    double cos = Math.abs(Math.cos(radians));
+    double sin = Math.abs(Math.sin(radians));
+    // trim rounding noise so right angles do not gain a pixel, e.g. cos(90) is not exactly 0
+    double width = Math.ceil(frame.width() * cos + frame.height() * sin - ROUNDING_NOISE);
+    double height = Math.ceil(frame.width() * sin + frame.height() * cos - ROUNDING_NOISE);
+    Canvas canvas = new Canvas(width, height);
+    GraphicsContext graphics = canvas.getGraphicsContext2D();
+    // same order as a node's transforms: mirror first, then rotate about the centre
+    graphics.translate(width / 2, height / 2);
+    graphics.rotate(angle);
+    graphics.scale(flipped ? -1 : 1, 1);
+    graphics.drawImage(sheet, frame.x(), frame.y(), frame.width(), frame.height(),
+        -frame.width() / 2.0, -frame.height() / 2.0, frame.width(), frame.height());
+    SnapshotParameters parameters = new SnapshotParameters();
+    parameters.setFill(Color.TRANSPARENT);
+    return new FrameVariant(canvas.snapshot(parameters, null),
+        (frame.width() - width) / 2, (frame.height() - height) / 2);
+  }
+}
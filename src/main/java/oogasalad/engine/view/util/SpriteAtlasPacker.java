@@ -0,0 +1,337 @@
+package oogasalad.engine.view.util;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.imageio.ImageIO;
+import oogasalad.fileparser.LazyBlueprintMap;
+import oogasalad.fileparser.records.BlueprintData;
+import oogasalad.fileparser.records.FrameData;
+import oogasalad.fileparser.records.LevelData;
+import oogasalad.fileparser.records.SpriteData;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Packs the frames a level uses from many per-blueprint sprite sheets into a few large atlas pages,
+ * and rewrites the level's {@link SpriteData} to point at the pages, with {@link FrameData}
+ * coordinates in atlas space. The renderer then binds a handful of images instead of one per
+ * sheet.
+ *
+ * <p>Every frame of a sprite lands on the same page, since a sprite has a single sheet. Pages are
+ * filled shelf by shelf, tallest frames first, with transparent padding between frames so
+ * filtering at non-integer zoom does not bleed neighbours in. A sprite too large for an empty page
+ * keeps its original sheet.
+ *
+ * <p>Pages are written as PNG files named after a digest of the source sheets (path, size and
+ * modification time) and the frames packed, so later loads of the same level, or an offline run
+ * over a game's graphics, reuse them instead of packing again. Packing only uses AWT images and
+ * can run on any thread.
+ *
+ * @author Billy McCune
+ */
+public class SpriteAtlasPacker {
+
+  private static final Logger LOG = LogManager.getLogger();
+  private static final String PAGE_FORMAT = "png";
+
+  private final File directory;
+  private final int pageSize;
+  private final int padding;
+
+  /**
+   * Creates a packer.
+   *
+   * @param directory the directory atlas pages are written to and reused from
+   * @param pageSize  the width and height of an atlas page in pixels
+   * @param padding   the transparent gap kept around every frame, in pixels
+   */
+  public SpriteAtlasPacker(File directory, int pageSize, int padding) {
+    this.directory = directory;
+    this.pageSize = pageSize;
+    this.padding = padding;
+  }
+
+  /**
+   * Packs the frames of every blueprint of the level into atlas pages. Levels drawing from fewer
+   * than two sheets are returned unchanged, as there is nothing to merge.
+   *
+   * @param level the parsed level
+   * @return the level with its sprites rewritten to atlas pages
+   * @throws IOException if a sheet cannot be read or a page cannot be written
+   */
+  public LevelData pack(LevelData level) throws IOException {
+    List<SpriteData> sprites = distinctSprites(level);
+    Set<File> sheets = new LinkedHashSet<>();
+    for (SpriteData sprite : sprites) {
+      sheets.add(sprite.spriteFile());
+    }
+    if (sheets.size() < 2) {
+      return level;
+    }
+    Layout layout = new Layout();
+    for (SpriteData sprite : sprites) {
+      layout.place(sprite);
+    }
+    if (layout.pages.isEmpty()) {
+      return level;
+    }
+    List<File> pageFiles = writePages(layout, digest(sprites));
+    Map<SpriteData, SpriteData> packed = new HashMap<>();
+    for (Map.Entry<SpriteData, Integer> placed : layout.spritePages.entrySet()) {
+      packed.put(placed.getKey(), rewrite(placed.getKey(), pageFiles.get(placed.getValue()),
+          layout.pages.get(placed.getValue())));
+    }
+    LOG.info("Packed {} sprite sheets into {} atlas pages", sheets.size(), pageFiles.size());
+    return withSprites(level, packed);
+  }
+
+  private static List<SpriteData> distinctSprites(LevelData level) {
+    Set<SpriteData> sprites = new LinkedHashSet<>();
+    List<BlueprintData> blueprints = new ArrayList<>(
+        LazyBlueprintMap.resolvedValues(level.gameBluePrintData()));
+    blueprints.sort(Comparator.comparingInt(BlueprintData::blueprintId));
+    for (BlueprintData blueprint : blueprints) {
+      SpriteData sprite = blueprint.spriteData();
+      if (sprite != null && sprite.spriteFile() != null && sprite.spriteFile().isFile()) {
+        sprites.add(sprite);
+      }
+    }
+    return new ArrayList<>(sprites);
+  }
+
+  private static List<Region> regionsOf(SpriteData sprite) {
+    Set<Region> regions = new LinkedHashSet<>();
+    regions.add(Region.of(sprite.spriteFile(), sprite.baseImage()));
+    for (FrameData frame : sprite.frames()) {
+      regions.add(Region.of(sprite.spriteFile(), frame));
+    }
+    List<Region> sorted = new ArrayList<>(regions);
+    sorted.sort(Comparator.comparingInt(Region::height).reversed());
+    return sorted;
+  }
+
+  private List<File> writePages(Layout layout, String digest) throws IOException {
+    Files.createDirectories(directory.toPath());
+    List<File> pageFiles = new ArrayList<>();
+    Map<File, BufferedImage> sources = new HashMap<>();
+    for (int i = 0; i < layout.pages.size(); i++) {
+      File pageFile = new File(directory, "atlas-" + digest + "-" + i + "." + PAGE_FORMAT);
+      pageFiles.add(pageFile);
+      if (!pageFile.isFile()) {
+        drawPage(layout.pages.get(i), pageFile, sources);
+      }
+    }
+    return pageFiles;
+  }
+
+  private void drawPage(Page page, File pageFile, Map<File, BufferedImage> sources)
+      throws IOException {
+    BufferedImage image = new BufferedImage(page.width(), page.height(),
+        BufferedImage.TYPE_INT_ARGB);
+    Graphics2D graphics = image.createGraphics();
+    try {
+      for (Map.Entry<Region, int[]> placed : page.placements.entrySet()) {
+        Region region = placed.getKey();
+        BufferedImage source = sources.get(region.sheet());
+        if (source == null) {
+          source = ImageIO.read(region.sheet());
+          if (source == null) {
+            throw new IOException("Unsupported image format: " + region.sheet());
+          }
+          sources.put(region.sheet(), source);
+        }
+        int x = placed.getValue()[0];
+        int y = placed.getValue()[1];
+        graphics.drawImage(source, x, y, x + region.width(), y + region.height(), region.x(),
+            region.y(), region.x() + region.width(), region.y() + region.height(), null);
+      }
+    } finally {
+      graphics.dispose();
+    }
+    // levels loading in parallel may draw the same page, so each writes its own partial file
+    File partial = Files.createTempFile(directory.toPath(), pageFile.getName(), ".part").toFile();
+    ImageIO.write(image, PAGE_FORMAT, partial);
+    Files.move(partial.toPath(), pageFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  private static SpriteData rewrite(SpriteData sprite, File pageFile, Page page) {
+    List<FrameData> frames = new ArrayList<>();
+    for (FrameData frame : sprite.frames()) {
+      frames.add(page.relocate(sprite.spriteFile(), frame));
+    }
+    return new SpriteData(sprite.name(), pageFile,
+        page.relocate(sprite.spriteFile(), sprite.baseImage()), frames, sprite.animations());
+  }
+
+  /**
+   * Points the blueprints whose sprites were packed at their atlas pages. Blueprints a
+   * {@link LazyBlueprintMap} has not resolved yet keep their own sheets once they are.
+   */
+  private static LevelData withSprites(LevelData level, Map<SpriteData, SpriteData> packed) {
+    Map<Integer, BlueprintData> blueprints;
+    if (level.gameBluePrintData() instanceof LazyBlueprintMap lazy) {
+      blueprints = lazy.mapValues(blueprint -> withSprite(blueprint, packed));
+    } else {
+      blueprints = new LinkedHashMap<>();
+      for (Map.Entry<Integer, BlueprintData> entry : level.gameBluePrintData().entrySet()) {
+        blueprints.put(entry.getKey(), withSprite(entry.getValue(), packed));
+      }
+    }
+    return new LevelData(level.name(), level.minX(), level.minY(), level.maxX(), level.maxY(),
+        level.cameraData(), blueprints, level.gameObjects());
+  }
+
+  private static BlueprintData withSprite(BlueprintData blueprint,
+      Map<SpriteData, SpriteData> packed) {
+    SpriteData sprite = packed.get(blueprint.spriteData());
+    return sprite == null ? blueprint : new BlueprintData(
+        blueprint.blueprintId(), blueprint.velocityX(), blueprint.velocityY(),
+        blueprint.rotation(), blueprint.isFlipped(), blueprint.gameName(), blueprint.group(),
+        blueprint.type(), sprite, blueprint.hitBoxData(), blueprint.eventDataList(),
+        blueprint.stringProperties(), blueprint.doubleProperties(),
+        blueprint.displayedProperties());
+  }
+
+  private String digest(List<SpriteData> sprites) throws IOException {
+    StringBuilder description = new StringBuilder();
+    description.append(pageSize).append(':').append(padding);
+    for (SpriteData sprite : sprites) {
+      File sheet = sprite.spriteFile();
+      description.append('|').append(sheet.getCanonicalPath()).append(':')
+          .append(sheet.length()).append(':').append(sheet.lastModified());
+      for (Region region : regionsOf(sprite)) {
+        description.append(':').append(region.x()).append(',').append(region.y()).append(',')
+            .append(region.width()).append(',').append(region.height());
+      }
+    }
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256")
+          .digest(description.toString().getBytes(StandardCharsets.UTF_8));
+      StringBuilder hex = new StringBuilder();
+      for (int i = 0; i < 8; i++) {
+        hex.append(String.format("%02x", hash[i]));
+      }
+      return hex.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * A rectangle of a source sheet.
+   */
+  private record Region(File sheet, int x, int y, int width, int height) {
+
+    static Region of(File sheet, FrameData frame) {
+      return new Region(sheet, frame.x(), frame.y(), frame.width(), frame.height());
+    }
+  }
+
+  /**
+   * Where each sprite and region ends up.
+   */
+  private class Layout {
+
+    private final List<Page> pages = new ArrayList<>();
+    private final Map<SpriteData, Integer> spritePages = new LinkedHashMap<>();
+
+    void place(SpriteData sprite) {
+      List<Region> regions = regionsOf(sprite);
+      if (!pages.isEmpty() && pages.getLast().tryPlace(regions)) {
+        spritePages.put(sprite, pages.size() - 1);
+        return;
+      }
+      Page page = new Page();
+      if (page.tryPlace(regions)) {
+        pages.add(page);
+        spritePages.put(sprite, pages.size() - 1);
+      } else {
+        LOG.warn("Sprite {} does not fit on an atlas page, keeping its own sheet", sprite.name());
+      }
+    }
+  }
+
+  /**
+   * One atlas page, filled shelf by shelf from the top left.
+   */
+  private class Page {
+
+    private final Map<Region, int[]> placements = new LinkedHashMap<>();
+    private int cursorX;
+    private int shelfY;
+    private int shelfHeight;
+    private int usedWidth;
+
+    boolean tryPlace(List<Region> regions) {
+      int savedCursorX = cursorX;
+      int savedShelfY = shelfY;
+      int savedShelfHeight = shelfHeight;
+      int savedUsedWidth = usedWidth;
+      List<Region> added = new ArrayList<>();
+      for (Region region : regions) {
+        if (placements.containsKey(region)) {
+          continue;
+        }
+        int[] position = allocate(region.width() + padding, region.height() + padding);
+        if (position == null) {
+          added.forEach(placements::remove);
+          cursorX = savedCursorX;
+          shelfY = savedShelfY;
+          shelfHeight = savedShelfHeight;
+          usedWidth = savedUsedWidth;
+          return false;
+        }
+        placements.put(region, position);
+        added.add(region);
+      }
+      return true;
+    }
+
+    private int[] allocate(int width, int height) {
+      if (width > pageSize || height > pageSize) {
+        return null;
+      }
+      if (cursorX + width > pageSize) {
+        shelfY += shelfHeight;
+        cursorX = 0;
+        shelfHeight = 0;
+      }
+      if (shelfY + height > pageSize) {
+        return null;
+      }
+      int[] position = {cursorX, shelfY};
+      cursorX += width;
+      shelfHeight = Math.max(shelfHeight, height);
+      usedWidth = Math.max(usedWidth, cursorX);
+      return position;
+    }
+
+    FrameData relocate(File sheet, FrameData frame) {
+      int[] position = placements.get(Region.of(sheet, frame));
+      return new FrameData(frame.name(), position[0], position[1], frame.width(), frame.height());
+    }
+
+    int width() {
+      return Math.max(1, usedWidth);
+    }
+
+    int height() {
+      return Math.max(1, shelfY + shelfHeight);
+    }
+  }
+}
@@ -0,0 +1,289 @@
+package oogasalad.engine.view.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleConsumer;
+import javafx.scene.image.Image;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Process-wide cache of decoded sprite sheets, keyed by the canonical path of the image file, so
+ * every view of the same sheet shares one {@link Image}.
+ *
+ * <p>Images are reference counted: {@link #acquire(File)} pins an image and {@link #release(File)}
+ * unpins it. An image nobody holds is only softly referenced, so it is reused if it is needed
+ * again (for example by a respawned object) but can be reclaimed under memory pressure.
+ *
+ * <p>For zoomed-out cameras the cache also provides mipmaps of a sheet at half, quarter and eighth
+ * resolution, so renderers sample a texture close to its on-screen size instead of shrinking the
+ * full-resolution sheet every frame. Mipmaps are decoded on first use and dropped together with
+ * the full-resolution image.
+ *
+ * <p>Preloading decodes sheets on a pool of background threads, outside the cache's lock, so a
+ * level's sheets are decoded in parallel while views keep using the cache.
+ *
+ * @author Alana Zinkin, Billy McCune
+ */
+public class TextureCache {
+
+  private static final Logger LOG = LogManager.getLogger();
+  private static final TextureCache instance = new TextureCache();
+  private static final ExecutorService DECODERS = Executors.newFixedThreadPool(
+      Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+        Thread thread = new Thread(runnable, "texture-decoder");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  /**
+   * The smallest mipmap level, an eighth of the sheet's resolution.
+   */
+  public static final int MAX_MIPMAP_LEVEL = 3;
+
+  private final Map<String, Entry> entries = new HashMap<>();
+
+  private TextureCache() {
+  }
+
+  /**
+   * @return the texture cache instance
+   */
+  public static TextureCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Returns the decoded image for a sprite file and pins it until a matching
+   * {@link #release(File)}.
+   *
+   * @param spriteFile the image file of the sprite sheet
+   * @return the shared decoded image
+   * @throws FileNotFoundException if the image file cannot be opened
+   */
+  public synchronized Image acquire(File spriteFile) throws FileNotFoundException {
+    Entry entry = load(spriteFile);
+    entry.pin();
+    return entry.image;
+  }
+
+  /**
+   * Unpins an image obtained from {@link #acquire(File)}. Once no view holds it, the image becomes
+   * eligible for collection.
+   *
+   * @param spriteFile the image file passed to {@code acquire}
+   */
+  public synchronized void release(File spriteFile) {
+    Entry entry = entries.get(keyFor(spriteFile));
+    if (entry != null) {
+      entry.unpin();
+    }
+  }
+
+  /**
+   * Decodes sprite sheets ahead of time, typically while a level loads, so the first frame does not
+   * pay for decoding. Preloaded images are only softly held until a view acquires them.
+   *
+   * @param spriteFiles the image files to decode
+   */
+  public void preload(Collection<File> spriteFiles) {
+    preloadAsync(spriteFiles, progress -> {
+    }).join();
+  }
+
+  /**
+   * Decodes sprite sheets ahead of time in parallel, skipping sheets the cache still holds.
+   * Preloaded images are only softly held until a view acquires them; sheets that cannot be read
+   * are logged and skipped.
+   *
+   * @param spriteFiles the image files to decode
+   * @param progress    told the fraction of the sheets decoded so far, from {@code 0} to
+   *                    {@code 1}, on the decoding threads
+   * @return a future completed once every sheet is decoded
+   */
+  public CompletableFuture<Void> preloadAsync(Collection<File> spriteFiles,
+      DoubleConsumer progress) {
+    Map<String, File> missing = new LinkedHashMap<>();
+    synchronized (this) {
+      for (File spriteFile : spriteFiles) {
+        String key = keyFor(spriteFile);
+        Entry entry = entries.get(key);
+        if (entry == null || !entry.isReachable()) {
+          missing.putIfAbsent(key, spriteFile);
+        }
+      }
+    }
+    progress.accept(missing.isEmpty() ? 1 : 0);
+    AtomicInteger decoded = new AtomicInteger();
+    return CompletableFuture.allOf(missing.entrySet().stream()
+        .map(sheet -> CompletableFuture.runAsync(() -> {
+          preloadDecoded(sheet.getKey(), sheet.getValue());
+          progress.accept((double) decoded.incrementAndGet() / missing.size());
+        }, DECODERS))
+        .toArray(CompletableFuture[]::new));
+  }
+
+  private void preloadDecoded(String key, File spriteFile) {
+    Image image;
+    try {
+      image = decode(spriteFile);
+    } catch (FileNotFoundException | UncheckedIOException e) {
+      LOG.warn("Could not preload sprite sheet {}", spriteFile);
+      return;
+    }
+    synchronized (this) {
+      Entry entry = entries.get(key);
+      if (entry == null || !entry.isReachable()) {
+        Entry preloaded = new Entry(image);
+        preloaded.softenIfUnused();
+        entries.put(key, preloaded);
+      }
+    }
+  }
+
+  /**
+   * Returns the mipmap level that best matches a camera zoom: the largest level whose resolution
+   * is still at least the on-screen size of the sheet.
+   *
+   * @param zoom the scale the world is drawn at, {@code 1} for full size
+   * @return a level from {@code 0}, the full-resolution sheet, to {@link #MAX_MIPMAP_LEVEL}
+   */
+  public static int mipmapLevelFor(double zoom) {
+    if (zoom <= 0 || zoom > 0.5) {
+      return 0;
+    }
+    int level = (int) Math.floor(Math.log(1 / zoom) / Math.log(2) + 1e-9);
+    return Math.min(level, MAX_MIPMAP_LEVEL);
+  }
+
+  /**
+   * Returns a sheet scaled down by {@code 2^level}, decoding it on first use. Mipmaps are kept only
+   * while the sheet is held through {@link #acquire(File)} and are released with it; asking for a
+   * mipmap does not pin anything, so the mipmap of a sheet nobody holds is decoded again next time.
+   *
+   * @param spriteFile the image file of the sprite sheet
+   * @param level      the mipmap level, where {@code 0} is the full-resolution sheet
+   * @return the scaled sheet
+   * @throws FileNotFoundException if the image file cannot be opened
+   */
+  public synchronized Image getMipmap(File spriteFile, int level) throws FileNotFoundException {
+    Entry entry = load(spriteFile);
+    Image mipmap = entry.image;
+    if (level > 0) {
+      int clamped = Math.min(level, MAX_MIPMAP_LEVEL);
+      if (entry.mipmaps[clamped] == null) {
+        double scale = Math.pow(2, clamped);
+        entry.mipmaps[clamped] = decode(spriteFile,
+            Math.max(1, Math.round(entry.image.getWidth() / scale)),
+            Math.max(1, Math.round(entry.image.getHeight() / scale)));
+      }
+      mipmap = entry.mipmaps[clamped];
+    }
+    // load() revives an unheld sheet strongly; only acquire() may keep it that way
+    entry.softenIfUnused();
+    return mipmap;
+  }
+
+  /**
+   * @param spriteFile the image file of the sprite sheet
+   * @return the number of views currently holding the image
+   */
+  public synchronized int getReferenceCount(File spriteFile) {
+    Entry entry = entries.get(keyFor(spriteFile));
+    return entry == null ? 0 : entry.references;
+  }
+
+  private Entry load(File spriteFile) throws FileNotFoundException {
+    String key = keyFor(spriteFile);
+    Entry entry = entries.get(key);
+    if (entry != null && entry.revive()) {
+      return entry;
+    }
+    Entry loaded = new Entry(decode(spriteFile));
+    entries.put(key, loaded);
+    return loaded;
+  }
+
+  private static Image decode(File spriteFile) throws FileNotFoundException {
+    return decode(spriteFile, 0, 0);
+  }
+
+  private static Image decode(File spriteFile, double width, double height)
+      throws FileNotFoundException {
+    try (InputStream in = new FileInputStream(spriteFile)) {
+      // a size of zero decodes at the image's own size
+      return new Image(in, width, height, false, true);
+    } catch (FileNotFoundException e) {
+      throw e;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String keyFor(File spriteFile) {
+    try {
+      return spriteFile.getCanonicalPath();
+    } catch (IOException e) {
+      return spriteFile.getAbsolutePath();
+    }
+  }
+
+  /**
+   * A cached image: strongly held while referenced, softly held otherwise.
+   */
+  private static class Entry {
+
+    private final SoftReference<Image> softImage;
+    private final Image[] mipmaps = new Image[MAX_MIPMAP_LEVEL + 1];
+    private Image image;
+    private int references;
+
+    Entry(Image image) {
+      this.image = image;
+      this.softImage = new SoftReference<>(image);
+    }
+
+    boolean isReachable() {
+      return image != null || softImage.get() != null;
+    }
+
+    boolean revive() {
+      if (image == null) {
+        image = softImage.get();
+      }
+      return image != null;
+    }
+
+    void pin() {
+      references++;
+    }
+
+    void unpin() {
+      if (references > 0) {
+        references--;
+      }
+      softenIfUnused();
+    }
+
+    void softenIfUnused() {
+      if (references == 0) {
+        image = null;
+        Arrays.fill(mipmaps, null);
+      }
+    }
+  }
+}
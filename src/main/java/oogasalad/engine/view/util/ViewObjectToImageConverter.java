@@ -1,20 +1,21 @@
 package oogasalad.engine.view.util;
 
-import java.io.FileInputStream;
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.scene.transform.Rotate;
 import oogasalad.ResourceManager;
 import oogasalad.ResourceManagerAPI;
 import oogasalad.engine.model.object.ImmutableGameObject;
 import oogasalad.engine.view.ObjectImage;
+import oogasalad.engine.view.util.FrameVariantCache.FrameVariant;
 import oogasalad.fileparser.records.FrameData;
 
 /**
@@ -28,14 +29,34 @@ import oogasalad.fileparser.records.FrameData;
 public class ViewObjectToImageConverter {
 
   private static final ResourceManagerAPI resourceManager = ResourceManager.getInstance();
+  private static final Map<FrameData, Rectangle2D> frameViewports = new ConcurrentHashMap<>();
 
   private final Map<String, ObjectImage> UUIDToImageMap;
+  private final Map<File, Image> mipmaps;
+  private int mipmapLevel;
 
   /**
    * Constructs a new {@code ViewObjectToImageConverter} with an empty UUID-to-image map.
    */
   public ViewObjectToImageConverter() {
     UUIDToImageMap = new HashMap<>();
+    mipmaps = new HashMap<>();
+  }
+
+  /**
+   * Chooses the resolution frames are shown at from now on. Images only switch over when their
+   * frame is next shown, so callers refresh every image after a change.
+   *
+   * @param level the {@link TextureCache} mipmap level matching the camera zoom
+   * @return {@code true} if the level changed
+   */
+  public boolean setMipmapLevel(int level) {
+    if (level == mipmapLevel) {
+      return false;
+    }
+    mipmapLevel = level;
+    mipmaps.clear();
+    return true;
   }
 
   /**
@@ -51,95 +72,147 @@ public class ViewObjectToImageConverter {
       throws FileNotFoundException {
     List<ObjectImage> images = new ArrayList<>();
     for (ImmutableGameObject object : gameObjects) {
-      if (UUIDToImageMap.containsKey(object.getUUID())) {
-        UUIDToImageMap.get(object.getUUID())
-            .updateImageLocation(object.getXPosition(), object.getYPosition());
-        moveImageViewToCurrentFrame(object, UUIDToImageMap.get(object.getUUID()).getImageView());
-        rotateAndFlip(object);
-      } else {
-        ObjectImage newViewObject = new ObjectImage(object);
-        images.add(newViewObject);
-        UUIDToImageMap.put(object.getUUID(), newViewObject);
+      boolean isNew = !UUIDToImageMap.containsKey(object.getUUID());
+      ObjectImage image = convertObjectToImage(object);
+      if (isNew) {
+        images.add(image);
       }
     }
     return images;
   }
 
   /**
-   * rotates and/or flips the object
+   * Converts a single game object to its {@link ObjectImage}, creating the image the first time the
+   * object is seen. Afterwards only the properties flagged in
+   * {@link ImmutableGameObject#getDirtyFlags()} are pushed to the image, so objects that did not
+   * change cost nothing.
    *
-   * @param object game object to rotate and/or flip
+   * @param object the game object to convert
+   * @return the image of the object
+   * @throws FileNotFoundException if a sprite image file cannot be found
    */
-  private void rotateAndFlip(ImmutableGameObject object) {
-    if (object.getNeedsFlipped()) {
-      flipImageView(UUIDToImageMap.get(object.getUUID()).getImageView());
-      object.setNeedsFlipped(false);
+  public ObjectImage convertObjectToImage(ImmutableGameObject object)
+      throws FileNotFoundException {
+    return convertObjectToImage(object, false);
+  }
+
+  /**
+   * Converts a single game object to its {@link ObjectImage}, optionally pushing every property
+   * regardless of its dirty bits. Callers refresh an image that was not shown for a while, since
+   * changes made in the meantime are no longer flagged.
+   *
+   * @param object     the game object to convert
+   * @param refreshAll {@code true} to update every property of an existing image
+   * @return the image of the object
+   * @throws FileNotFoundException if a sprite image file cannot be found
+   */
+  public ObjectImage convertObjectToImage(ImmutableGameObject object, boolean refreshAll)
+      throws FileNotFoundException {
+    ObjectImage image = UUIDToImageMap.get(object.getUUID());
+    int dirtyFlags = refreshAll ? ImmutableGameObject.ALL_CHANGED : object.getDirtyFlags();
+    if (image == null) {
+      image = new ObjectImage(object);
+      UUIDToImageMap.put(object.getUUID(), image);
+      dirtyFlags = ImmutableGameObject.FLIP_CHANGED | ImmutableGameObject.ROTATION_CHANGED;
+    }
+    if ((dirtyFlags & ImmutableGameObject.POSITION_CHANGED) != 0) {
+      image.updateImageLocation(object.getXPosition(), object.getYPosition());
     }
-    if (object.getRotation() > 0) {
-      rotateAboutCenter(UUIDToImageMap.get(object.getUUID()).getImageView(), object.getRotation());
+    if ((dirtyFlags & (ImmutableGameObject.FRAME_CHANGED | ImmutableGameObject.FLIP_CHANGED
+        | ImmutableGameObject.ROTATION_CHANGED)) != 0) {
+      showCurrentFrame(object, image);
     }
+    object.clearDirtyFlags();
+    return image;
   }
 
   /**
    * Converts a single {@link FrameData} object to an {@link ImageView} configured with a viewport
-   * to show only the relevant sprite portion.
+   * to show only the relevant sprite portion. The sprite sheet comes from the shared
+   * {@link TextureCache}, so callers must release it once the view is discarded.
    *
    * @param viewObject object to display
    * @return an {@code ImageView} representing the frame
    * @throws FileNotFoundException if the sprite file cannot be loaded
    */
   public ImageView convertFrameToView(ImmutableGameObject viewObject) throws FileNotFoundException {
-    Image sprite = new Image(new FileInputStream(viewObject.getSpriteFile()));
+    Image sprite = TextureCache.getInstance().acquire(viewObject.getSpriteFile());
     ImageView imageView = new ImageView(sprite);
     makeViewport(viewObject, imageView);
     return imageView;
   }
 
-  private static void makeViewport(ImmutableGameObject viewObject, ImageView imageView) {
-    Rectangle2D viewport = new Rectangle2D(viewObject.getCurrentFrame().x(),
-        viewObject.getCurrentFrame().y(), viewObject.getCurrentFrame().width(),
-        viewObject.getCurrentFrame().height());
-
-    imageView.setViewport(viewport);
-    imageView.setFitWidth(viewport.getWidth());
-    imageView.setFitHeight(viewport.getHeight());
-    imageView.setViewOrder(viewObject.getLayer());
+  private void makeViewport(ImmutableGameObject viewObject, ImageView imageView) {
+    makeViewport(viewObject, imageView, 1, 1);
   }
 
-  public void moveImageViewToCurrentFrame(ImmutableGameObject viewObject, ImageView imageView) {
-    makeViewport(viewObject, imageView);
+  private void makeViewport(ImmutableGameObject viewObject, ImageView imageView, double scaleX,
+      double scaleY) {
+    FrameData frame = viewObject.getCurrentFrame();
+    Rectangle2D viewport = scaleX == 1 && scaleY == 1 ? viewportFor(frame)
+        : new Rectangle2D(frame.x() * scaleX, frame.y() * scaleY, frame.width() * scaleX,
+            frame.height() * scaleY);
+
+    imageView.setViewport(viewport);
+    imageView.setFitWidth(frame.width());
+    imageView.setFitHeight(frame.height());
   }
 
   /**
-   * flips the image view
+   * Returns the sprite sheet region of a frame. Frames are immutable, so every image showing the
+   * same frame shares one rectangle.
    *
-   * @param iv the image view to flip
+   * @param frame the frame to show
+   * @return the region of the sprite sheet the frame occupies
    */
-  public static void flipImageView(ImageView iv) {
-    Image img = iv.getImage();
-    if (img == null) {
-      return;
-    }
-
-    double w = iv.getBoundsInLocal().getWidth();
-
-    iv.setScaleX(iv.getScaleX() > 0 ? -1 : 1);
-
+  private static Rectangle2D viewportFor(FrameData frame) {
+    return frameViewports.computeIfAbsent(frame,
+        f -> new Rectangle2D(f.x(), f.y(), f.width(), f.height()));
   }
 
   /**
-   * Rotates the given ImageView by the specified angle (in degrees) about the image’s center.
+   * Shows the object's current frame in its image, in the object's orientation. A mirrored or
+   * rotated frame is shown as a pre-rendered variant from the {@link FrameVariantCache}, so the
+   * image view itself is never scaled or rotated. Other frames are cut from the sheet's mipmap at
+   * the current level and stretched back to their world size.
    *
-   * @param imageView the ImageView to rotate
-   * @param angle     rotation angle in degrees
+   * @param viewObject the object whose frame to show
+   * @param image      the image displaying the object
+   * @throws FileNotFoundException if a mipmap of the sprite sheet cannot be decoded
    */
-  public static void rotateAboutCenter(ImageView imageView, double angle) {
-    // clear out any old Rotate transforms so we don't stack them
-    imageView.getTransforms().removeIf(t -> t instanceof Rotate);
+  public void showCurrentFrame(ImmutableGameObject viewObject, ObjectImage image)
+      throws FileNotFoundException {
+    ImageView imageView = image.getImageView();
+    FrameVariantCache variants = FrameVariantCache.getInstance();
+    if (!variants.needsVariant(viewObject.isFlipped(), viewObject.getRotation())) {
+      Image sheet = mipmapOf(image);
+      imageView.setImage(sheet);
+      makeViewport(viewObject, imageView, sheet.getWidth() / image.getSpriteSheet().getWidth(),
+          sheet.getHeight() / image.getSpriteSheet().getHeight());
+      imageView.setTranslateX(0);
+      imageView.setTranslateY(0);
+      return;
+    }
+    FrameVariant variant = variants.getVariant(viewObject.getSpriteFile(), image.getSpriteSheet(),
+        viewObject.getCurrentFrame(), viewObject.isFlipped(), viewObject.getRotation());
+    imageView.setImage(variant.image());
+    imageView.setViewport(null);
+    imageView.setFitWidth(variant.image().getWidth());
+    imageView.setFitHeight(variant.image().getHeight());
+    imageView.setTranslateX(variant.offsetX());
+    imageView.setTranslateY(variant.offsetY());
+  }
 
-    // tell JavaFX to rotate around the centre of the node
-    imageView.setRotationAxis(Rotate.Z_AXIS);
-    imageView.setRotate(angle);
+  private Image mipmapOf(ObjectImage image) throws FileNotFoundException {
+    if (mipmapLevel == 0) {
+      return image.getSpriteSheet();
+    }
+    Image mipmap = mipmaps.get(image.getSpriteFile());
+    if (mipmap == null) {
+      mipmap = TextureCache.getInstance().getMipmap(image.getSpriteFile(), mipmapLevel);
+      mipmaps.put(image.getSpriteFile(), mipmap);
+    }
+    return mipmap;
   }
 
   /**
@@ -156,4 +229,40 @@ public class ViewObjectToImageConverter {
     }
     throw new NoSuchElementException(resourceManager.getText("Exceptions", "NoImage"));
   }
+
+  /**
+   * @param gameObject the Immutable game object
+   * @return true if an image has already been created for the game object
+   */
+  public boolean hasImageObject(ImmutableGameObject gameObject) {
+    return UUIDToImageMap.containsKey(gameObject.getUUID());
+  }
+
+  /**
+   * Forgets the image of a game object that left the level and releases its sprite sheet from the
+   * {@link TextureCache}.
+   *
+   * @param gameObject the Immutable game object
+   * @return the removed Object Image
+   * @throws NoSuchElementException if the game object is not found within the image map
+   */
+  public ObjectImage removeImageObject(ImmutableGameObject gameObject)
+      throws NoSuchElementException {
+    ObjectImage image = retrieveImageObject(gameObject);
+    UUIDToImageMap.remove(gameObject.getUUID());
+    TextureCache.getInstance().release(image.getSpriteFile());
+    return image;
+  }
+
+  /**
+   * Forgets every image and releases their sprite sheets from the {@link TextureCache}, once the
+   * display showing them is discarded.
+   */
+  public void releaseAll() {
+    for (ObjectImage image : UUIDToImageMap.values()) {
+      TextureCache.getInstance().release(image.getSpriteFile());
+    }
+    UUIDToImageMap.clear();
+    mipmaps.clear();
+  }
 }
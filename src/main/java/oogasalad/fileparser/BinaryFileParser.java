@@ -0,0 +1,301 @@
+package oogasalad.fileparser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import oogasalad.exceptions.LevelDataParseException;
+import oogasalad.exceptions.SpriteSheetLoadException;
+import oogasalad.fileparser.records.AnimationData;
+import oogasalad.fileparser.records.BlueprintData;
+import oogasalad.fileparser.records.CameraData;
+import oogasalad.fileparser.records.ConditionData;
+import oogasalad.fileparser.records.EventData;
+import oogasalad.fileparser.records.FrameData;
+import oogasalad.fileparser.records.GameObjectData;
+import oogasalad.fileparser.records.HitBoxData;
+import oogasalad.fileparser.records.LevelData;
+import oogasalad.fileparser.records.OutcomeData;
+import oogasalad.fileparser.records.SpriteData;
+import oogasalad.fileparser.records.SpriteSheetData;
+
+/**
+ * A {@link FileParserApi} that reads levels compiled into the binary format described by
+ * {@link BinaryLevelFormat}.
+ * <p>
+ * The file is memory-mapped and decoded straight from the mapping, so loading a level costs one
+ * sequential pass over its bytes with no XML parsing, no sprite file lookups and no intermediate
+ * copies. Sprite sheets are not compiled and are still parsed by {@link DefaultFileParser}.
+ * </p>
+ *
+ * @author Billy McCune
+ * @see BinaryLevelFormat
+ */
+public class BinaryFileParser implements FileParserApi {
+
+  private final DefaultFileParser mySpriteSheetParser;
+
+  /**
+   * Constructs a new {@code BinaryFileParser}.
+   */
+  public BinaryFileParser() {
+    mySpriteSheetParser = new DefaultFileParser();
+  }
+
+  /**
+   * Reads a compiled level file and returns a LevelData record.
+   *
+   * @param filePath the path to the compiled level file
+   * @return a LevelData record representing the compiled level
+   * @throws LevelDataParseException if the file cannot be read, is not a compiled level, has
+   *                                 another format version, or is truncated
+   */
+  @Override
+  public LevelData parseLevelFile(String filePath) throws LevelDataParseException {
+    try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      return new Decoder(buffer, filePath).readLevel();
+    } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException
+             | NegativeArraySizeException | IllegalArgumentException e) {
+      throw new LevelDataParseException("Could not read compiled level " + filePath, e);
+    }
+  }
+
+  /**
+   * Parse the specified sprite sheet XML file and return the sprite data.
+   *
+   * @param filePath the path to the sprite sheet to be parsed
+   * @return the {@link SpriteSheetData} record representing the parsed sprite sheet data
+   * @throws SpriteSheetLoadException if an error occurs while parsing the sprite sheet
+   */
+  @Override
+  public SpriteSheetData parseSpriteSheet(String filePath) throws SpriteSheetLoadException {
+    return mySpriteSheetParser.parseSpriteSheet(filePath);
+  }
+
+  /**
+   * Reads the sections of a compiled level in the order {@code BinaryStrategy} writes them.
+   */
+  private static class Decoder {
+
+    private final ByteBuffer buffer;
+    private final String filePath;
+    private String[] strings;
+    private EventData[] events;
+    private SpriteData[] sprites;
+
+    Decoder(ByteBuffer buffer, String filePath) {
+      this.buffer = buffer;
+      this.filePath = filePath;
+    }
+
+    LevelData readLevel() throws LevelDataParseException {
+      if (buffer.getInt() != BinaryLevelFormat.MAGIC) {
+        throw new LevelDataParseException("Not a compiled level: " + filePath);
+      }
+      short version = buffer.getShort();
+      if (version != BinaryLevelFormat.VERSION) {
+        throw new LevelDataParseException(
+            "Unsupported compiled level version " + version + ": " + filePath);
+      }
+      buffer.position(BinaryLevelFormat.HEADER_SIZE);
+      skipSourceStamp();
+      readStringTable();
+
+      String name = readString();
+      int minX = buffer.getInt();
+      int minY = buffer.getInt();
+      int maxX = buffer.getInt();
+      int maxY = buffer.getInt();
+      CameraData camera = readCamera();
+
+      events = new EventData[buffer.getInt()];
+      for (int i = 0; i < events.length; i++) {
+        events[i] = readEvent();
+      }
+      sprites = new SpriteData[buffer.getInt()];
+      for (int i = 0; i < sprites.length; i++) {
+        sprites[i] = readSprite();
+      }
+      int blueprintCount = buffer.getInt();
+      Map<Integer, BlueprintData> blueprints = blueprintCount < 0 ? null : new HashMap<>();
+      for (int i = 0; i < blueprintCount; i++) {
+        int key = buffer.getInt();
+        blueprints.put(key, readBlueprint());
+      }
+      int gameObjectCount = buffer.getInt();
+      List<GameObjectData> gameObjects = gameObjectCount < 0 ? null
+          : new ArrayList<>(gameObjectCount);
+      for (int i = 0; i < gameObjectCount; i++) {
+        gameObjects.add(readGameObject());
+      }
+      return new LevelData(name, minX, minY, maxX, maxY, camera, blueprints, gameObjects);
+    }
+
+    private void skipSourceStamp() {
+      int count = buffer.getInt();
+      for (int i = 0; i < count; i++) {
+        int pathLength = Short.toUnsignedInt(buffer.getShort());
+        buffer.position(buffer.position() + pathLength + 2 * Long.BYTES);
+      }
+    }
+
+    private void readStringTable() {
+      strings = new String[buffer.getInt()];
+      for (int i = 0; i < strings.length; i++) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        strings[i] = new String(bytes, StandardCharsets.UTF_8);
+      }
+    }
+
+    private CameraData readCamera() {
+      if (!readBoolean()) {
+        return null;
+      }
+      return new CameraData(readString(), readStringMap(), readDoubleMap());
+    }
+
+    private EventData readEvent() {
+      String type = readString();
+      String id = readString();
+      int conditionSetCount = buffer.getInt();
+      List<List<ConditionData>> conditions = new ArrayList<>(conditionSetCount);
+      for (int i = 0; i < conditionSetCount; i++) {
+        int conditionCount = buffer.getInt();
+        List<ConditionData> conditionSet = new ArrayList<>(conditionCount);
+        for (int j = 0; j < conditionCount; j++) {
+          conditionSet.add(new ConditionData(readString(), readStringMap(), readDoubleMap()));
+        }
+        conditions.add(conditionSet);
+      }
+      int outcomeCount = buffer.getInt();
+      List<OutcomeData> outcomes = new ArrayList<>(outcomeCount);
+      for (int i = 0; i < outcomeCount; i++) {
+        outcomes.add(new OutcomeData(readString(), readStringMap(), readDoubleMap()));
+      }
+      return new EventData(type, id, conditions, outcomes);
+    }
+
+    private SpriteData readSprite() {
+      String name = readString();
+      String path = readString();
+      FrameData baseImage = readFrame();
+      int frameCount = buffer.getInt();
+      List<FrameData> frames = new ArrayList<>(frameCount);
+      for (int i = 0; i < frameCount; i++) {
+        frames.add(readFrame());
+      }
+      int animationCount = buffer.getInt();
+      List<AnimationData> animations = new ArrayList<>(animationCount);
+      for (int i = 0; i < animationCount; i++) {
+        animations.add(new AnimationData(readString(), buffer.getDouble(), readStrings()));
+      }
+      return new SpriteData(name, path == null ? null : resolve(path), baseImage, frames,
+          animations);
+    }
+
+    private FrameData readFrame() {
+      if (!readBoolean()) {
+        return null;
+      }
+      return new FrameData(readString(), buffer.getInt(), buffer.getInt(), buffer.getInt(),
+          buffer.getInt());
+    }
+
+    private BlueprintData readBlueprint() {
+      int id = buffer.getInt();
+      double velocityX = buffer.getDouble();
+      double velocityY = buffer.getDouble();
+      double rotation = buffer.getDouble();
+      boolean isFlipped = readBoolean();
+      String gameName = readString();
+      String group = readString();
+      String type = readString();
+      int spriteIndex = buffer.getInt();
+      SpriteData sprite = spriteIndex < 0 ? null : sprites[spriteIndex];
+      HitBoxData hitBox = readBoolean() ? new HitBoxData(readString(), buffer.getInt(),
+          buffer.getInt(), buffer.getInt(), buffer.getInt()) : null;
+      int eventCount = buffer.getInt();
+      List<EventData> eventDataList = eventCount < 0 ? null : new ArrayList<>(eventCount);
+      for (int i = 0; i < eventCount; i++) {
+        int eventIndex = buffer.getInt();
+        eventDataList.add(eventIndex < 0 ? null : events[eventIndex]);
+      }
+      Map<String, String> stringProperties = readStringMap();
+      Map<String, Double> doubleProperties = readDoubleMap();
+      List<String> displayedProperties = readStrings();
+      return new BlueprintData(id, velocityX, velocityY, rotation, isFlipped, gameName, group,
+          type, sprite, hitBox, eventDataList, stringProperties, doubleProperties,
+          displayedProperties);
+    }
+
+    private GameObjectData readGameObject() {
+      String name = readString();
+      int blueprintId = buffer.getInt();
+      UUID uniqueId = readBoolean() ? new UUID(buffer.getLong(), buffer.getLong()) : null;
+      return new GameObjectData(name, blueprintId, uniqueId, buffer.getInt(), buffer.getInt(),
+          buffer.getInt(), readString());
+    }
+
+    private Map<String, String> readStringMap() {
+      int size = buffer.getInt();
+      if (size < 0) {
+        return null;
+      }
+      Map<String, String> map = new HashMap<>();
+      for (int i = 0; i < size; i++) {
+        map.put(readString(), readString());
+      }
+      return map;
+    }
+
+    private Map<String, Double> readDoubleMap() {
+      int size = buffer.getInt();
+      if (size < 0) {
+        return null;
+      }
+      Map<String, Double> map = new HashMap<>();
+      for (int i = 0; i < size; i++) {
+        map.put(readString(), buffer.getDouble());
+      }
+      return map;
+    }
+
+    private List<String> readStrings() {
+      int size = buffer.getInt();
+      if (size < 0) {
+        return null;
+      }
+      List<String> list = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        list.add(readString());
+      }
+      return list;
+    }
+
+    private String readString() {
+      int index = buffer.getInt();
+      return index < 0 ? null : strings[index];
+    }
+
+    private boolean readBoolean() {
+      return buffer.get() != 0;
+    }
+
+    private static File resolve(String path) {
+      File file = new File(path);
+      return file.isAbsolute() ? file : new File(System.getProperty("user.dir"), path);
+    }
+  }
+}
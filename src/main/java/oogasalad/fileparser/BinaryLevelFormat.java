@@ -0,0 +1,131 @@
+package oogasalad.fileparser;
+
+import java.io.BufferedInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import oogasalad.fileparser.LevelSourceStamp.FileStamp;
+
+/**
+ * Describes the compiled binary level format shared by {@link BinaryFileParser} and
+ * {@code BinaryStrategy}.
+ * <p>
+ * A compiled level starts with the magic number and the format version, followed by the
+ * {@link LevelSourceStamp} of the files it was compiled from: the path, size and modification time
+ * of the XML file and of the sprite files its sprites were read from (no files when it was not
+ * compiled from a file). A compiled file is only used in place of its XML file while that stamp
+ * still matches, so editing or replacing the XML or one of its sprite files makes it stale.
+ * </p>
+ * <p>
+ * After the header comes a string table, so repeated names, groups and property keys are stored
+ * once, followed by the camera, the events, the sprites, the blueprints and the game objects. Each
+ * section starts with its element count; events and sprites are referenced by index from the
+ * blueprints, so instances shared in the parsed level stay shared once read back.
+ * </p>
+ *
+ * @author Billy McCune
+ */
+public final class BinaryLevelFormat {
+
+  /**
+   * The first four bytes of every compiled level, "OOGL".
+   */
+  public static final int MAGIC = 0x4F4F474C;
+  /**
+   * The current format version; files of any other version are not read.
+   */
+  public static final short VERSION = 2;
+  /**
+   * The extension of compiled level files.
+   */
+  public static final String EXTENSION = ".bin";
+  /**
+   * The number of bytes before the source stamp.
+   */
+  public static final int HEADER_SIZE = Integer.BYTES + Short.BYTES;
+
+  private static final String SOURCE_EXTENSION = ".xml";
+
+  private BinaryLevelFormat() {
+  }
+
+  /**
+   * Returns the compiled file that belongs next to a level file: the same name with the
+   * {@code .xml} extension replaced by {@value #EXTENSION}.
+   *
+   * @param source the XML level file
+   * @return the compiled level file, which may not exist
+   */
+  public static File compiledFileFor(File source) {
+    String name = source.getName();
+    if (name.toLowerCase().endsWith(SOURCE_EXTENSION)) {
+      name = name.substring(0, name.length() - SOURCE_EXTENSION.length());
+    }
+    return new File(source.getParentFile(), name + EXTENSION);
+  }
+
+  /**
+   * Returns whether a compiled level exists, has the current format version and was compiled from
+   * the current contents of a source file and its sprite files, judged by their sizes and
+   * modification times.
+   *
+   * @param compiled the compiled level file
+   * @param source   the XML level file
+   * @return {@code true} if the compiled level can be read in place of the source
+   */
+  public static boolean isCompiledFrom(File compiled, File source) {
+    if (!compiled.isFile() || !source.isFile()) {
+      return false;
+    }
+    try (DataInputStream in = new DataInputStream(
+        new BufferedInputStream(new FileInputStream(compiled)))) {
+      if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+        return false;
+      }
+      return readStamp(in).matches(source);
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Writes the source stamp that follows the header: the number of stamped files, then the path,
+   * size and modification time of each.
+   *
+   * @param out   the compiled level, positioned right after the header
+   * @param stamp the stamp of the files the level was compiled from
+   * @throws IOException if the stamp cannot be written
+   */
+  public static void writeStamp(DataOutput out, LevelSourceStamp stamp) throws IOException {
+    out.writeInt(stamp.getFiles().size());
+    for (FileStamp file : stamp.getFiles()) {
+      out.writeUTF(file.path());
+      out.writeLong(file.length());
+      out.writeLong(file.lastModified());
+    }
+  }
+
+  /**
+   * Reads the source stamp written by {@link #writeStamp(DataOutput, LevelSourceStamp)}.
+   *
+   * @param in the compiled level, positioned right after the header
+   * @return the stamp of the files the level was compiled from
+   * @throws IOException if the stamp cannot be read
+   */
+  public static LevelSourceStamp readStamp(DataInput in) throws IOException {
+    int count = in.readInt();
+    if (count < 0) {
+      throw new IOException("Negative stamped file count " + count);
+    }
+    List<FileStamp> files = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      files.add(new FileStamp(in.readUTF(), in.readLong(), in.readLong()));
+    }
+    return new LevelSourceStamp(files);
+  }
+}
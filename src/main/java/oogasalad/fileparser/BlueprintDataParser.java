@@ -1,10 +1,13 @@
 package oogasalad.fileparser;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import oogasalad.exceptions.BlueprintParseException;
 import oogasalad.exceptions.EventParseException;
 import oogasalad.exceptions.HitBoxParseException;
@@ -12,6 +15,7 @@ import oogasalad.exceptions.PropertyParsingException;
 import oogasalad.exceptions.SpriteParseException;
 import oogasalad.fileparser.records.BlueprintData;
 import oogasalad.fileparser.records.EventData;
+import oogasalad.fileparser.records.GameObjectData;
 import oogasalad.fileparser.records.HitBoxData;
 import oogasalad.fileparser.records.SpriteData;
 import oogasalad.fileparser.records.SpriteRequest;
@@ -48,6 +52,7 @@ public class BlueprintDataParser {
   private SpriteDataParser mySpriteDataParser;
   private HitBoxDataParser myHitBoxDataParser;
   private List<EventData> myEventDataList;
+  private Map<BlueprintData, SpriteRequest> mySpriteRequests;
   private PropertyParser propertyParser;
 
   /**
@@ -70,7 +75,33 @@ public class BlueprintDataParser {
   public Map<Integer, BlueprintData> getBlueprintData(Element root, List<EventData> eventList)
       throws BlueprintParseException, SpriteParseException, HitBoxParseException,
       PropertyParsingException, EventParseException {
+    return getBlueprintData(root, eventList, null);
+  }
+
+  /**
+   * Extracts blueprint data from the provided XML root element, only resolving the sprites of the
+   * blueprints a level can instantiate.
+   * <p>
+   * Blueprints the level's objects are made from, and those their events spawn or change objects
+   * into, get their sprite now. The others are returned as stubs of a {@link LazyBlueprintMap}
+   * that parse their sprite the first time they are looked up.
+   * </p>
+   *
+   * @param root        the root XML {@link Element} containing <code>&lt;game&gt;</code> nodes.
+   * @param eventList   a list of {@link EventData} objects to be associated with blueprint event
+   *                    IDs.
+   * @param gameObjects the objects placed in the level's layers, or {@code null} to resolve every
+   *                    blueprint.
+   * @return a {@link Map} of blueprint data, keyed by their blueprint ID.
+   * @throws BlueprintParseException if any parsing error occurs.
+   */
+  public Map<Integer, BlueprintData> getBlueprintData(Element root, List<EventData> eventList,
+      Collection<GameObjectData> gameObjects)
+      throws BlueprintParseException, SpriteParseException, HitBoxParseException,
+      PropertyParsingException, EventParseException {
     myEventDataList = eventList;
+    mySpriteDataParser = new SpriteDataParser();
+    mySpriteRequests = new IdentityHashMap<>();
     NodeList gameNodes = root.getElementsByTagName("game");
     List<BlueprintData> gameObjectDataList = new ArrayList<>();
     for (int i = 0; i < gameNodes.getLength(); i++) {
@@ -82,7 +113,60 @@ public class BlueprintDataParser {
       gameName = gameElement.getAttribute("name");
       gameObjectDataList.addAll(parseByGame(gameElement));
     }
-    return createBlueprintDataMap(gameObjectDataList);
+    Map<Integer, BlueprintData> spriteless = createBlueprintDataMap(gameObjectDataList);
+    Set<Integer> reachable = gameObjects == null ? spriteless.keySet()
+        : BlueprintReachability.reachableIds(gameObjects, spriteless);
+    return linkSprites(gameObjectDataList, reachable);
+  }
+
+  /**
+   * Gives the reachable blueprints their sprite, in document order, and leaves the others as
+   * stubs. The reachable sprite files are all started in the background first, so they are read in
+   * parallel while the sprites are linked one by one.
+   *
+   * @param blueprints the parsed blueprints, without their sprites, in document order.
+   * @param reachable  the ids of the blueprints to resolve now.
+   * @return the blueprints by id, lazy if any of them were left as stubs.
+   * @throws SpriteParseException if the sprite of a reachable blueprint cannot be parsed.
+   */
+  private Map<Integer, BlueprintData> linkSprites(List<BlueprintData> blueprints,
+      Set<Integer> reachable) throws SpriteParseException {
+    for (BlueprintData blueprint : blueprints) {
+      SpriteRequest request = mySpriteRequests.get(blueprint);
+      if (request != null && reachable.contains(blueprint.blueprintId())) {
+        mySpriteDataParser.prefetch(request);
+      }
+    }
+    Map<Integer, BlueprintData> linked = new HashMap<>();
+    Map<Integer, LazyBlueprintMap.Resolver> stubs = new HashMap<>();
+    SpriteDataParser spriteDataParser = mySpriteDataParser;
+    for (BlueprintData blueprint : blueprints) {
+      SpriteRequest request = mySpriteRequests.get(blueprint);
+      stubs.remove(blueprint.blueprintId());
+      if (request != null && reachable.contains(blueprint.blueprintId())) {
+        blueprint = withSprite(blueprint, spriteDataParser.getSpriteData(request));
+      } else if (request != null) {
+        stubs.put(blueprint.blueprintId(),
+            stub -> withSprite(stub, spriteDataParser.getSpriteData(request)));
+      }
+      linked.put(blueprint.blueprintId(), blueprint);
+    }
+    return stubs.isEmpty() ? linked : new LazyBlueprintMap(linked, stubs);
+  }
+
+  /**
+   * Copies a blueprint with its sprite set.
+   *
+   * @param blueprint  the blueprint.
+   * @param spriteData the blueprint's sprite.
+   * @return the blueprint with the sprite.
+   */
+  static BlueprintData withSprite(BlueprintData blueprint, SpriteData spriteData) {
+    return new BlueprintData(blueprint.blueprintId(), blueprint.velocityX(),
+        blueprint.velocityY(), blueprint.rotation(), blueprint.isFlipped(),
+        blueprint.gameName(), blueprint.group(), blueprint.type(), spriteData,
+        blueprint.hitBoxData(), blueprint.eventDataList(), blueprint.stringProperties(),
+        blueprint.doubleProperties(), blueprint.displayedProperties());
   }
 
   /**
@@ -156,9 +240,10 @@ public class BlueprintDataParser {
    * Parses a single game object node into a {@link BlueprintData} record.
    * <p>
    * This method extracts basic attributes (ID, velocityX, velocityY, rotation, isFlipped, shape, sprite name,
-   * and sprite file), creates the corresponding {@link SpriteData} and {@link HitBoxData} objects,
-   * processes event identifiers, and parses property nodes using the dedicated
-   * {@link PropertyParser}.
+   * and sprite file), creates the corresponding {@link HitBoxData} object, processes event
+   * identifiers, and parses property nodes using the dedicated {@link PropertyParser}. The
+   * blueprint's {@link SpriteData} is left out and its request recorded, to be linked once every
+   * blueprint is parsed.
    * </p>
    *
    * @param gameObjectNode the XML {@link Element} representing a game object.
@@ -169,7 +254,6 @@ public class BlueprintDataParser {
   private BlueprintData parseGameObjectData(Element gameObjectNode)
       throws BlueprintParseException, SpriteParseException, HitBoxParseException,
       PropertyParsingException {
-    mySpriteDataParser = new SpriteDataParser();
     try {
       int id = Integer.parseInt(gameObjectNode.getAttribute("id"));
       double velocityX = Double.parseDouble(gameObjectNode.getAttribute("velocityX"));
@@ -180,11 +264,9 @@ public class BlueprintDataParser {
       String spriteName = gameObjectNode.getAttribute("spriteName");
       String spriteFile = gameObjectNode.getAttribute("spriteFile");
 
-      SpriteData spriteData = null;
+      SpriteRequest request = null;
       if (gameName != null && !gameName.isEmpty()) {
-        SpriteRequest request = new SpriteRequest(gameName, groupName, type, spriteName,
-            spriteFile);
-        spriteData = mySpriteDataParser.getSpriteData(request);
+        request = new SpriteRequest(gameName, groupName, type, spriteName, spriteFile);
       }
 
       HitBoxData hitBoxData = myHitBoxDataParser.getHitBoxData(gameObjectNode);
@@ -196,7 +278,7 @@ public class BlueprintDataParser {
           "stringProperties", "property");
       List<String> displayedProperties = getDisplayedProperties(gameObjectNode);
 
-      return new BlueprintData(
+      BlueprintData blueprint = new BlueprintData(
           id,
           velocityX,
           velocityY,
@@ -205,13 +287,17 @@ public class BlueprintDataParser {
           gameName,
           groupName,
           type,
-          spriteData,
+          null,
           hitBoxData,
           eventDataList,
           stringProperties,
           doubleProperties,
           displayedProperties
       );
+      if (request != null) {
+        mySpriteRequests.put(blueprint, request);
+      }
+      return blueprint;
     } catch (NumberFormatException e) {
       throw new BlueprintParseException("error.number", e);
     }
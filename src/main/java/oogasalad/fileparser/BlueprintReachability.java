@@ -0,0 +1,67 @@
+package oogasalad.fileparser;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import oogasalad.fileparser.records.BlueprintData;
+import oogasalad.fileparser.records.EventData;
+import oogasalad.fileparser.records.GameObjectData;
+import oogasalad.fileparser.records.OutcomeData;
+
+/**
+ * Finds the blueprints a level can actually instantiate: the ones its layer objects are made from,
+ * and, transitively, the ones the events of those blueprints spawn or change objects into.
+ *
+ * @author Billy McCune
+ */
+final class BlueprintReachability {
+
+  private static final Set<String> SPAWNING_OUTCOMES =
+      Set.of("SPAWN_NEW_OBJECT", "SPAWN_ON_OBJECT", "CHANGE_OBJECT");
+  private static final String BLUEPRINT_ID_PARAMETER = "blueprintId";
+
+  private BlueprintReachability() {
+  }
+
+  /**
+   * Collects the ids of the blueprints reachable from a level's objects.
+   *
+   * @param gameObjects the objects placed in the level's layers
+   * @param blueprints  the level's blueprints, with their events linked; sprites are not needed
+   * @return the reachable blueprint ids, including ids with no matching blueprint
+   */
+  static Set<Integer> reachableIds(Collection<GameObjectData> gameObjects,
+      Map<Integer, BlueprintData> blueprints) {
+    Set<Integer> reachable = new HashSet<>();
+    Deque<Integer> unvisited = new ArrayDeque<>();
+    for (GameObjectData gameObject : gameObjects) {
+      if (reachable.add(gameObject.blueprintId())) {
+        unvisited.add(gameObject.blueprintId());
+      }
+    }
+    while (!unvisited.isEmpty()) {
+      BlueprintData blueprint = blueprints.get(unvisited.poll());
+      if (blueprint == null || blueprint.eventDataList() == null) {
+        continue;
+      }
+      for (EventData event : blueprint.eventDataList()) {
+        if (event == null || event.outcomes() == null) {
+          continue;
+        }
+        for (OutcomeData outcome : event.outcomes()) {
+          Double spawnedId = outcome.doubleProperties() == null ? null
+              : outcome.doubleProperties().get(BLUEPRINT_ID_PARAMETER);
+          // outcomes round the id up, see SpawnNewObjectOutcome
+          if (SPAWNING_OUTCOMES.contains(outcome.name()) && spawnedId != null
+              && reachable.add((int) Math.ceil(spawnedId))) {
+            unvisited.add((int) Math.ceil(spawnedId));
+          }
+        }
+      }
+    }
+    return reachable;
+  }
+}
@@ -0,0 +1,83 @@
+package oogasalad.fileparser;
+
+import java.io.File;
+import oogasalad.exceptions.BlueprintParseException;
+import oogasalad.exceptions.EventParseException;
+import oogasalad.exceptions.GameObjectParseException;
+import oogasalad.exceptions.HitBoxParseException;
+import oogasalad.exceptions.LayerParseException;
+import oogasalad.exceptions.LevelDataParseException;
+import oogasalad.exceptions.PropertyParsingException;
+import oogasalad.exceptions.SpriteParseException;
+import oogasalad.exceptions.SpriteSheetLoadException;
+import oogasalad.fileparser.records.LevelData;
+import oogasalad.fileparser.records.SpriteSheetData;
+
+/**
+ * A {@link FileParserApi} that answers level requests from a {@link LevelDataCache} and only asks
+ * another parser for levels that are not cached or whose file or sprite files changed since they
+ * were cached.
+ * <p>
+ * Levels it returns are the cache's unmodifiable copies; see
+ * {@link LevelDataCache#mutableCopy(LevelData)} for callers that edit them.
+ * </p>
+ *
+ * @author Billy McCune
+ * @see LevelDataCache
+ */
+public class CachingFileParser implements FileParserApi {
+
+  private final FileParserApi myParser;
+  private final LevelDataCache myCache;
+
+  /**
+   * Constructs a parser backed by the shared level cache.
+   *
+   * @param parser the parser used on cache misses
+   */
+  public CachingFileParser(FileParserApi parser) {
+    this(parser, LevelDataCache.getInstance());
+  }
+
+  /**
+   * Constructs a parser backed by the given cache.
+   *
+   * @param parser the parser used on cache misses
+   * @param cache  the cache of parsed levels
+   */
+  public CachingFileParser(FileParserApi parser, LevelDataCache cache) {
+    myParser = parser;
+    myCache = cache;
+  }
+
+  /**
+   * Returns the cached level of a file, parsing it first if needed.
+   *
+   * @param filePath the path to the level file
+   * @return an unmodifiable LevelData record representing the level
+   */
+  @Override
+  public LevelData parseLevelFile(String filePath)
+      throws BlueprintParseException, SpriteParseException,
+      HitBoxParseException, GameObjectParseException, LevelDataParseException,
+      PropertyParsingException, EventParseException, LayerParseException {
+    File levelFile = new File(filePath);
+    LevelData cached = myCache.get(levelFile);
+    if (cached != null) {
+      return cached;
+    }
+    return myCache.put(levelFile, myParser.parseLevelFile(filePath));
+  }
+
+  /**
+   * Parse the specified sprite sheet XML file and return the sprite data.
+   *
+   * @param filePath the path to the sprite sheet to be parsed
+   * @return the {@link SpriteSheetData} record representing the parsed sprite sheet data
+   * @throws SpriteSheetLoadException if an error occurs while parsing the sprite sheet
+   */
+  @Override
+  public SpriteSheetData parseSpriteSheet(String filePath) throws SpriteSheetLoadException {
+    return myParser.parseSpriteSheet(filePath);
+  }
+}
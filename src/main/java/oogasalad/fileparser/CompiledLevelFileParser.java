@@ -0,0 +1,106 @@
+package oogasalad.fileparser;
+
+import java.io.File;
+import oogasalad.exceptions.BlueprintParseException;
+import oogasalad.exceptions.EditorSaveException;
+import oogasalad.exceptions.EventParseException;
+import oogasalad.exceptions.GameObjectParseException;
+import oogasalad.exceptions.HitBoxParseException;
+import oogasalad.exceptions.LayerParseException;
+import oogasalad.exceptions.LevelDataParseException;
+import oogasalad.exceptions.PropertyParsingException;
+import oogasalad.exceptions.SpriteParseException;
+import oogasalad.exceptions.SpriteSheetLoadException;
+import oogasalad.fileparser.records.LevelData;
+import oogasalad.fileparser.records.SpriteSheetData;
+import oogasalad.filesaver.savestrategy.BinaryStrategy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A {@link FileParserApi} that loads a level from the compiled {@value BinaryLevelFormat#EXTENSION}
+ * file next to it whenever that file is still fresh, and otherwise parses the XML file with
+ * another parser.
+ * <p>
+ * When given a {@link BinaryStrategy}, every XML level it has to parse is compiled next to the
+ * source afterwards, so only the first load after an edit pays for XML parsing. A compiled file
+ * that cannot be read or written is only logged, and the XML file is used instead.
+ * </p>
+ *
+ * @author Billy McCune
+ * @see BinaryLevelFormat
+ */
+public class CompiledLevelFileParser implements FileParserApi {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final FileParserApi mySourceParser;
+  private final BinaryFileParser myBinaryParser;
+  private final BinaryStrategy myCompiler;
+
+  /**
+   * Constructs a parser that reads fresh compiled levels but never writes them.
+   *
+   * @param sourceParser the parser for XML level files
+   */
+  public CompiledLevelFileParser(FileParserApi sourceParser) {
+    this(sourceParser, null);
+  }
+
+  /**
+   * Constructs a parser that reads fresh compiled levels and compiles the XML levels it parses.
+   *
+   * @param sourceParser the parser for XML level files
+   * @param compiler     the strategy that writes compiled levels, or {@code null} to never write
+   *                     them
+   */
+  public CompiledLevelFileParser(FileParserApi sourceParser, BinaryStrategy compiler) {
+    mySourceParser = sourceParser;
+    myBinaryParser = new BinaryFileParser();
+    myCompiler = compiler;
+  }
+
+  /**
+   * Parses a level, from its compiled file when that is fresh or from the XML file otherwise.
+   *
+   * @param filePath the path to the XML level file
+   * @return a LevelData record representing the parsed level
+   */
+  @Override
+  public LevelData parseLevelFile(String filePath)
+      throws BlueprintParseException, SpriteParseException,
+      HitBoxParseException, GameObjectParseException, LevelDataParseException,
+      PropertyParsingException, EventParseException, LayerParseException {
+    File source = new File(filePath);
+    File compiled = BinaryLevelFormat.compiledFileFor(source);
+    if (BinaryLevelFormat.isCompiledFrom(compiled, source)) {
+      try {
+        return myBinaryParser.parseLevelFile(compiled.getPath());
+      } catch (LevelDataParseException e) {
+        LOG.warn("Could not read compiled level {}, parsing {} instead", compiled, source, e);
+      }
+    }
+    LevelData levelData = mySourceParser.parseLevelFile(filePath);
+    if (myCompiler != null) {
+      try {
+        myCompiler.compile(levelData, source);
+      } catch (EditorSaveException | IllegalStateException e) {
+        // compiling resolves every lazy blueprint, so unused broken ones surface here
+        LOG.warn("Could not compile level {}", source, e);
+      }
+    }
+    return levelData;
+  }
+
+  /**
+   * Parse the specified sprite sheet XML file and return the sprite data.
+   *
+   * @param filePath the path to the sprite sheet to be parsed
+   * @return the {@link SpriteSheetData} record representing the parsed sprite sheet data
+   * @throws SpriteSheetLoadException if an error occurs while parsing the sprite sheet
+   */
+  @Override
+  public SpriteSheetData parseSpriteSheet(String filePath) throws SpriteSheetLoadException {
+    return mySourceParser.parseSpriteSheet(filePath);
+  }
+}
@@ -114,12 +114,12 @@ public class DefaultFileParser implements FileParserApi {
 
       List<EventData> eventList = myEventDataParser.getLevelEvents(root);
 
-      Map<Integer, BlueprintData> blueprintData = myGameObjectParser.getBlueprintData(root,
-          eventList);
-
       List<GameObjectData> gameObjectDataList = layerDataParser.getGameObjectDataList(
           root);
 
+      Map<Integer, BlueprintData> blueprintData = myGameObjectParser.getBlueprintData(root,
+          eventList, gameObjectDataList);
+
       CameraData cameraData = myCameraDataParser.parseCameraData(root);
 
       return new LevelData(levelName, minX, minY, maxX, maxY, cameraData, blueprintData,
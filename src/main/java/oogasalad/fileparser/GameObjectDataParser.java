@@ -3,8 +3,6 @@ package oogasalad.fileparser;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import oogasalad.exceptions.GameObjectParseException;
 import oogasalad.fileparser.records.GameObjectData;
 import org.w3c.dom.Element;
@@ -26,7 +24,8 @@ public class GameObjectDataParser {
    * <p>
    * The method reads the blueprint ID, a list of UUIDs, and a coordinate string of the form
    * {@code "(x1,y1),(x2,y2),..."}. Each UUID is paired with one coordinate set to form a
-   * {@code GameObjectData} entry.
+   * {@code GameObjectData} entry. Elements written in the packed form of
+   * {@link LayerObjectFormat} are read from their packed attributes instead.
    * </p>
    *
    * @param gameObjectElement the XML element representing the game object
@@ -36,32 +35,65 @@ public class GameObjectDataParser {
    */
   public List<GameObjectData> getGameObjectData(Element gameObjectElement, int z)
       throws GameObjectParseException {
-    try {
-      int blueprintId = Integer.parseInt(gameObjectElement.getAttribute("id"));
-
-      String nameAttr = gameObjectElement.getAttribute("name");
-      String uidAttr = gameObjectElement.getAttribute("uid");
-      String[] uidArray = uidAttr.split(",");
-      String coordinates = gameObjectElement.getAttribute("coordinates");
-      List<GameObjectData> gameObjectDataList = new ArrayList<>();
+    return getGameObjectData(gameObjectElement.getAttribute("id"),
+        gameObjectElement.getAttribute("name"), gameObjectElement.getAttribute("uid"),
+        gameObjectElement.getAttribute("coordinates"),
+        gameObjectElement.getAttribute(LayerObjectFormat.PACKED_UIDS),
+        gameObjectElement.getAttribute(LayerObjectFormat.PACKED_COORDINATES), z);
+  }
 
-      Pattern pattern = Pattern.compile("\\((-?\\d+),(-?\\d+)\\)");
-      Matcher matcher = pattern.matcher(coordinates);
+  /**
+   * Creates the {@link GameObjectData} records of a game object element from its attribute values,
+   * for parsers that read attributes without building a DOM element.
+   *
+   * @param idAttr      the blueprint ID attribute
+   * @param nameAttr    the editor name attribute, or an empty string
+   * @param uidAttr     the comma separated UUIDs of the instances
+   * @param coordinates the coordinates of the instances, as {@code "(x1,y1),(x2,y2),..."}
+   * @param z           the z-index layer of the game object
+   * @return a list of {@link GameObjectData} objects created from the attributes
+   * @throws GameObjectParseException if the input data is malformed or parsing fails
+   */
+  public List<GameObjectData> getGameObjectData(String idAttr, String nameAttr, String uidAttr,
+      String coordinates, int z) throws GameObjectParseException {
+    return getGameObjectData(idAttr, nameAttr, uidAttr, coordinates, "", "", z);
+  }
 
-      int index = 0;
-      while (matcher.find()) {
-        int x = Integer.parseInt(matcher.group(1));
-        int y = Integer.parseInt(matcher.group(2));
+  /**
+   * Creates the {@link GameObjectData} records of a game object element from its attribute values,
+   * reading each packed attribute that is present in place of its text counterpart.
+   *
+   * @param idAttr            the blueprint ID attribute
+   * @param nameAttr          the editor name attribute, or an empty string
+   * @param uidAttr           the comma separated UUIDs of the instances
+   * @param coordinates       the coordinates of the instances, as {@code "(x1,y1),(x2,y2),..."}
+   * @param packedUids        the {@value LayerObjectFormat#PACKED_UIDS} attribute, or an empty
+   *                          string
+   * @param packedCoordinates the {@value LayerObjectFormat#PACKED_COORDINATES} attribute, or an
+   *                          empty string
+   * @param z                 the z-index layer of the game object
+   * @return a list of {@link GameObjectData} objects created from the attributes
+   * @throws GameObjectParseException if the input data is malformed or parsing fails
+   */
+  public List<GameObjectData> getGameObjectData(String idAttr, String nameAttr, String uidAttr,
+      String coordinates, String packedUids, String packedCoordinates, int z)
+      throws GameObjectParseException {
+    try {
+      int blueprintId = Integer.parseInt(idAttr);
+      boolean packed = !packedCoordinates.isEmpty();
+      int[] positions = packed ? LayerObjectFormat.decodeCoordinates(packedCoordinates)
+          : LayerObjectFormat.scanCoordinates(coordinates);
+      int count = positions.length / 2;
+      UUID[] uuids = packedUids.isEmpty() ? LayerObjectFormat.scanUuids(uidAttr, count)
+          : LayerObjectFormat.decodeUuids(packedUids);
+      count = Math.min(count, uuids.length);
 
-        if (index < uidArray.length) {
-          UUID uuid = UUID.fromString(uidArray[index].trim());
-          gameObjectDataList.add(new GameObjectData(nameAttr, blueprintId, uuid, x, y, z, ""));
-        } else {
-          break;
-        }
-        index++;
+      List<GameObjectData> gameObjectDataList = new ArrayList<>(count);
+      for (int index = 0; index < count; index++) {
+        gameObjectDataList.add(new GameObjectData(nameAttr, blueprintId, uuids[index],
+            positions[2 * index], positions[2 * index + 1], z, ""));
       }
-      if (gameObjectDataList.isEmpty() && !coordinates.trim().isEmpty()) {
+      if (gameObjectDataList.isEmpty() && !packed && !coordinates.trim().isEmpty()) {
         throw new GameObjectParseException("Invalid coordinate format: " + coordinates);
       }
 
@@ -0,0 +1,247 @@
+package oogasalad.fileparser;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import oogasalad.exceptions.GameObjectParseException;
+
+/**
+ * Describes how the instances of a layer {@code <object>} element are written, shared by
+ * {@link GameObjectDataParser} and {@code XmlLayersWriter}, and reads both forms without regular
+ * expressions or intermediate strings.
+ * <p>
+ * The text form lists the instances in a {@code coordinates} attribute, as
+ * {@code "(x1,y1),(x2,y2),..."}, and a {@code uid} attribute of comma separated UUIDs. Large
+ * layers are written in the packed form instead: {@value #PACKED_COORDINATES} holds the base64 of
+ * little-endian {@code int} pairs and {@value #PACKED_UIDS} the base64 of each UUID's most and
+ * least significant bits as little-endian {@code long}s.
+ * </p>
+ *
+ * @author Billy McCune
+ */
+public final class LayerObjectFormat {
+
+  /**
+   * The attribute holding packed coordinates, used instead of {@code coordinates} when present.
+   */
+  public static final String PACKED_COORDINATES = "packedCoordinates";
+  /**
+   * The attribute holding packed UUIDs, used instead of {@code uid} when present.
+   */
+  public static final String PACKED_UIDS = "packedUids";
+
+  private static final int UUID_TEXT_LENGTH = 36;
+  private static final int UUID_BYTES = 2 * Long.BYTES;
+  private static final int COORDINATE_BYTES = 2 * Integer.BYTES;
+
+  private LayerObjectFormat() {
+  }
+
+  /**
+   * Reads the {@code (x,y)} pairs of a text coordinate list. Like the pattern the list used to be
+   * matched with, text between pairs and pairs that are not two plain integers are skipped.
+   *
+   * @param coordinates the text coordinate list
+   * @return the coordinates, as {@code x1, y1, x2, y2, ...}
+   * @throws GameObjectParseException if a coordinate does not fit in an {@code int}
+   */
+  public static int[] scanCoordinates(String coordinates) throws GameObjectParseException {
+    int[] values = new int[8];
+    int count = 0;
+    int length = coordinates.length();
+    int start = coordinates.indexOf('(');
+    while (start >= 0) {
+      int xEnd = scanInteger(coordinates, start + 1, length);
+      int yEnd = xEnd > 0 && xEnd < length && coordinates.charAt(xEnd) == ','
+          ? scanInteger(coordinates, xEnd + 1, length) : -1;
+      if (yEnd > 0 && yEnd < length && coordinates.charAt(yEnd) == ')') {
+        if (count + 2 > values.length) {
+          values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[count++] = parseInteger(coordinates, start + 1, xEnd);
+        values[count++] = parseInteger(coordinates, xEnd + 1, yEnd);
+        start = coordinates.indexOf('(', yEnd + 1);
+      } else {
+        start = coordinates.indexOf('(', start + 1);
+      }
+    }
+    return Arrays.copyOf(values, count);
+  }
+
+  /**
+   * Reads a comma separated UUID list, ignoring the spaces around each UUID.
+   *
+   * @param uids  the UUID list
+   * @param limit the most UUIDs to read
+   * @return the UUIDs, at most {@code limit} of them
+   * @throws IllegalArgumentException if one of the read entries is not a UUID, as
+   *                                  {@link UUID#fromString(String)} does
+   */
+  public static UUID[] scanUuids(String uids, int limit) {
+    UUID[] values = new UUID[Math.min(limit, countEntries(uids))];
+    int start = 0;
+    for (int i = 0; i < values.length; i++) {
+      int end = uids.indexOf(',', start);
+      if (end < 0) {
+        end = uids.length();
+      }
+      values[i] = parseUuid(uids, start, end);
+      start = end + 1;
+    }
+    return values;
+  }
+
+  /**
+   * Decodes a {@value #PACKED_COORDINATES} attribute.
+   *
+   * @param packed the attribute value
+   * @return the coordinates, as {@code x1, y1, x2, y2, ...}
+   * @throws GameObjectParseException if the value is not packed coordinates
+   */
+  public static int[] decodeCoordinates(String packed) throws GameObjectParseException {
+    ByteBuffer buffer = decode(packed, COORDINATE_BYTES, PACKED_COORDINATES);
+    int[] values = new int[buffer.remaining() / Integer.BYTES];
+    buffer.asIntBuffer().get(values);
+    return values;
+  }
+
+  /**
+   * Decodes a {@value #PACKED_UIDS} attribute.
+   *
+   * @param packed the attribute value
+   * @return the UUIDs
+   * @throws GameObjectParseException if the value is not packed UUIDs
+   */
+  public static UUID[] decodeUuids(String packed) throws GameObjectParseException {
+    ByteBuffer buffer = decode(packed, UUID_BYTES, PACKED_UIDS);
+    UUID[] values = new UUID[buffer.remaining() / UUID_BYTES];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = new UUID(buffer.getLong(), buffer.getLong());
+    }
+    return values;
+  }
+
+  /**
+   * Encodes coordinates as a {@value #PACKED_COORDINATES} attribute.
+   *
+   * @param coordinates the coordinates, as {@code x1, y1, x2, y2, ...}
+   * @return the attribute value
+   */
+  public static String encodeCoordinates(int[] coordinates) {
+    ByteBuffer buffer = ByteBuffer.allocate(coordinates.length * Integer.BYTES)
+        .order(ByteOrder.LITTLE_ENDIAN);
+    buffer.asIntBuffer().put(coordinates);
+    return Base64.getEncoder().encodeToString(buffer.array());
+  }
+
+  /**
+   * Encodes UUIDs as a {@value #PACKED_UIDS} attribute.
+   *
+   * @param uids the UUIDs
+   * @return the attribute value
+   */
+  public static String encodeUuids(List<UUID> uids) {
+    ByteBuffer buffer = ByteBuffer.allocate(uids.size() * UUID_BYTES)
+        .order(ByteOrder.LITTLE_ENDIAN);
+    for (UUID uid : uids) {
+      buffer.putLong(uid.getMostSignificantBits());
+      buffer.putLong(uid.getLeastSignificantBits());
+    }
+    return Base64.getEncoder().encodeToString(buffer.array());
+  }
+
+  private static ByteBuffer decode(String packed, int entryBytes, String attribute)
+      throws GameObjectParseException {
+    byte[] bytes;
+    try {
+      bytes = Base64.getDecoder().decode(packed.trim());
+    } catch (IllegalArgumentException e) {
+      throw new GameObjectParseException("Invalid " + attribute + ": " + e.getMessage(), e);
+    }
+    if (bytes.length % entryBytes != 0) {
+      throw new GameObjectParseException("Invalid " + attribute + " length: " + bytes.length);
+    }
+    return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  /**
+   * Returns where an optionally negative run of digits starting at {@code from} ends, or
+   * {@code -1} if there are no digits there.
+   */
+  private static int scanInteger(String text, int from, int length) {
+    int index = from;
+    if (index < length && text.charAt(index) == '-') {
+      index++;
+    }
+    int digitsStart = index;
+    while (index < length && text.charAt(index) >= '0' && text.charAt(index) <= '9') {
+      index++;
+    }
+    return index == digitsStart ? -1 : index;
+  }
+
+  private static int parseInteger(String text, int from, int to)
+      throws GameObjectParseException {
+    try {
+      return Integer.parseInt(text, from, to, 10);
+    } catch (NumberFormatException e) {
+      throw new GameObjectParseException(e.getMessage(), e);
+    }
+  }
+
+  private static int countEntries(String list) {
+    int count = 1;
+    for (int i = 0; i < list.length(); i++) {
+      if (list.charAt(i) == ',') {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Parses the UUID between {@code from} and {@code to}, reading the canonical
+   * {@code 8-4-4-4-12} form digit by digit and handing any other form to
+   * {@link UUID#fromString(String)}.
+   */
+  private static UUID parseUuid(String text, int from, int to) {
+    while (from < to && Character.isWhitespace(text.charAt(from))) {
+      from++;
+    }
+    while (to > from && Character.isWhitespace(text.charAt(to - 1))) {
+      to--;
+    }
+    if (to - from == UUID_TEXT_LENGTH) {
+      long high = 0;
+      long low = 0;
+      int digits = 0;
+      for (int i = from; i < to; i++) {
+        char c = text.charAt(i);
+        int offset = i - from;
+        if (offset == 8 || offset == 13 || offset == 18 || offset == 23) {
+          if (c != '-') {
+            break;
+          }
+          continue;
+        }
+        int digit = c < 128 ? Character.digit(c, 16) : -1;
+        if (digit < 0) {
+          break;
+        }
+        if (digits < 16) {
+          high = high << 4 | digit;
+        } else {
+          low = low << 4 | digit;
+        }
+        digits++;
+      }
+      if (digits == 32) {
+        return new UUID(high, low);
+      }
+    }
+    return UUID.fromString(text.substring(from, to));
+  }
+}
@@ -0,0 +1,244 @@
+package oogasalad.fileparser;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import oogasalad.exceptions.SpriteParseException;
+import oogasalad.fileparser.records.BlueprintData;
+
+/**
+ * An unmodifiable map of blueprints, some of which are only resolved the first time they are
+ * looked up.
+ * <p>
+ * Levels list every blueprint of their game, but most levels only place or spawn a few of them.
+ * Parsers resolve those fully and leave the others as stubs whose sprite is parsed by their
+ * {@link Resolver} on first use. Looking a blueprint up, through {@link #get(Object)}, the entry
+ * values or {@link #values()}, always returns the resolved blueprint; keys, {@link #size()} and
+ * {@link #containsKey(Object)} never resolve anything. Callers that only care about blueprints
+ * already in use can walk {@link #resolvedValues(Map)} instead.
+ * </p>
+ * <p>
+ * Resolution is synchronized, so the map can be read from loader and game threads alike. A stub
+ * whose sprite cannot be parsed makes the lookup throw an {@link IllegalStateException} and stays a
+ * stub.
+ * </p>
+ *
+ * @author Billy McCune
+ */
+public final class LazyBlueprintMap extends AbstractMap<Integer, BlueprintData> {
+
+  private final Map<Integer, BlueprintData> blueprints;
+  private final Map<Integer, Resolver> stubs;
+
+  /**
+   * Completes a blueprint stub.
+   */
+  @FunctionalInterface
+  public interface Resolver {
+
+    /**
+     * @param stub the blueprint as it was parsed, without its sprite
+     * @return the full blueprint
+     * @throws SpriteParseException if the blueprint's sprite cannot be parsed
+     */
+    BlueprintData resolve(BlueprintData stub) throws SpriteParseException;
+  }
+
+  /**
+   * Creates a map of resolved blueprints and stubs, iterated in the order of {@code blueprints}.
+   *
+   * @param blueprints every blueprint, resolved ones and stubs, by id
+   * @param stubs      the resolver of each stub, by id
+   */
+  public LazyBlueprintMap(Map<Integer, BlueprintData> blueprints, Map<Integer, Resolver> stubs) {
+    this.blueprints = new LinkedHashMap<>(blueprints);
+    this.stubs = new LinkedHashMap<>(stubs);
+  }
+
+  /**
+   * Returns the blueprints of a map that are already resolved, without resolving any stubs. For
+   * maps other than a {@code LazyBlueprintMap} that is every blueprint.
+   *
+   * @param blueprints a level's blueprints
+   * @return the resolved blueprints, in the map's order
+   */
+  public static Collection<BlueprintData> resolvedValues(Map<Integer, BlueprintData> blueprints) {
+    if (blueprints instanceof LazyBlueprintMap lazy) {
+      return lazy.resolvedValues();
+    }
+    return blueprints.values();
+  }
+
+  /**
+   * Returns every blueprint of a map as it was parsed, without resolving any stubs: stubs are
+   * returned without their sprite. For maps other than a {@code LazyBlueprintMap} that is every
+   * blueprint.
+   *
+   * @param blueprints a level's blueprints
+   * @return the resolved blueprints and the stubs, in the map's order
+   */
+  public static Collection<BlueprintData> parsedValues(Map<Integer, BlueprintData> blueprints) {
+    if (blueprints instanceof LazyBlueprintMap lazy) {
+      return lazy.parsedValues();
+    }
+    return blueprints.values();
+  }
+
+  /**
+   * @param id a blueprint id
+   * @return whether the blueprint is in the map and resolved
+   */
+  public synchronized boolean isResolved(Integer id) {
+    return blueprints.containsKey(id) && !stubs.containsKey(id);
+  }
+
+  /**
+   * Returns a map of the same blueprints passed through {@code transform}. Resolved blueprints
+   * are transformed now and stubs once they are resolved, so the copy stays as lazy as this map.
+   *
+   * @param transform the change applied to each resolved blueprint
+   * @return the transformed map
+   */
+  public synchronized LazyBlueprintMap mapValues(UnaryOperator<BlueprintData> transform) {
+    Map<Integer, BlueprintData> transformed = new LinkedHashMap<>();
+    Map<Integer, Resolver> transformedStubs = new LinkedHashMap<>();
+    for (Map.Entry<Integer, BlueprintData> entry : blueprints.entrySet()) {
+      Integer id = entry.getKey();
+      if (stubs.containsKey(id)) {
+        transformed.put(id, entry.getValue());
+        transformedStubs.put(id, stub -> transform.apply(resolve(id)));
+      } else {
+        transformed.put(id, transform.apply(entry.getValue()));
+      }
+    }
+    return new LazyBlueprintMap(transformed, transformedStubs);
+  }
+
+  @Override
+  public synchronized BlueprintData get(Object key) {
+    if (!(key instanceof Integer id) || !stubs.containsKey(id)) {
+      return blueprints.get(key);
+    }
+    try {
+      return resolve(id);
+    } catch (SpriteParseException e) {
+      throw new IllegalStateException("Could not resolve blueprint " + id, e);
+    }
+  }
+
+  @Override
+  public synchronized boolean containsKey(Object key) {
+    return blueprints.containsKey(key);
+  }
+
+  @Override
+  public synchronized int size() {
+    return blueprints.size();
+  }
+
+  @Override
+  public Set<Map.Entry<Integer, BlueprintData>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Map.Entry<Integer, BlueprintData>> iterator() {
+        Iterator<Integer> ids = snapshotIds().iterator();
+        return new Iterator<>() {
+          @Override
+          public boolean hasNext() {
+            return ids.hasNext();
+          }
+
+          @Override
+          public Map.Entry<Integer, BlueprintData> next() {
+            return new LazyEntry(ids.next());
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return LazyBlueprintMap.this.size();
+      }
+    };
+  }
+
+  private synchronized List<Integer> snapshotIds() {
+    return new ArrayList<>(blueprints.keySet());
+  }
+
+  private synchronized Collection<BlueprintData> resolvedValues() {
+    List<BlueprintData> resolved = new ArrayList<>();
+    for (Map.Entry<Integer, BlueprintData> entry : blueprints.entrySet()) {
+      if (!stubs.containsKey(entry.getKey())) {
+        resolved.add(entry.getValue());
+      }
+    }
+    return resolved;
+  }
+
+  private synchronized Collection<BlueprintData> parsedValues() {
+    return new ArrayList<>(blueprints.values());
+  }
+
+  private synchronized BlueprintData resolve(Integer id) throws SpriteParseException {
+    Resolver resolver = stubs.get(id);
+    if (resolver == null) {
+      return blueprints.get(id);
+    }
+    BlueprintData blueprint = resolver.resolve(blueprints.get(id));
+    blueprints.put(id, blueprint);
+    stubs.remove(id);
+    return blueprint;
+  }
+
+  /**
+   * An entry that only resolves its blueprint when its value is read.
+   */
+  private final class LazyEntry implements Map.Entry<Integer, BlueprintData> {
+
+    private final Integer id;
+
+    LazyEntry(Integer id) {
+      this.id = id;
+    }
+
+    @Override
+    public Integer getKey() {
+      return id;
+    }
+
+    @Override
+    public BlueprintData getValue() {
+      return get(id);
+    }
+
+    @Override
+    public BlueprintData setValue(BlueprintData value) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Map.Entry<?, ?> entry && Objects.equals(id, entry.getKey())
+          && Objects.equals(getValue(), entry.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(id) ^ Objects.hashCode(getValue());
+    }
+
+    @Override
+    public String toString() {
+      return id + "=" + getValue();
+    }
+  }
+}
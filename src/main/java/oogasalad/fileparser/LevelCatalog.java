@@ -0,0 +1,601 @@
+package oogasalad.fileparser;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import oogasalad.ResourceManager;
+import oogasalad.exceptions.GameObjectParseException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Index of the games and levels under a levels directory, so menus can list them and show what a
+ * level holds without listing directories or parsing level files.
+ * <p>
+ * A levels directory holds one folder per game, each with that game's level {@code .xml} files.
+ * The catalog keeps an {@link Entry} per level and saves them to an index file,
+ * {@value #INDEX_FILE_NAME}, in the levels directory. When a catalog is opened it only reads the
+ * levels whose size or modification time differ from their indexed entry, so opening it again is
+ * one directory scan. Once {@link #watch() watching}, a {@link WatchService} keeps the catalog and
+ * its index up to date as games and levels are added, saved or deleted.
+ * </p>
+ * <p>
+ * The catalog is synchronized and can be read from any thread while it is being updated. Level
+ * files are read and hashed outside its lock and the results swapped in afterwards, so readers are
+ * not held up by a scan.
+ * </p>
+ *
+ * @author Billy McCune
+ */
+public final class LevelCatalog implements AutoCloseable {
+
+  /**
+   * The name of the index file written in the levels directory.
+   */
+  public static final String INDEX_FILE_NAME = ".catalog";
+
+  private static final Logger LOG = LogManager.getLogger();
+  private static final String FILE_STRUCTURE = "file.fileStructure";
+  private static final String LEVEL_DATA_PATH = "path.to.level.data";
+  private static final String INDEX_HEADER = "# level catalog v1";
+  private static final String LEVEL_EXTENSION = ".xml";
+  private static final String THUMBNAIL_EXTENSION = ".png";
+  private static final String SEPARATOR = "\t";
+  private static final int FIELD_COUNT = 9;
+  private static final XMLInputFactory inputFactory = createInputFactory();
+  private static LevelCatalog instance;
+
+  private final File root;
+  private final File indexFile;
+  private final Map<String, Map<String, Entry>> games = new TreeMap<>();
+  private final Object indexLock = new Object();
+  private WatchService watchService;
+  private final Map<WatchKey, String> watchedGames = new HashMap<>();
+
+  /**
+   * What the catalog knows about one level file.
+   *
+   * @param game         the name of the game folder the level is in
+   * @param level        the name of the level file
+   * @param length       the size of the level file, in bytes
+   * @param lastModified the modification time of the level file, in milliseconds since the epoch
+   * @param width        the width of the level's bounds
+   * @param height       the height of the level's bounds
+   * @param objectCount  the number of objects placed in the level's layers, or {@code -1} if the
+   *                     level could not be read
+   * @param contentHash  the SHA-256 of the level file, in hexadecimal
+   * @param thumbnail    the path of the level's thumbnail, a {@code .png} of the same name next to
+   *                     the level, relative to the levels directory; empty if there is none
+   */
+  public record Entry(String game, String level, long length, long lastModified, int width,
+                      int height, int objectCount, String contentHash, String thumbnail) {
+
+    /**
+     * Tells whether a file is still the one this entry describes, by its size and modification
+     * time, without reading it.
+     *
+     * @param file the level file
+     * @return whether the file is unchanged since it was catalogued
+     */
+    public boolean matches(File file) {
+      return file.length() == length && file.lastModified() == lastModified;
+    }
+
+    /**
+     * @return whether the level has a thumbnail
+     */
+    public boolean hasThumbnail() {
+      return !thumbnail.isEmpty();
+    }
+  }
+
+  private LevelCatalog(File root) {
+    this.root = root.getAbsoluteFile();
+    this.indexFile = new File(this.root, INDEX_FILE_NAME);
+  }
+
+  private static XMLInputFactory createInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    return factory;
+  }
+
+  /**
+   * Returns the catalog of the game's levels directory, opening and watching it on first use.
+   *
+   * @return the shared level catalog
+   */
+  public static synchronized LevelCatalog getInstance() {
+    if (instance == null) {
+      File root = defaultRoot();
+      instance = open(root);
+      try {
+        instance.watch();
+      } catch (IOException e) {
+        LOG.warn("Could not watch {}, the level catalog will not update", root, e);
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * @return the game's levels directory, as configured in the file structure configuration
+   */
+  public static File defaultRoot() {
+    String levelDataPath = ResourceManager.getInstance()
+        .getConfig(FILE_STRUCTURE, LEVEL_DATA_PATH).trim();
+    return new File(System.getProperty("user.dir") + File.separator + levelDataPath);
+  }
+
+  /**
+   * Opens the catalog of a levels directory: reads its index, brings it up to date with the
+   * directory and saves it again if anything changed.
+   *
+   * @param root the levels directory
+   * @return the catalog, which does not watch the directory yet
+   */
+  public static LevelCatalog open(File root) {
+    LevelCatalog catalog = new LevelCatalog(root);
+    catalog.readIndex();
+    catalog.refresh();
+    return catalog;
+  }
+
+  /**
+   * @return the names of the game folders, sorted
+   */
+  public synchronized List<String> games() {
+    return new ArrayList<>(games.keySet());
+  }
+
+  /**
+   * @param game the name of a game folder
+   * @return the names of the game's level files, sorted; empty if there is no such game
+   */
+  public synchronized List<String> levels(String game) {
+    Map<String, Entry> levels = games.get(game);
+    return levels == null ? List.of() : new ArrayList<>(levels.keySet());
+  }
+
+  /**
+   * @param game  the name of a game folder
+   * @param level the name of a level file in it
+   * @return the level's entry, or {@code null} if it is not catalogued
+   */
+  public synchronized Entry entry(String game, String level) {
+    Map<String, Entry> levels = games.get(game);
+    return levels == null ? null : levels.get(level);
+  }
+
+  /**
+   * @return every level's entry, sorted by game and then by level
+   */
+  public synchronized List<Entry> entries() {
+    List<Entry> entries = new ArrayList<>();
+    for (Map<String, Entry> levels : games.values()) {
+      entries.addAll(levels.values());
+    }
+    return entries;
+  }
+
+  /**
+   * Brings the whole catalog up to date with the levels directory, reading only new and changed
+   * levels, and saves the index if anything changed.
+   */
+  public void refresh() {
+    Map<String, Map<String, Entry>> known = copyOfGames();
+    File[] folders = root.listFiles(File::isDirectory);
+    Map<String, Map<String, Entry>> current = new TreeMap<>();
+    boolean changed = false;
+    for (File folder : folders == null ? new File[0] : folders) {
+      Map<String, Entry> levels = known.getOrDefault(folder.getName(), Map.of());
+      Map<String, Entry> updated = new TreeMap<>();
+      File[] levelFiles = folder.listFiles((dir, name) -> name.endsWith(LEVEL_EXTENSION));
+      for (File levelFile : levelFiles == null ? new File[0] : levelFiles) {
+        Entry entry = updatedEntry(levels.get(levelFile.getName()), folder.getName(), levelFile);
+        updated.put(levelFile.getName(), entry);
+        changed |= entry != levels.get(levelFile.getName());
+      }
+      changed |= updated.size() != levels.size();
+      current.put(folder.getName(), updated);
+    }
+    synchronized (this) {
+      changed |= !current.keySet().equals(games.keySet());
+      games.clear();
+      games.putAll(current);
+    }
+    if (changed || !indexFile.isFile()) {
+      writeIndex();
+    }
+  }
+
+  private synchronized Map<String, Map<String, Entry>> copyOfGames() {
+    Map<String, Map<String, Entry>> copy = new TreeMap<>();
+    games.forEach((game, levels) -> copy.put(game, new TreeMap<>(levels)));
+    return copy;
+  }
+
+  /**
+   * Starts updating the catalog in the background as the levels directory changes. Does nothing
+   * if the catalog is already watching.
+   *
+   * @throws IOException if the directory cannot be watched
+   */
+  public synchronized void watch() throws IOException {
+    if (watchService != null) {
+      return;
+    }
+    watchService = root.toPath().getFileSystem().newWatchService();
+    register(root.toPath(), null);
+    for (String game : games.keySet()) {
+      register(root.toPath().resolve(game), game);
+    }
+    Thread watcher = new Thread(this::processEvents, "level-catalog-watcher");
+    watcher.setDaemon(true);
+    watcher.start();
+  }
+
+  /**
+   * Stops watching the levels directory.
+   */
+  @Override
+  public synchronized void close() {
+    if (watchService == null) {
+      return;
+    }
+    try {
+      watchService.close();
+    } catch (IOException e) {
+      LOG.warn("Could not stop watching {}", root, e);
+    }
+    watchService = null;
+    watchedGames.clear();
+  }
+
+  private void register(Path directory, String game) throws IOException {
+    watchedGames.put(directory.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY),
+        game);
+  }
+
+  private void processEvents() {
+    WatchService service;
+    synchronized (this) {
+      service = watchService;
+    }
+    try {
+      while (true) {
+        WatchKey key = service.take();
+        String game;
+        synchronized (this) {
+          if (service != watchService) {
+            return;
+          }
+          game = watchedGames.get(key);
+        }
+        handleEvents(key, game);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException e) {
+      // the catalog was closed
+    }
+  }
+
+  /**
+   * Applies the events of a watched directory, {@code game}'s folder or the levels directory if
+   * {@code game} is {@code null}. Runs on the watcher thread without holding the catalog's lock.
+   */
+  private void handleEvents(WatchKey key, String game) {
+    boolean changed = false;
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == OVERFLOW) {
+        registerNewGames();
+        refresh();
+        continue;
+      }
+      String name = event.context().toString();
+      changed |= game != null ? levelChanged(game, name) : gameChanged(name);
+    }
+    if (!key.reset()) {
+      synchronized (this) {
+        watchedGames.remove(key);
+      }
+    }
+    if (changed) {
+      writeIndex();
+    }
+  }
+
+  private boolean gameChanged(String game) {
+    File folder = new File(root, game);
+    boolean exists = folder.isDirectory();
+    synchronized (this) {
+      if (!exists) {
+        return games.remove(game) != null;
+      }
+      if (games.containsKey(game) || watchService == null) {
+        return false;
+      }
+      try {
+        register(folder.toPath(), game);
+      } catch (IOException e) {
+        LOG.warn("Could not watch {}", folder, e);
+      }
+    }
+    // levels may have been written before the folder was registered
+    Map<String, Entry> levels = new TreeMap<>();
+    File[] levelFiles = folder.listFiles((dir, name) -> name.endsWith(LEVEL_EXTENSION));
+    for (File levelFile : levelFiles == null ? new File[0] : levelFiles) {
+      levels.put(levelFile.getName(), readEntry(game, levelFile));
+    }
+    synchronized (this) {
+      return games.putIfAbsent(game, levels) == null;
+    }
+  }
+
+  private boolean levelChanged(String game, String name) {
+    boolean isThumbnail = name.endsWith(THUMBNAIL_EXTENSION);
+    if (!isThumbnail && !name.endsWith(LEVEL_EXTENSION)) {
+      return false;
+    }
+    String level = isThumbnail
+        ? name.substring(0, name.length() - THUMBNAIL_EXTENSION.length()) + LEVEL_EXTENSION
+        : name;
+    File levelFile = new File(new File(root, game), level);
+    boolean exists = levelFile.isFile();
+    Entry previous;
+    synchronized (this) {
+      Map<String, Entry> levels = games.get(game);
+      if (levels == null) {
+        return false;
+      }
+      previous = levels.get(level);
+      if (!exists) {
+        return levels.remove(level) != null;
+      }
+    }
+    Entry entry = updatedEntry(previous, game, levelFile);
+    if (isThumbnail && entry == previous) {
+      entry = new Entry(game, level, previous.length(), previous.lastModified(), previous.width(),
+          previous.height(), previous.objectCount(), previous.contentHash(),
+          thumbnailOf(game, levelFile));
+    }
+    synchronized (this) {
+      Map<String, Entry> levels = games.get(game);
+      if (levels == null) {
+        return false;
+      }
+      levels.put(level, entry);
+    }
+    return !entry.equals(previous);
+  }
+
+  private synchronized void registerNewGames() {
+    if (watchService == null) {
+      return;
+    }
+    File[] folders = root.listFiles(File::isDirectory);
+    for (File folder : folders == null ? new File[0] : folders) {
+      if (!watchedGames.containsValue(folder.getName())) {
+        try {
+          register(folder.toPath(), folder.getName());
+        } catch (IOException e) {
+          LOG.warn("Could not watch {}", folder, e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns {@code previous} if it still describes the level file, or a new entry read from the
+   * file otherwise.
+   */
+  private static Entry updatedEntry(Entry previous, String game, File levelFile) {
+    if (previous != null && previous.matches(levelFile)) {
+      return previous;
+    }
+    return readEntry(game, levelFile);
+  }
+
+  private static Entry readEntry(String game, File levelFile) {
+    long length = levelFile.length();
+    long lastModified = levelFile.lastModified();
+    int[] bounds = {0, 0, 0, 0};
+    int objectCount;
+    String contentHash;
+    try {
+      contentHash = hash(levelFile);
+      objectCount = scanLevel(levelFile, bounds);
+    } catch (IOException | XMLStreamException | GameObjectParseException
+             | IllegalArgumentException e) {
+      LOG.warn("Could not catalog level {}", levelFile, e);
+      contentHash = "";
+      objectCount = -1;
+    }
+    return new Entry(game, levelFile.getName(), length, lastModified, bounds[2] - bounds[0],
+        bounds[3] - bounds[1], objectCount, contentHash, thumbnailOf(game, levelFile));
+  }
+
+  private static String thumbnailOf(String game, File levelFile) {
+    String thumbnailName = levelFile.getName()
+        .substring(0, levelFile.getName().length() - LEVEL_EXTENSION.length())
+        + THUMBNAIL_EXTENSION;
+    return new File(levelFile.getParentFile(), thumbnailName).isFile()
+        ? game + "/" + thumbnailName : "";
+  }
+
+  private static String hash(File file) throws IOException {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    try (InputStream in = new DigestInputStream(new FileInputStream(file), digest)) {
+      in.transferTo(OutputStream.nullOutputStream());
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * Reads a level's bounds into {@code bounds}, as {@code minX, minY, maxX, maxY}, and counts the
+   * objects placed in its layers the way the parsers do, without reading its blueprints.
+   */
+  private static int scanLevel(File levelFile, int[] bounds)
+      throws IOException, XMLStreamException, GameObjectParseException {
+    GameObjectDataParser objectParser = new GameObjectDataParser();
+    int objectCount = 0;
+    boolean inLayerData = false;
+    try (InputStream in = new BufferedInputStream(new FileInputStream(levelFile))) {
+      XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+      try {
+        while (reader.hasNext()) {
+          int event = reader.next();
+          if (event == XMLStreamConstants.END_ELEMENT && "data".equals(reader.getLocalName())) {
+            inLayerData = false;
+          }
+          if (event != XMLStreamConstants.START_ELEMENT) {
+            continue;
+          }
+          switch (reader.getLocalName()) {
+            case "map" -> {
+              bounds[0] = parseBound(reader, "minX");
+              bounds[1] = parseBound(reader, "minY");
+              bounds[2] = parseBound(reader, "maxX");
+              bounds[3] = parseBound(reader, "maxY");
+            }
+            case "data" -> inLayerData = true;
+            case "object" -> {
+              if (inLayerData) {
+                objectCount += objectParser.getGameObjectData(attribute(reader, "id"),
+                    attribute(reader, "name"), attribute(reader, "uid"),
+                    attribute(reader, "coordinates"),
+                    attribute(reader, LayerObjectFormat.PACKED_UIDS),
+                    attribute(reader, LayerObjectFormat.PACKED_COORDINATES), 0).size();
+              }
+            }
+            default -> {
+            }
+          }
+        }
+      } finally {
+        reader.close();
+      }
+    }
+    return objectCount;
+  }
+
+  private static int parseBound(XMLStreamReader reader, String name) {
+    String value = attribute(reader, name);
+    return value.isBlank() ? 0 : Integer.parseInt(value.trim());
+  }
+
+  private static String attribute(XMLStreamReader reader, String name) {
+    String value = reader.getAttributeValue(null, name);
+    return value == null ? "" : value;
+  }
+
+  private void readIndex() {
+    if (!indexFile.isFile()) {
+      return;
+    }
+    try (BufferedReader reader = Files.newBufferedReader(indexFile.toPath(),
+        StandardCharsets.UTF_8)) {
+      if (!INDEX_HEADER.equals(reader.readLine())) {
+        LOG.warn("Ignoring level catalog index {} of an unknown version", indexFile);
+        return;
+      }
+      String line;
+      while ((line = reader.readLine()) != null) {
+        String[] fields = line.split(SEPARATOR, -1);
+        if (fields.length == FIELD_COUNT) {
+          Entry entry = new Entry(fields[0], fields[1], Long.parseLong(fields[2]),
+              Long.parseLong(fields[3]), Integer.parseInt(fields[4]), Integer.parseInt(fields[5]),
+              Integer.parseInt(fields[6]), fields[7], fields[8]);
+          games.computeIfAbsent(entry.game(), game -> new TreeMap<>()).put(entry.level(), entry);
+        }
+      }
+    } catch (IOException | NumberFormatException e) {
+      LOG.warn("Could not read level catalog index {}, rebuilding it", indexFile, e);
+      games.clear();
+    }
+  }
+
+  /**
+   * Saves the current entries. Writers take their own lock rather than the catalog's, so readers
+   * are not held up while the index is written.
+   */
+  private void writeIndex() {
+    if (!root.isDirectory()) {
+      return;
+    }
+    synchronized (indexLock) {
+      writeIndexFile();
+    }
+  }
+
+  private void writeIndexFile() {
+    File partial = new File(root, INDEX_FILE_NAME + ".part");
+    try {
+      try (BufferedWriter writer = Files.newBufferedWriter(partial.toPath(),
+          StandardCharsets.UTF_8)) {
+        writer.write(INDEX_HEADER);
+        writer.newLine();
+        for (Entry entry : entries()) {
+          if (isWritable(entry.game()) && isWritable(entry.level())) {
+            writer.write(String.join(SEPARATOR, entry.game(), entry.level(),
+                Long.toString(entry.length()), Long.toString(entry.lastModified()),
+                Integer.toString(entry.width()), Integer.toString(entry.height()),
+                Integer.toString(entry.objectCount()), entry.contentHash(), entry.thumbnail()));
+            writer.newLine();
+          }
+        }
+      }
+      Files.move(partial.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      LOG.warn("Could not save level catalog index {}", indexFile, e);
+      partial.delete();
+    }
+  }
+
+  /**
+   * Names with tabs or line breaks cannot be written to the index; their levels are read again
+   * whenever the catalog is opened.
+   */
+  private static boolean isWritable(String name) {
+    return name.indexOf('\t') < 0 && name.indexOf('\n') < 0 && name.indexOf('\r') < 0;
+  }
+}
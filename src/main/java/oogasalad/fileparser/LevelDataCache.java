@@ -0,0 +1,261 @@
+package oogasalad.fileparser;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import oogasalad.fileparser.records.AnimationData;
+import oogasalad.fileparser.records.BlueprintData;
+import oogasalad.fileparser.records.CameraData;
+import oogasalad.fileparser.records.ConditionData;
+import oogasalad.fileparser.records.EventData;
+import oogasalad.fileparser.records.LevelData;
+import oogasalad.fileparser.records.OutcomeData;
+import oogasalad.fileparser.records.SpriteData;
+
+/**
+ * Process-wide, bounded cache of parsed levels, shared by the engine and the editor so revisiting,
+ * restarting or reopening a level does not parse it again.
+ * <p>
+ * Entries are keyed by the canonical path of the level file and remember the
+ * {@link LevelSourceStamp} of the level file and its sprite files when it was parsed; an entry
+ * whose level file or sprite files have changed since is treated as missing. Once the cache holds more than its capacity, the least recently used level is dropped.
+ * </p>
+ * <p>
+ * Cached levels are deeply unmodifiable, so every caller can share them. Callers that need to edit
+ * a level's collections, like the editor, take a {@link #mutableCopy(LevelData)} instead, which
+ * resolves every blueprint of a {@link LazyBlueprintMap}. The cache is synchronized and can be used
+ * from loader threads.
+ * </p>
+ *
+ * @author Billy McCune
+ */
+public class LevelDataCache {
+
+  private static final int DEFAULT_CAPACITY = 8;
+  private static final LevelDataCache instance = new LevelDataCache(DEFAULT_CAPACITY);
+
+  private final Map<String, CachedLevel> levels;
+
+  private record CachedLevel(LevelSourceStamp stamp, LevelData levelData) {
+
+  }
+
+  /**
+   * Creates a cache.
+   *
+   * @param capacity the number of levels kept before the least recently used one is dropped
+   */
+  public LevelDataCache(int capacity) {
+    levels = new LinkedHashMap<>(capacity + 1, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, CachedLevel> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  /**
+   * @return the level data cache instance
+   */
+  public static LevelDataCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Returns the cached level of a file, if it was parsed since the file or one of its sprite
+   * files last changed.
+   *
+   * @param levelFile the level file
+   * @return the unmodifiable cached level, or {@code null} if there is none or it is stale
+   */
+  public synchronized LevelData get(File levelFile) {
+    String key = keyOf(levelFile);
+    CachedLevel cached = levels.get(key);
+    if (cached == null) {
+      return null;
+    }
+    if (!cached.stamp().matches(levelFile)) {
+      levels.remove(key);
+      return null;
+    }
+    return cached.levelData();
+  }
+
+  /**
+   * Caches a level parsed from a file, stamped with the current sizes and modification times of
+   * the file and its sprite files.
+   *
+   * @param levelFile the file the level was parsed from
+   * @param levelData the parsed level
+   * @return the unmodifiable copy of the level that was cached
+   */
+  public LevelData put(File levelFile, LevelData levelData) {
+    return put(levelFile, levelData, LevelSourceStamp.of(levelFile, levelData));
+  }
+
+  /**
+   * Caches a level parsed from a file with a stamp of its sources taken by the caller.
+   *
+   * @param levelFile the file the level was parsed from
+   * @param levelData the parsed level
+   * @param stamp     the stamp of the level file and the sprite files the level was read from
+   * @return the unmodifiable copy of the level that was cached
+   */
+  public synchronized LevelData put(File levelFile, LevelData levelData,
+      LevelSourceStamp stamp) {
+    LevelData frozen = new Copier(true).copy(levelData);
+    levels.put(keyOf(levelFile), new CachedLevel(stamp, frozen));
+    return frozen;
+  }
+
+  /**
+   * Drops the cached level of a file, if any.
+   *
+   * @param levelFile the level file
+   */
+  public synchronized void invalidate(File levelFile) {
+    levels.remove(keyOf(levelFile));
+  }
+
+  /**
+   * Drops every cached level.
+   */
+  public synchronized void clear() {
+    levels.clear();
+  }
+
+  /**
+   * Returns a deep copy of a level whose maps and lists can be modified, for callers that edit the
+   * parsed data in place. Records are immutable and are shared with the original.
+   *
+   * @param levelData the level to copy
+   * @return the modifiable copy
+   */
+  public static LevelData mutableCopy(LevelData levelData) {
+    return new Copier(false).copy(levelData);
+  }
+
+  private static String keyOf(File levelFile) {
+    return LevelSourceStamp.canonicalPath(levelFile);
+  }
+
+  /**
+   * Copies a level's collections, either into unmodifiable views or into fresh modifiable ones.
+   * Events shared between blueprints stay shared in the copy.
+   */
+  private static class Copier {
+
+    private final boolean unmodifiable;
+    private final Map<EventData, EventData> events = new IdentityHashMap<>();
+    private final Map<SpriteData, SpriteData> sprites = new IdentityHashMap<>();
+
+    Copier(boolean unmodifiable) {
+      this.unmodifiable = unmodifiable;
+    }
+
+    LevelData copy(LevelData level) {
+      Map<Integer, BlueprintData> blueprints = null;
+      if (unmodifiable && level.gameBluePrintData() instanceof LazyBlueprintMap lazy) {
+        // stubs are copied once resolved, so caching a level does not resolve them
+        blueprints = lazy.mapValues(this::copy);
+      } else if (level.gameBluePrintData() != null) {
+        blueprints = map(copyBlueprints(level.gameBluePrintData()));
+      }
+      return new LevelData(level.name(), level.minX(), level.minY(), level.maxX(), level.maxY(),
+          copy(level.cameraData()), blueprints, list(level.gameObjects()));
+    }
+
+    private Map<Integer, BlueprintData> copyBlueprints(Map<Integer, BlueprintData> blueprints) {
+      Map<Integer, BlueprintData> copy = new LinkedHashMap<>();
+      for (Map.Entry<Integer, BlueprintData> entry : blueprints.entrySet()) {
+        copy.put(entry.getKey(), copy(entry.getValue()));
+      }
+      return copy;
+    }
+
+    private CameraData copy(CameraData camera) {
+      if (camera == null) {
+        return null;
+      }
+      return new CameraData(camera.type(), map(camera.stringProperties()),
+          map(camera.doubleProperties()));
+    }
+
+    private BlueprintData copy(BlueprintData blueprint) {
+      if (blueprint == null) {
+        return null;
+      }
+      List<EventData> eventDataList = null;
+      if (blueprint.eventDataList() != null) {
+        eventDataList = new ArrayList<>();
+        for (EventData event : blueprint.eventDataList()) {
+          eventDataList.add(event == null ? null : events.computeIfAbsent(event, this::copy));
+        }
+      }
+      SpriteData sprite = blueprint.spriteData() == null ? null
+          : sprites.computeIfAbsent(blueprint.spriteData(), this::copy);
+      return new BlueprintData(blueprint.blueprintId(), blueprint.velocityX(),
+          blueprint.velocityY(), blueprint.rotation(), blueprint.isFlipped(),
+          blueprint.gameName(), blueprint.group(), blueprint.type(), sprite,
+          blueprint.hitBoxData(), list(eventDataList), map(blueprint.stringProperties()),
+          map(blueprint.doubleProperties()), list(blueprint.displayedProperties()));
+    }
+
+    private EventData copy(EventData event) {
+      List<List<ConditionData>> conditions = null;
+      if (event.conditions() != null) {
+        conditions = new ArrayList<>();
+        for (List<ConditionData> conditionSet : event.conditions()) {
+          List<ConditionData> copiedSet = new ArrayList<>();
+          for (ConditionData condition : conditionSet) {
+            copiedSet.add(new ConditionData(condition.name(), map(condition.stringProperties()),
+                map(condition.doubleProperties())));
+          }
+          conditions.add(list(copiedSet));
+        }
+      }
+      List<OutcomeData> outcomes = null;
+      if (event.outcomes() != null) {
+        outcomes = new ArrayList<>();
+        for (OutcomeData outcome : event.outcomes()) {
+          outcomes.add(new OutcomeData(outcome.name(), map(outcome.stringProperties()),
+              map(outcome.doubleProperties())));
+        }
+      }
+      return new EventData(event.type(), event.eventId(), list(conditions), list(outcomes));
+    }
+
+    private SpriteData copy(SpriteData sprite) {
+      List<AnimationData> animations = null;
+      if (sprite.animations() != null) {
+        animations = new ArrayList<>();
+        for (AnimationData animation : sprite.animations()) {
+          animations.add(new AnimationData(animation.name(), animation.frameLen(),
+              list(animation.frameNames())));
+        }
+      }
+      return new SpriteData(sprite.name(), sprite.spriteFile(), sprite.baseImage(),
+          list(sprite.frames()), list(animations));
+    }
+
+    private <K, V> Map<K, V> map(Map<K, V> map) {
+      if (map == null) {
+        return null;
+      }
+      Map<K, V> copy = new LinkedHashMap<>(map);
+      return unmodifiable ? Collections.unmodifiableMap(copy) : copy;
+    }
+
+    private <T> List<T> list(List<T> list) {
+      if (list == null) {
+        return null;
+      }
+      List<T> copy = new ArrayList<>(list);
+      return unmodifiable ? Collections.unmodifiableList(copy) : copy;
+    }
+  }
+}
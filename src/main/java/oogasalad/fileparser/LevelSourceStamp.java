@@ -0,0 +1,161 @@
+package oogasalad.fileparser;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import oogasalad.ResourceManager;
+import oogasalad.fileparser.records.BlueprintData;
+import oogasalad.fileparser.records.LevelData;
+
+/**
+ * The size and modification time of every file a parsed level was read from: the level file
+ * itself, followed by the sprite files of the games its blueprints belong to.
+ * <p>
+ * Sprites are parsed from the sprite files, not the level file, so a level parsed earlier goes
+ * stale when either changes. Which sprite file a blueprint reads is only known once it is resolved,
+ * so the stamp conservatively covers every sprite file and folder under the game's sprite data
+ * folder; stamping the folders also catches sprite files being added or removed.
+ * </p>
+ *
+ * @author Billy McCune
+ * @see BinaryLevelFormat
+ * @see LevelDataCache
+ */
+public final class LevelSourceStamp {
+
+  private static final String FILE_STRUCTURE = "file.fileStructure";
+  private static final String SPRITE_DATA_PATH = "path.to.game.data";
+
+  private final List<FileStamp> files;
+
+  /**
+   * The size and modification time of one file, as they were when the level was parsed.
+   *
+   * @param path         the canonical path of the file
+   * @param length       the size of the file in bytes, {@code 0} if it did not exist
+   * @param lastModified the modification time of the file, {@code 0} if it did not exist
+   */
+  public record FileStamp(String path, long length, long lastModified) {
+
+    /**
+     * @param file the file to stamp
+     * @return the file's current stamp
+     */
+    public static FileStamp of(File file) {
+      return new FileStamp(canonicalPath(file), file.length(), file.lastModified());
+    }
+
+    /**
+     * @return whether the file still has the stamped size and modification time
+     */
+    public boolean isCurrent() {
+      File file = new File(path);
+      return file.length() == length && file.lastModified() == lastModified;
+    }
+  }
+
+  /**
+   * Creates a stamp from files stamped earlier, for example read back from a compiled level.
+   *
+   * @param files the level file's stamp followed by those of its sprite files
+   */
+  public LevelSourceStamp(List<FileStamp> files) {
+    this.files = List.copyOf(files);
+  }
+
+  /**
+   * Stamps a level file and the sprite files under the configured sprite data folder.
+   *
+   * @param levelFile the file the level was parsed from
+   * @param levelData the parsed level
+   * @return the stamp of the level's current sources
+   */
+  public static LevelSourceStamp of(File levelFile, LevelData levelData) {
+    String spriteDataPath = ResourceManager.getInstance()
+        .getConfig(FILE_STRUCTURE, SPRITE_DATA_PATH).trim();
+    return of(levelFile, levelData,
+        new File(System.getProperty("user.dir") + File.separator + spriteDataPath));
+  }
+
+  /**
+   * Stamps a level file and the sprite files under a sprite data folder.
+   *
+   * @param levelFile      the file the level was parsed from
+   * @param levelData      the parsed level
+   * @param spriteDataRoot the folder holding one sprite data folder per game
+   * @return the stamp of the level's current sources
+   */
+  public static LevelSourceStamp of(File levelFile, LevelData levelData, File spriteDataRoot) {
+    List<FileStamp> files = new ArrayList<>();
+    files.add(FileStamp.of(levelFile));
+    for (String gameName : gameNamesOf(levelData)) {
+      Path gameFolder = spriteDataRoot.toPath().resolve(gameName);
+      if (!Files.isDirectory(gameFolder)) {
+        continue;
+      }
+      try (Stream<Path> paths = Files.walk(gameFolder)) {
+        paths.sorted().forEach(path -> files.add(FileStamp.of(path.toFile())));
+      } catch (IOException | UncheckedIOException e) {
+        // an unreadable folder stamps as missing, so the level is parsed again next time
+        files.add(new FileStamp(canonicalPath(gameFolder.toFile()), -1, -1));
+      }
+    }
+    return new LevelSourceStamp(files);
+  }
+
+  /**
+   * @return the level file's stamp followed by those of its sprite files
+   */
+  public List<FileStamp> getFiles() {
+    return Collections.unmodifiableList(files);
+  }
+
+  /**
+   * Returns whether this stamp was taken of a level file and none of the stamped files changed
+   * since.
+   *
+   * @param levelFile the level file
+   * @return {@code true} if a level parsed with this stamp is still up to date
+   */
+  public boolean matches(File levelFile) {
+    if (files.isEmpty() || !files.getFirst().path().equals(canonicalPath(levelFile))) {
+      return false;
+    }
+    for (FileStamp file : files) {
+      if (!file.isCurrent()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static Set<String> gameNamesOf(LevelData levelData) {
+    Set<String> gameNames = new TreeSet<>();
+    if (levelData.gameBluePrintData() == null) {
+      return gameNames;
+    }
+    for (BlueprintData blueprint : LazyBlueprintMap.parsedValues(
+        levelData.gameBluePrintData())) {
+      if (blueprint != null && blueprint.gameName() != null && !blueprint.gameName().isEmpty()) {
+        gameNames.add(blueprint.gameName());
+      }
+    }
+    return gameNames;
+  }
+
+  static String canonicalPath(File file) {
+    try {
+      return file.getCanonicalPath();
+    } catch (IOException e) {
+      return file.getAbsolutePath();
+    }
+  }
+}
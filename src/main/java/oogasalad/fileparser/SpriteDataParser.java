@@ -8,10 +8,15 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import oogasalad.exceptions.SpriteParseException;
+import oogasalad.fileparser.SpriteFileCache.SpriteFile;
 import oogasalad.fileparser.records.AnimationData;
 import oogasalad.fileparser.records.FrameData;
 import oogasalad.fileparser.records.SpriteData;
@@ -38,6 +43,8 @@ import org.xml.sax.SAXException;
  *
  * <p>
  * This class is typically used as part of the level loading or game asset initialization process.
+ * A parser is used by one loader at a time; sprite files it {@link #prefetch(SpriteRequest)
+ * prefetches} are parsed on a shared pool of background threads.
  * </p>
  *
  * @author Billy McCune
@@ -48,15 +55,38 @@ public class SpriteDataParser {
   private final String pathToGraphicsData;
   private final String pathToSpriteData;
   private static final String nameAttribute = "name";
+  private static final ExecutorService SPRITE_FILE_READERS = Executors.newFixedThreadPool(
+      Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+        Thread thread = new Thread(runnable, "sprite-file-reader");
+        thread.setDaemon(true);
+        return thread;
+      });
+  private final SpriteFileCache mySpriteFileCache;
+  private final Map<String, Future<SpriteFile>> prefetchedSpriteFiles = new HashMap<>();
+
+  /**
+   * Constructs a new {@code SpriteDataParser} that keeps the sprite files it parses for as long as
+   * it lives, typically one level load.
+   *
+   * @throws SpriteParseException if an error occurs while loading the properties file or required
+   *                              properties are missing.
+   */
+  public SpriteDataParser() throws SpriteParseException {
+    this(new SpriteFileCache(Integer.MAX_VALUE));
+  }
 
   /**
    * Constructs a new {@code SpriteDataParser} by reading the properties file and loading the
    * graphics and game data file paths.
    *
+   * @param spriteFileCache the cache of parsed sprite files to look sprites up in, such as the
+   *                        {@link SpriteFileCache#getInstance() shared} one to keep them across
+   *                        level loads.
    * @throws SpriteParseException if an error occurs while loading the properties file or required
    *                              properties are missing.
    */
-  public SpriteDataParser() throws SpriteParseException {
+  public SpriteDataParser(SpriteFileCache spriteFileCache) throws SpriteParseException {
+    this.mySpriteFileCache = spriteFileCache;
     Map<String, String> dataPaths = loadDataPaths();
     this.pathToGraphicsData =
         System.getProperty("user.dir") + File.separator + getRequiredProperty(dataPaths,
@@ -118,52 +148,153 @@ public class SpriteDataParser {
    * Retrieves a {@link SpriteData} record from an XML sprite file.
    *
    * <p>
-   * Builds the file path for the sprite XML file, loads and parses the document, and extracts the
-   * sprite, frame, and animation information from it.
+   * Builds the file path for the sprite XML file and looks the sprite up in that file's parsed
+   * contents, parsing the file into its sprites, frames and animations only if it is not cached
+   * yet.
    * </p>
    *
    * @param request a {@link SpriteRequest} object containing all required sprite parameters.
-   * @return a {@link SpriteData} object representing the parsed sprite data.
+   * @return an unmodifiable {@link SpriteData} object representing the parsed sprite data.
    * @throws SpriteParseException if an error occurs during parsing or if the specified sprite is
    *                              not found.
    */
   public SpriteData getSpriteData(SpriteRequest request) throws SpriteParseException {
+    String filePath = resolveFilePath(request);
+    File spriteFile = new File(filePath);
+
+    SpriteFile contents = mySpriteFileCache.get(spriteFile);
+    if (contents == null) {
+      contents = awaitPrefetched(filePath);
+    }
+    if (contents == null) {
+      contents = parseSpriteFile(spriteFile, request.gameName());
+      mySpriteFileCache.put(spriteFile, contents);
+    }
+
+    SpriteData spriteData = contents.sprites().get(request.spriteName());
+    if (spriteData == null) {
+      String invalidReason = contents.invalidSprites().get(request.spriteName());
+      if (invalidReason != null) {
+        throw new SpriteParseException("Sprite with name " + request.spriteName()
+            + " in file " + filePath + " is invalid: " + invalidReason);
+      }
+      throw new SpriteParseException(
+          "Sprite with name " + request.spriteName() + " not found in file " + filePath);
+    }
+    return spriteData;
+  }
+
+  /**
+   * Starts parsing the sprite file of a request on a background thread, unless it is already
+   * cached or being parsed, so that a later {@link #getSpriteData(SpriteRequest)} for it only has
+   * to wait for the rest of that parse.
+   *
+   * <p>
+   * Loaders call this for every sprite they will need before asking for any of them, so distinct
+   * sprite files are read and parsed in parallel on a pool bounded by the number of cores. Errors
+   * are not reported here; they are thrown by {@link #getSpriteData(SpriteRequest)}, in the order
+   * the sprites are requested, exactly as if the files had been parsed on the calling thread.
+   * </p>
+   *
+   * @param request a {@link SpriteRequest} for a sprite that will be requested later.
+   */
+  public void prefetch(SpriteRequest request) {
+    String filePath = resolveFilePath(request);
+    File spriteFile = new File(filePath);
+    if (prefetchedSpriteFiles.containsKey(filePath) || mySpriteFileCache.get(spriteFile) != null) {
+      return;
+    }
+    String gameName = request.gameName();
+    prefetchedSpriteFiles.put(filePath, SPRITE_FILE_READERS.submit(() -> {
+      SpriteFile contents = parseSpriteFile(spriteFile, gameName);
+      mySpriteFileCache.put(spriteFile, contents);
+      return contents;
+    }));
+  }
+
+  /**
+   * Waits for a sprite file started by {@link #prefetch(SpriteRequest)}.
+   *
+   * @param filePath the path to the sprite XML file.
+   * @return the parsed contents of the file, or null if it was not prefetched.
+   * @throws SpriteParseException if the prefetched parse failed.
+   */
+  private SpriteFile awaitPrefetched(String filePath) throws SpriteParseException {
+    Future<SpriteFile> prefetched = prefetchedSpriteFiles.remove(filePath);
+    if (prefetched == null) {
+      return null;
+    }
+    try {
+      return prefetched.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SpriteParseException("Interrupted while parsing " + filePath, e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof SpriteParseException spriteParseException) {
+        throw spriteParseException;
+      }
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new SpriteParseException(e.getCause().getMessage(), e.getCause());
+    }
+  }
+
+  /**
+   * Builds the path to a request's sprite XML file, falling back to the game's folder when the
+   * file is not in the request's group and type folder.
+   *
+   * @param request the sprite request.
+   * @return the path to the sprite XML file.
+   */
+  private String resolveFilePath(SpriteRequest request) {
     String filePath = buildFilePath(
         request.gameName(),
         request.group(),
         request.type(),
         request.spriteFile()
     );
-
-    Document doc;
     File spriteFile = new File(filePath);
-
     if (!spriteFile.exists() || !spriteFile.isFile()) {
-
       filePath = buildFilePath(request.gameName(), null, null, request.spriteFile());
-      doc = loadDocument(filePath);
-
-    } else {
-
-      doc = loadDocument(filePath);
-
     }
+    return filePath;
+  }
 
-    Element spriteFileElement = doc.getDocumentElement();
-
-    File spriteSheetFile = getSpriteSheetFile(spriteFileElement, request.gameName());
+  /**
+   * Parses every sprite of a sprite XML file, indexed by name. When several sprites share a name,
+   * the first one wins.
+   *
+   * @param spriteFile the sprite XML file.
+   * @param gameName   the name of the game the file belongs to.
+   * @return the parsed contents of the file.
+   * @throws SpriteParseException if the file cannot be loaded.
+   */
+  private SpriteFile parseSpriteFile(File spriteFile, String gameName)
+      throws SpriteParseException {
+    Element spriteFileElement = loadDocument(spriteFile.getPath()).getDocumentElement();
+    File spriteSheetFile = getSpriteSheetFile(spriteFileElement, gameName);
 
-    Element targetSprite = getTargetSprite(spriteFileElement, request.spriteName());
-    if (targetSprite == null) {
-      throw new SpriteParseException(
-          "Sprite with name " + request.spriteName() + " not found in file " + filePath);
+    Map<String, SpriteData> sprites = new HashMap<>();
+    Map<String, String> invalidSprites = new HashMap<>();
+    NodeList spriteNodes = spriteFileElement.getElementsByTagName("sprite");
+    for (int i = 0; i < spriteNodes.getLength(); i++) {
+      Element spriteElement = (Element) spriteNodes.item(i);
+      String spriteName = spriteElement.getAttribute(nameAttribute);
+      if (sprites.containsKey(spriteName) || invalidSprites.containsKey(spriteName)) {
+        continue;
+      }
+      try {
+        FrameData baseImage = parseBaseImage(spriteElement, spriteName);
+        List<FrameData> frames = List.copyOf(parseFrames(spriteElement));
+        List<AnimationData> animations = List.copyOf(parseAnimations(spriteElement));
+        sprites.put(spriteName,
+            new SpriteData(spriteName, spriteSheetFile, baseImage, frames, animations));
+      } catch (NumberFormatException e) {
+        invalidSprites.put(spriteName, e.getMessage());
+      }
     }
-
-    FrameData baseImage = parseBaseImage(targetSprite, request.spriteName());
-    List<FrameData> frames = parseFrames(targetSprite);
-    List<AnimationData> animations = parseAnimations(targetSprite);
-
-    return new SpriteData(request.spriteName(), spriteSheetFile, baseImage, frames, animations);
+    return new SpriteFile(Map.copyOf(sprites), Map.copyOf(invalidSprites));
   }
 
 
@@ -220,24 +351,6 @@ public class SpriteDataParser {
     return new File(pathToGraphicsData + File.separator + gameName, imagePath);
   }
 
-  /**
-   * Searches for and returns the <code>&lt;sprite&gt;</code> element with the given spriteName.
-   *
-   * @param spriteFileElement the root element of the sprite file.
-   * @param spriteName        the name of the sprite.
-   * @return the matching sprite element, or null if not found.
-   */
-  private Element getTargetSprite(Element spriteFileElement, String spriteName) {
-    NodeList spriteNodes = spriteFileElement.getElementsByTagName("sprite");
-    for (int i = 0; i < spriteNodes.getLength(); i++) {
-      Element spriteElement = (Element) spriteNodes.item(i);
-      if (spriteName.equals(spriteElement.getAttribute(nameAttribute))) {
-        return spriteElement;
-      }
-    }
-    return null;
-  }
-
   /**
    * Parses the base frame data (base image) from the target sprite element.
    *
@@ -331,6 +444,6 @@ public class SpriteDataParser {
     for (String frameName : frameNames) {
       framesList.add(frameName.trim());
     }
-    return new AnimationData(name, frameLen, framesList);
+    return new AnimationData(name, frameLen, List.copyOf(framesList));
   }
 }
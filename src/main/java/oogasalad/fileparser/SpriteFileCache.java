@@ -0,0 +1,112 @@
+package oogasalad.fileparser;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import oogasalad.fileparser.records.SpriteData;
+
+/**
+ * Bounded cache of parsed sprite files, so blueprints that share a sprite file only parse it once.
+ * <p>
+ * Each entry holds every sprite of one file, indexed by name, and remembers the file's size and
+ * modification time when it was parsed; an entry whose file has changed since is treated as
+ * missing. Once the cache holds more than its capacity, the least recently used file is dropped.
+ * </p>
+ * <p>
+ * A {@link SpriteDataParser} gets its own cache by default, which lasts for one level load. The
+ * shared {@link #getInstance() instance} keeps sprite files across loads, since every level of a
+ * game draws on the same few sprite files. The cache is synchronized and can be used from loader
+ * threads.
+ * </p>
+ *
+ * @author Billy McCune
+ */
+public class SpriteFileCache {
+
+  private static final int DEFAULT_CAPACITY = 64;
+  private static final SpriteFileCache instance = new SpriteFileCache(DEFAULT_CAPACITY);
+
+  private final Map<String, CachedSpriteFile> spriteFiles;
+
+  /**
+   * The parsed contents of one sprite file.
+   *
+   * @param sprites        the unmodifiable sprites of the file, by name
+   * @param invalidSprites the reason each sprite that could not be parsed was rejected, by name
+   */
+  record SpriteFile(Map<String, SpriteData> sprites, Map<String, String> invalidSprites) {
+
+  }
+
+  private record CachedSpriteFile(long length, long lastModified, SpriteFile spriteFile) {
+
+  }
+
+  /**
+   * Creates a cache.
+   *
+   * @param capacity the number of sprite files kept before the least recently used one is dropped
+   */
+  public SpriteFileCache(int capacity) {
+    spriteFiles = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, CachedSpriteFile> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  /**
+   * @return the sprite file cache shared across level loads
+   */
+  public static SpriteFileCache getInstance() {
+    return instance;
+  }
+
+  /**
+   * Returns the parsed contents of a sprite file, if it was parsed since the file last changed.
+   *
+   * @param file the sprite file
+   * @return the cached contents, or {@code null} if there are none or they are stale
+   */
+  synchronized SpriteFile get(File file) {
+    String key = keyOf(file);
+    CachedSpriteFile cached = spriteFiles.get(key);
+    if (cached == null) {
+      return null;
+    }
+    if (cached.length() != file.length() || cached.lastModified() != file.lastModified()) {
+      spriteFiles.remove(key);
+      return null;
+    }
+    return cached.spriteFile();
+  }
+
+  /**
+   * Caches the parsed contents of a sprite file, stamped with the file's current size and
+   * modification time.
+   *
+   * @param file       the sprite file
+   * @param spriteFile the parsed contents of the file
+   */
+  synchronized void put(File file, SpriteFile spriteFile) {
+    spriteFiles.put(keyOf(file),
+        new CachedSpriteFile(file.length(), file.lastModified(), spriteFile));
+  }
+
+  /**
+   * Drops every cached sprite file.
+   */
+  public synchronized void clear() {
+    spriteFiles.clear();
+  }
+
+  private static String keyOf(File file) {
+    try {
+      return file.getCanonicalPath();
+    } catch (IOException e) {
+      return file.getAbsolutePath();
+    }
+  }
+}
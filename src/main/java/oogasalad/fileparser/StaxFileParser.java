@@ -0,0 +1,614 @@
+package oogasalad.fileparser;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import oogasalad.exceptions.BlueprintParseException;
+import oogasalad.exceptions.CameraParserException;
+import oogasalad.exceptions.EventParseException;
+import oogasalad.exceptions.GameObjectParseException;
+import oogasalad.exceptions.HitBoxParseException;
+import oogasalad.exceptions.LayerParseException;
+import oogasalad.exceptions.LevelDataParseException;
+import oogasalad.exceptions.PropertyParsingException;
+import oogasalad.exceptions.SpriteParseException;
+import oogasalad.exceptions.SpriteSheetLoadException;
+import oogasalad.fileparser.records.BlueprintData;
+import oogasalad.fileparser.records.CameraData;
+import oogasalad.fileparser.records.ConditionData;
+import oogasalad.fileparser.records.EventData;
+import oogasalad.fileparser.records.GameObjectData;
+import oogasalad.fileparser.records.HitBoxData;
+import oogasalad.fileparser.records.LevelData;
+import oogasalad.fileparser.records.OutcomeData;
+import oogasalad.fileparser.records.SpriteRequest;
+import oogasalad.fileparser.records.SpriteSheetData;
+
+/**
+ * A {@link FileParserApi} that reads level files in a single streaming pass with an
+ * {@link XMLStreamReader}, instead of building a DOM tree first like {@link DefaultFileParser}.
+ * <p>
+ * The level is read top to bottom once, and each section (camera, layers, blueprints and events) is
+ * turned into records as soon as its elements are seen, so no intermediate tree of the whole file
+ * is kept in memory. The resulting {@link LevelData} is the same as the one built by
+ * {@link DefaultFileParser}; the only section that depends on another is the blueprints' events,
+ * which are declared after the blueprints in level files and are linked once the pass is done.
+ * Blueprint sprite files are parsed in the background while the pass goes on, and the sprites are
+ * linked to their blueprints, in document order, once it is done. Only the blueprints the level's
+ * objects are made from or its events spawn get their sprite then; the rest are returned in a
+ * {@link LazyBlueprintMap} and parse their sprite the first time they are looked up.
+ * </p>
+ * <p>
+ * Sprite sheet files are small and read whole, so they are still parsed by
+ * {@link DefaultFileParser}.
+ * </p>
+ *
+ * @author Billy McCune, Jacob You
+ * @see FileParserApi
+ * @see LevelData
+ */
+public class StaxFileParser implements FileParserApi {
+
+  private static final XMLInputFactory inputFactory = createInputFactory();
+
+  private final GameObjectDataParser myGameObjectDataParser;
+  private final DefaultFileParser mySpriteSheetParser;
+
+  /**
+   * Constructs a new {@code StaxFileParser}.
+   */
+  public StaxFileParser() {
+    myGameObjectDataParser = new GameObjectDataParser();
+    mySpriteSheetParser = new DefaultFileParser();
+  }
+
+  private static XMLInputFactory createInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    return factory;
+  }
+
+  /**
+   * Parses the level XML file and returns a LevelData record.
+   *
+   * @param filePath the path to the level file
+   * @return a LevelData record representing the parsed level
+   * @throws LevelDataParseException if the file cannot be read or is not well-formed XML
+   */
+  @Override
+  public LevelData parseLevelFile(String filePath)
+      throws BlueprintParseException, SpriteParseException,
+      LevelDataParseException, HitBoxParseException, GameObjectParseException,
+      PropertyParsingException, EventParseException, LayerParseException {
+    File levelFile = new File(filePath);
+    try (InputStream in = new BufferedInputStream(new FileInputStream(levelFile))) {
+      XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+      try {
+        return new LevelReader(reader).read(levelFile.getName());
+      } finally {
+        reader.close();
+      }
+    } catch (IOException | XMLStreamException | NumberFormatException e) {
+      throw new LevelDataParseException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Parse the specified sprite sheet XML file and return the sprite data.
+   *
+   * @param filePath the path to the sprite sheet to be parsed
+   * @return the {@link SpriteSheetData} record representing the parsed sprite sheet data
+   * @throws SpriteSheetLoadException if an error occurs while parsing the sprite sheet
+   */
+  @Override
+  public SpriteSheetData parseSpriteSheet(String filePath) throws SpriteSheetLoadException {
+    return mySpriteSheetParser.parseSpriteSheet(filePath);
+  }
+
+  /**
+   * A blueprint's event list waiting for the events it names to be read.
+   */
+  private record PendingEvents(List<EventData> eventDataList, String eventIds) {
+
+  }
+
+  /**
+   * A blueprint waiting for its sprite, which is null if the blueprint has none.
+   */
+  private record PendingSprite(BlueprintData blueprint, SpriteRequest spriteRequest) {
+
+  }
+
+  /**
+   * Walks the elements below the element the reader was on when the scope was opened. Child
+   * subtrees that a handler reads up to their end tag must be reported with {@link #consumed()}.
+   */
+  private static class Scope {
+
+    private final XMLStreamReader reader;
+    private int depth = 1;
+
+    Scope(XMLStreamReader reader) {
+      this.reader = reader;
+    }
+
+    /**
+     * Advances to the next start tag within the scope.
+     *
+     * @return {@code false} once the end tag of the scope's element has been reached
+     */
+    boolean nextElement() throws XMLStreamException {
+      while (reader.hasNext()) {
+        int event = reader.next();
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          depth++;
+          return true;
+        }
+        if (event == XMLStreamConstants.END_ELEMENT && --depth == 0) {
+          return false;
+        }
+      }
+      return false;
+    }
+
+    void consumed() {
+      depth--;
+    }
+  }
+
+  /**
+   * Per-file state of a single pass over a level.
+   */
+  private class LevelReader {
+
+    private final XMLStreamReader reader;
+    private final List<EventData> events = new ArrayList<>();
+    private final List<PendingEvents> pendingEvents = new ArrayList<>();
+    private final List<PendingSprite> pendingSprites = new ArrayList<>();
+    private final Map<Integer, BlueprintData> blueprints = new HashMap<>();
+    private final List<GameObjectData> gameObjects = new ArrayList<>();
+    private final Set<Integer> placedBlueprintIds = new HashSet<>();
+    private CameraData cameraData;
+    private boolean layersRead;
+    private SpriteDataParser spriteDataParser;
+
+    LevelReader(XMLStreamReader reader) {
+      this.reader = reader;
+    }
+
+    LevelData read(String levelName)
+        throws XMLStreamException, BlueprintParseException, SpriteParseException,
+        HitBoxParseException, GameObjectParseException, PropertyParsingException,
+        EventParseException, LayerParseException {
+      reader.nextTag();
+      int minX = Integer.parseInt(attribute("minX"));
+      int minY = Integer.parseInt(attribute("minY"));
+      int maxX = Integer.parseInt(attribute("maxX"));
+      int maxY = Integer.parseInt(attribute("maxY"));
+
+      Scope scope = new Scope(reader);
+      while (scope.nextElement()) {
+        switch (reader.getLocalName()) {
+          case "cameraData" -> {
+            if (cameraData == null) {
+              cameraData = readCamera();
+              scope.consumed();
+            }
+          }
+          case "layers" -> {
+            if (!layersRead) {
+              readLayers();
+              layersRead = true;
+              scope.consumed();
+            }
+          }
+          case "game" -> {
+            readGame();
+            scope.consumed();
+          }
+          case "event" -> {
+            events.add(readEvent());
+            scope.consumed();
+          }
+          default -> {
+          }
+        }
+      }
+      if (cameraData == null) {
+        throw new CameraParserException("No Camera Data found");
+      }
+      linkEvents();
+      return new LevelData(levelName, minX, minY, maxX, maxY, cameraData, linkSprites(),
+          gameObjects);
+    }
+
+    private String attribute(String name) {
+      String value = reader.getAttributeValue(null, name);
+      return value == null ? "" : value;
+    }
+
+    private CameraData readCamera() throws XMLStreamException, PropertyParsingException {
+      String type = attribute("type");
+      Map<String, String> stringProperties = null;
+      Map<String, Double> doubleProperties = null;
+      Scope scope = new Scope(reader);
+      while (scope.nextElement()) {
+        if (doubleProperties == null && "doubleProperties".equals(reader.getLocalName())) {
+          doubleProperties = readDoubleProperties("property");
+          scope.consumed();
+        } else if (stringProperties == null
+            && "stringProperties".equals(reader.getLocalName())) {
+          stringProperties = readStringProperties("property");
+          scope.consumed();
+        }
+      }
+      return new CameraData(type, orEmpty(stringProperties), orEmpty(doubleProperties));
+    }
+
+    private void readLayers()
+        throws XMLStreamException, LayerParseException, GameObjectParseException {
+      Scope scope = new Scope(reader);
+      while (scope.nextElement()) {
+        if ("layer".equals(reader.getLocalName())) {
+          readLayer();
+          scope.consumed();
+        }
+      }
+    }
+
+    private void readLayer()
+        throws XMLStreamException, LayerParseException, GameObjectParseException {
+      int z;
+      try {
+        z = Integer.parseInt(attribute("z"));
+      } catch (NumberFormatException e) {
+        throw new LayerParseException(e.getMessage());
+      }
+      boolean dataRead = false;
+      Scope scope = new Scope(reader);
+      while (scope.nextElement()) {
+        if (!dataRead && "data".equals(reader.getLocalName())) {
+          readLayerData(z);
+          dataRead = true;
+          scope.consumed();
+        }
+      }
+    }
+
+    private void readLayerData(int z) throws XMLStreamException, GameObjectParseException {
+      Scope scope = new Scope(reader);
+      while (scope.nextElement()) {
+        if ("object".equals(reader.getLocalName())) {
+          List<GameObjectData> objects = myGameObjectDataParser.getGameObjectData(attribute("id"),
+              attribute("name"), attribute("uid"), attribute("coordinates"),
+              attribute(LayerObjectFormat.PACKED_UIDS),
+              attribute(LayerObjectFormat.PACKED_COORDINATES), z);
+          gameObjects.addAll(objects);
+          for (GameObjectData object : objects) {
+            placedBlueprintIds.add(object.blueprintId());
+          }
+        }
+      }
+    }
+
+    private void readGame()
+        throws XMLStreamException, BlueprintParseException, SpriteParseException,
+        HitBoxParseException, PropertyParsingException {
+      String gameName = attribute("name");
+      Scope scope = new Scope(reader);
+      while (scope.nextElement()) {
+        if ("objectGroup".equals(reader.getLocalName())) {
+          readObjectGroup(gameName);
+          scope.consumed();
+        }
+      }
+    }
+
+    private void readObjectGroup(String gameName)
+        throws XMLStreamException, BlueprintParseException, SpriteParseException,
+        HitBoxParseException, PropertyParsingException {
+      String groupName = attribute("name");
+      Scope scope = new Scope(reader);
+      while (scope.nextElement()) {
+        if ("object".equals(reader.getLocalName())) {
+          readBlueprint(gameName, groupName);
+          scope.consumed();
+        }
+      }
+    }
+
+    private void readBlueprint(String gameName, String groupName)
+        throws XMLStreamException, BlueprintParseException, SpriteParseException,
+        HitBoxParseException, PropertyParsingException {
+      int id;
+      double velocityX;
+      double velocityY;
+      double rotation;
+      try {
+        id = Integer.parseInt(attribute("id"));
+        velocityX = Double.parseDouble(attribute("velocityX"));
+        velocityY = Double.parseDouble(attribute("velocityY"));
+        rotation = Double.parseDouble(attribute("rotation"));
+      } catch (NumberFormatException e) {
+        throw new BlueprintParseException("error.number", e);
+      }
+      boolean isFlipped = Boolean.parseBoolean(attribute("flipped"));
+      String type = attribute("type");
+
+      SpriteRequest spriteRequest = null;
+      if (!gameName.isEmpty()) {
+        spriteRequest = new SpriteRequest(gameName, groupName, type, attribute("spriteName"),
+            attribute("spriteFile"));
+        if (placedBlueprintIds.contains(id)) {
+          spriteDataParser().prefetch(spriteRequest);
+        }
+      }
+      HitBoxData hitBoxData = readHitBox();
+
+      List<EventData> eventDataList = new ArrayList<>();
+      String eventIds = attribute("eventIDs");
+      if (!eventIds.isEmpty()) {
+        pendingEvents.add(new PendingEvents(eventDataList, eventIds));
+      }
+
+      Map<String, Double> doubleProperties = null;
+      Map<String, String> stringProperties = null;
+      List<String> displayedProperties = null;
+      Scope scope = new Scope(reader);
+      while (scope.nextElement()) {
+        String name = reader.getLocalName();
+        if (doubleProperties == null && "doubleProperties".equals(name)) {
+          doubleProperties = readDoubleProperties("property");
+          scope.consumed();
+        } else if (stringProperties == null && "stringProperties".equals(name)) {
+          stringProperties = readStringProperties("property");
+          scope.consumed();
+        } else if (displayedProperties == null && "displayedProperties".equals(name)) {
+          String propertyList = reader.getAttributeValue(null, "propertyList");
+          displayedProperties = propertyList == null ? new ArrayList<>()
+              : List.of(propertyList.split(","));
+        }
+      }
+      pendingSprites.add(new PendingSprite(new BlueprintData(id, velocityX, velocityY, rotation,
+          isFlipped, gameName, groupName, type, null, hitBoxData, eventDataList,
+          orEmpty(stringProperties), orEmpty(doubleProperties),
+          displayedProperties == null ? new ArrayList<>() : displayedProperties), spriteRequest));
+    }
+
+    private HitBoxData readHitBox() throws HitBoxParseException {
+      try {
+        return new HitBoxData(attribute("hitBoxShape"),
+            Integer.parseInt(attribute("hitBoxWidth")),
+            Integer.parseInt(attribute("hitBoxHeight")),
+            Integer.parseInt(attribute("spriteDx")),
+            Integer.parseInt(attribute("spriteDy")));
+      } catch (NumberFormatException e) {
+        throw new HitBoxParseException(e.getMessage(), e);
+      }
+    }
+
+    private SpriteDataParser spriteDataParser() throws SpriteParseException {
+      if (spriteDataParser == null) {
+        spriteDataParser = new SpriteDataParser(SpriteFileCache.getInstance());
+      }
+      return spriteDataParser;
+    }
+
+    private EventData readEvent()
+        throws XMLStreamException, EventParseException, PropertyParsingException {
+      String type = attribute("type");
+      String id = attribute("id");
+      List<List<ConditionData>> conditions = null;
+      List<OutcomeData> outcomes = null;
+      Scope scope = new Scope(reader);
+      while (scope.nextElement()) {
+        if (conditions == null && "conditions".equals(reader.getLocalName())) {
+          conditions = readConditions();
+          scope.consumed();
+        } else if (outcomes == null && "outcomes".equals(reader.getLocalName())) {
+          outcomes = readOutcomes();
+          scope.consumed();
+        }
+      }
+      if (conditions == null) {
+        throw new EventParseException("Event " + id + " has no conditions");
+      }
+      return new EventData(type, id, conditions, outcomes == null ? new ArrayList<>() : outcomes);
+    }
+
+    private List<List<ConditionData>> readConditions()
+        throws XMLStreamException, PropertyParsingException {
+      List<List<ConditionData>> conditionSets = new ArrayList<>();
+      Scope scope = new Scope(reader);
+      while (scope.nextElement()) {
+        if ("conditionSet".equals(reader.getLocalName())) {
+          List<ConditionData> conditionSet = new ArrayList<>();
+          Scope setScope = new Scope(reader);
+          while (setScope.nextElement()) {
+            if ("condition".equals(reader.getLocalName())) {
+              String name = attribute("name");
+              Map<String, String> stringParameters = new HashMap<>();
+              Map<String, Double> doubleParameters = new HashMap<>();
+              readParameters(stringParameters, doubleParameters);
+              conditionSet.add(new ConditionData(name, stringParameters, doubleParameters));
+              setScope.consumed();
+            }
+          }
+          conditionSets.add(conditionSet);
+          scope.consumed();
+        }
+      }
+      return conditionSets;
+    }
+
+    private List<OutcomeData> readOutcomes() throws XMLStreamException, PropertyParsingException {
+      List<OutcomeData> outcomes = new ArrayList<>();
+      Scope scope = new Scope(reader);
+      while (scope.nextElement()) {
+        if ("outcome".equals(reader.getLocalName())) {
+          String name = attribute("name");
+          Map<String, String> stringParameters = new HashMap<>();
+          Map<String, Double> doubleParameters = new HashMap<>();
+          readParameters(stringParameters, doubleParameters);
+          outcomes.add(new OutcomeData(name, stringParameters, doubleParameters));
+          scope.consumed();
+        }
+      }
+      return outcomes;
+    }
+
+    private void readParameters(Map<String, String> stringParameters,
+        Map<String, Double> doubleParameters)
+        throws XMLStreamException, PropertyParsingException {
+      boolean stringsRead = false;
+      boolean doublesRead = false;
+      Scope scope = new Scope(reader);
+      while (scope.nextElement()) {
+        if (!doublesRead && "doubleParameters".equals(reader.getLocalName())) {
+          doubleParameters.putAll(readDoubleProperties("parameter"));
+          doublesRead = true;
+          scope.consumed();
+        } else if (!stringsRead && "stringParameters".equals(reader.getLocalName())) {
+          stringParameters.putAll(readStringProperties("parameter"));
+          stringsRead = true;
+          scope.consumed();
+        }
+      }
+    }
+
+    private Map<String, Double> readDoubleProperties(String childTag)
+        throws XMLStreamException, PropertyParsingException {
+      return readProperties(childTag, Double::parseDouble, "error.invalid.doubleValue");
+    }
+
+    private Map<String, String> readStringProperties(String childTag)
+        throws XMLStreamException, PropertyParsingException {
+      return readProperties(childTag, s -> s, "error.stringProperties.conversion");
+    }
+
+    /**
+     * Reads the direct {@code childTag} children of the current properties element, mirroring
+     * {@link PropertyParser}: a value comes from the {@code value} attribute, or the element's
+     * text when the attribute is empty.
+     */
+    private <T> Map<String, T> readProperties(String childTag, Function<String, T> converter,
+        String errorPrefix) throws XMLStreamException, PropertyParsingException {
+      Map<String, T> properties = new HashMap<>();
+      int depth = 1;
+      while (depth > 0 && reader.hasNext()) {
+        switch (reader.next()) {
+          case XMLStreamConstants.START_ELEMENT -> {
+            if (depth == 1 && childTag.equals(reader.getLocalName())) {
+              String name = attribute("name");
+              String value = attribute("value");
+              if (value.isEmpty()) {
+                value = reader.getElementText().trim();
+              } else {
+                skipElement();
+              }
+              try {
+                properties.put(name, converter.apply(value));
+              } catch (IllegalArgumentException e) {
+                throw new PropertyParsingException("error." + errorPrefix + ".illegalValue", e);
+              }
+            } else {
+              depth++;
+            }
+          }
+          case XMLStreamConstants.END_ELEMENT -> depth--;
+          case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+            if (depth == 1 && !reader.getText().trim().isEmpty()) {
+              throw new PropertyParsingException("error.data.notElement");
+            }
+          }
+          default -> {
+          }
+        }
+      }
+      return properties;
+    }
+
+    private void skipElement() throws XMLStreamException {
+      Scope scope = new Scope(reader);
+      while (scope.nextElement()) {
+        // read through the element's children up to its end tag
+      }
+    }
+
+    /**
+     * Gives every blueprint the level can instantiate its sprite, in document order, and leaves
+     * the others as stubs that parse their sprite on first lookup. Sprite files of blueprints
+     * placed in layers read before them were prefetched during the pass and the rest are
+     * prefetched here, so this mostly waits for the slowest of them.
+     *
+     * @return the level's blueprints, lazy if any of them were left as stubs
+     */
+    private Map<Integer, BlueprintData> linkSprites() throws SpriteParseException {
+      Map<Integer, BlueprintData> spriteless = new HashMap<>();
+      for (PendingSprite pending : pendingSprites) {
+        spriteless.put(pending.blueprint().blueprintId(), pending.blueprint());
+      }
+      Set<Integer> reachable = BlueprintReachability.reachableIds(gameObjects, spriteless);
+      for (PendingSprite pending : pendingSprites) {
+        if (pending.spriteRequest() != null
+            && reachable.contains(pending.blueprint().blueprintId())) {
+          spriteDataParser().prefetch(pending.spriteRequest());
+        }
+      }
+
+      Map<Integer, LazyBlueprintMap.Resolver> stubs = new HashMap<>();
+      for (PendingSprite pending : pendingSprites) {
+        BlueprintData blueprint = pending.blueprint();
+        SpriteRequest spriteRequest = pending.spriteRequest();
+        stubs.remove(blueprint.blueprintId());
+        if (spriteRequest != null && reachable.contains(blueprint.blueprintId())) {
+          blueprint = BlueprintDataParser.withSprite(blueprint,
+              spriteDataParser().getSpriteData(spriteRequest));
+        } else if (spriteRequest != null) {
+          SpriteDataParser parser = spriteDataParser();
+          stubs.put(blueprint.blueprintId(),
+              stub -> BlueprintDataParser.withSprite(stub, parser.getSpriteData(spriteRequest)));
+        }
+        blueprints.put(blueprint.blueprintId(), blueprint);
+      }
+      return stubs.isEmpty() ? blueprints : new LazyBlueprintMap(blueprints, stubs);
+    }
+
+    private void linkEvents() {
+      for (PendingEvents pending : pendingEvents) {
+        for (String eventId : pending.eventIds().split(",")) {
+          pending.eventDataList().add(eventById(eventId));
+        }
+      }
+    }
+
+    private EventData eventById(String id) {
+      for (EventData eventData : events) {
+        if (Objects.equals(id, eventData.eventId())) {
+          return eventData;
+        }
+      }
+      return null;
+    }
+
+    private <T> Map<String, T> orEmpty(Map<String, T> properties) {
+      return properties == null ? new HashMap<>() : properties;
+    }
+  }
+}
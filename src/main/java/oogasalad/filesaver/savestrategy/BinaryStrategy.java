@@ -0,0 +1,331 @@
+package oogasalad.filesaver.savestrategy;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import oogasalad.exceptions.EditorSaveException;
+import oogasalad.exceptions.SpriteSheetSaveException;
+import oogasalad.fileparser.BinaryLevelFormat;
+import oogasalad.fileparser.LevelSourceStamp;
+import oogasalad.fileparser.records.AnimationData;
+import oogasalad.fileparser.records.BlueprintData;
+import oogasalad.fileparser.records.CameraData;
+import oogasalad.fileparser.records.ConditionData;
+import oogasalad.fileparser.records.EventData;
+import oogasalad.fileparser.records.FrameData;
+import oogasalad.fileparser.records.GameObjectData;
+import oogasalad.fileparser.records.HitBoxData;
+import oogasalad.fileparser.records.LevelData;
+import oogasalad.fileparser.records.OutcomeData;
+import oogasalad.fileparser.records.SpriteData;
+import oogasalad.fileparser.records.SpriteSheetData;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Concrete implementation of SaverStrategy for saving levels in the compiled binary format
+ * described by {@link BinaryLevelFormat}, which {@code BinaryFileParser} reads back without any
+ * XML parsing.
+ *
+ * @author Billy McCune
+ */
+public class BinaryStrategy implements SaverStrategy {
+
+  private static final Logger LOG = LogManager.getLogger();
+  private static final LevelSourceStamp NO_SOURCE = new LevelSourceStamp(List.of());
+
+  @Override
+  public void save(LevelData levelData, File outputFile) throws EditorSaveException {
+    write(levelData, outputFile, NO_SOURCE);
+  }
+
+  /**
+   * Compiles a level parsed from an XML file into the binary file next to it, stamped with the
+   * sizes and modification times of the XML file and its sprite files so loaders can tell when it
+   * goes stale.
+   *
+   * @param levelData the level parsed from the source file
+   * @param source    the XML file the level was parsed from
+   * @return the compiled file
+   * @throws EditorSaveException if the compiled file cannot be written
+   */
+  public File compile(LevelData levelData, File source) throws EditorSaveException {
+    return compile(levelData, source, LevelSourceStamp.of(source, levelData));
+  }
+
+  /**
+   * Compiles a level parsed from an XML file into the binary file next to it, with a stamp of its
+   * sources taken by the caller.
+   *
+   * @param levelData the level parsed from the source file
+   * @param source    the XML file the level was parsed from
+   * @param stamp     the stamp of the XML file and the sprite files the level was read from
+   * @return the compiled file
+   * @throws EditorSaveException if the compiled file cannot be written
+   */
+  public File compile(LevelData levelData, File source, LevelSourceStamp stamp)
+      throws EditorSaveException {
+    File compiled = BinaryLevelFormat.compiledFileFor(source);
+    write(levelData, compiled, stamp);
+    return compiled;
+  }
+
+  @Override
+  public void saveSpriteSheet(SpriteSheetData spriteSheetData, File outputFile)
+      throws SpriteSheetSaveException {
+    throw new SpriteSheetSaveException("Sprite sheets cannot be saved in the binary format");
+  }
+
+  private void write(LevelData levelData, File outputFile, LevelSourceStamp stamp)
+      throws EditorSaveException {
+    File partial = new File(outputFile.getAbsoluteFile().getParentFile(),
+        outputFile.getName() + ".part");
+    try {
+      Encoder encoder = new Encoder();
+      encoder.writeLevel(levelData);
+      try (DataOutputStream out = new DataOutputStream(
+          new BufferedOutputStream(new FileOutputStream(partial)))) {
+        out.writeInt(BinaryLevelFormat.MAGIC);
+        out.writeShort(BinaryLevelFormat.VERSION);
+        BinaryLevelFormat.writeStamp(out, stamp);
+        encoder.writeTo(out);
+      }
+      Files.move(partial.toPath(), outputFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      LOG.warn("Could not save compiled level data.", e);
+      partial.delete();
+      throw new EditorSaveException("Could not save compiled level data.", e);
+    }
+  }
+
+  /**
+   * Writes the body of a level, collecting its strings into the table that precedes it.
+   */
+  private static class Encoder {
+
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(body);
+    private final Map<String, Integer> strings = new LinkedHashMap<>();
+    private final Map<EventData, Integer> events = new LinkedHashMap<>();
+    private final Map<SpriteData, Integer> sprites = new LinkedHashMap<>();
+    private final Path baseDirectory = Path.of(System.getProperty("user.dir")).toAbsolutePath();
+
+    void writeLevel(LevelData level) throws IOException {
+      writeString(level.name());
+      out.writeInt(level.minX());
+      out.writeInt(level.minY());
+      out.writeInt(level.maxX());
+      out.writeInt(level.maxY());
+      writeCamera(level.cameraData());
+
+      Map<Integer, BlueprintData> blueprints = level.gameBluePrintData() == null ? Map.of()
+          : new TreeMap<>(level.gameBluePrintData());
+      for (BlueprintData blueprint : blueprints.values()) {
+        if (blueprint.spriteData() != null) {
+          sprites.putIfAbsent(blueprint.spriteData(), sprites.size());
+        }
+        if (blueprint.eventDataList() != null) {
+          for (EventData event : blueprint.eventDataList()) {
+            if (event != null) {
+              events.putIfAbsent(event, events.size());
+            }
+          }
+        }
+      }
+      out.writeInt(events.size());
+      for (EventData event : events.keySet()) {
+        writeEvent(event);
+      }
+      out.writeInt(sprites.size());
+      for (SpriteData sprite : sprites.keySet()) {
+        writeSprite(sprite);
+      }
+      writeCount(level.gameBluePrintData() == null ? null : blueprints.keySet());
+      for (Map.Entry<Integer, BlueprintData> entry : blueprints.entrySet()) {
+        out.writeInt(entry.getKey());
+        writeBlueprint(entry.getValue());
+      }
+      writeCount(level.gameObjects());
+      if (level.gameObjects() != null) {
+        for (GameObjectData gameObject : level.gameObjects()) {
+          writeGameObject(gameObject);
+        }
+      }
+    }
+
+    void writeTo(DataOutputStream file) throws IOException {
+      file.writeInt(strings.size());
+      for (String string : strings.keySet()) {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        file.writeInt(bytes.length);
+        file.write(bytes);
+      }
+      body.writeTo(file);
+    }
+
+    private void writeCamera(CameraData camera) throws IOException {
+      out.writeBoolean(camera != null);
+      if (camera != null) {
+        writeString(camera.type());
+        writeStringMap(camera.stringProperties());
+        writeDoubleMap(camera.doubleProperties());
+      }
+    }
+
+    private void writeEvent(EventData event) throws IOException {
+      writeString(event.type());
+      writeString(event.eventId());
+      writeCount(event.conditions());
+      for (List<ConditionData> conditionSet : event.conditions()) {
+        writeCount(conditionSet);
+        for (ConditionData condition : conditionSet) {
+          writeString(condition.name());
+          writeStringMap(condition.stringProperties());
+          writeDoubleMap(condition.doubleProperties());
+        }
+      }
+      writeCount(event.outcomes());
+      for (OutcomeData outcome : event.outcomes()) {
+        writeString(outcome.name());
+        writeStringMap(outcome.stringProperties());
+        writeDoubleMap(outcome.doubleProperties());
+      }
+    }
+
+    private void writeSprite(SpriteData sprite) throws IOException {
+      writeString(sprite.name());
+      writeString(sprite.spriteFile() == null ? null : relativePath(sprite.spriteFile()));
+      writeFrame(sprite.baseImage());
+      writeCount(sprite.frames());
+      for (FrameData frame : sprite.frames()) {
+        writeFrame(frame);
+      }
+      writeCount(sprite.animations());
+      for (AnimationData animation : sprite.animations()) {
+        writeString(animation.name());
+        out.writeDouble(animation.frameLen());
+        writeStrings(animation.frameNames());
+      }
+    }
+
+    private void writeFrame(FrameData frame) throws IOException {
+      out.writeBoolean(frame != null);
+      if (frame != null) {
+        writeString(frame.name());
+        out.writeInt(frame.x());
+        out.writeInt(frame.y());
+        out.writeInt(frame.width());
+        out.writeInt(frame.height());
+      }
+    }
+
+    private void writeBlueprint(BlueprintData blueprint) throws IOException {
+      out.writeInt(blueprint.blueprintId());
+      out.writeDouble(blueprint.velocityX());
+      out.writeDouble(blueprint.velocityY());
+      out.writeDouble(blueprint.rotation());
+      out.writeBoolean(blueprint.isFlipped());
+      writeString(blueprint.gameName());
+      writeString(blueprint.group());
+      writeString(blueprint.type());
+      out.writeInt(blueprint.spriteData() == null ? -1 : sprites.get(blueprint.spriteData()));
+      HitBoxData hitBox = blueprint.hitBoxData();
+      out.writeBoolean(hitBox != null);
+      if (hitBox != null) {
+        writeString(hitBox.shape());
+        out.writeInt(hitBox.hitBoxWidth());
+        out.writeInt(hitBox.hitBoxHeight());
+        out.writeInt(hitBox.spriteDx());
+        out.writeInt(hitBox.spriteDy());
+      }
+      writeCount(blueprint.eventDataList());
+      if (blueprint.eventDataList() != null) {
+        for (EventData event : blueprint.eventDataList()) {
+          out.writeInt(event == null ? -1 : events.get(event));
+        }
+      }
+      writeStringMap(blueprint.stringProperties());
+      writeDoubleMap(blueprint.doubleProperties());
+      writeStrings(blueprint.displayedProperties());
+    }
+
+    private void writeGameObject(GameObjectData gameObject) throws IOException {
+      writeString(gameObject.name());
+      out.writeInt(gameObject.blueprintId());
+      out.writeBoolean(gameObject.uniqueId() != null);
+      if (gameObject.uniqueId() != null) {
+        out.writeLong(gameObject.uniqueId().getMostSignificantBits());
+        out.writeLong(gameObject.uniqueId().getLeastSignificantBits());
+      }
+      out.writeInt(gameObject.x());
+      out.writeInt(gameObject.y());
+      out.writeInt(gameObject.layer());
+      writeString(gameObject.layerName());
+    }
+
+    private void writeStringMap(Map<String, String> map) throws IOException {
+      writeCount(map == null ? null : map.keySet());
+      if (map != null) {
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+          writeString(entry.getKey());
+          writeString(entry.getValue());
+        }
+      }
+    }
+
+    private void writeDoubleMap(Map<String, Double> map) throws IOException {
+      writeCount(map == null ? null : map.keySet());
+      if (map != null) {
+        for (Map.Entry<String, Double> entry : map.entrySet()) {
+          writeString(entry.getKey());
+          out.writeDouble(entry.getValue());
+        }
+      }
+    }
+
+    private void writeStrings(List<String> list) throws IOException {
+      writeCount(list);
+      if (list != null) {
+        for (String string : list) {
+          writeString(string);
+        }
+      }
+    }
+
+    /**
+     * Writes the size of a collection, or {@code -1} for a missing one.
+     */
+    private void writeCount(Collection<?> collection) throws IOException {
+      out.writeInt(collection == null ? -1 : collection.size());
+    }
+
+    /**
+     * Writes the index of a string in the table, or {@code -1} for {@code null}.
+     */
+    private void writeString(String string) throws IOException {
+      out.writeInt(string == null ? -1 : strings.computeIfAbsent(string, key -> strings.size()));
+    }
+
+    /**
+     * Sprite files under the working directory are stored relative to it, so a compiled level
+     * still finds its sheets when the project is checked out somewhere else.
+     */
+    private String relativePath(File file) {
+      Path path = file.toPath().toAbsolutePath().normalize();
+      return path.startsWith(baseDirectory) ? baseDirectory.relativize(path).toString()
+          : path.toString();
+    }
+  }
+}
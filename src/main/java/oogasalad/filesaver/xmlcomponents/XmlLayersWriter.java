@@ -7,7 +7,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.UUID;
 import java.util.stream.Collectors;
+import oogasalad.fileparser.LayerObjectFormat;
 import oogasalad.fileparser.records.GameObjectData;
 import oogasalad.fileparser.records.LevelData;
 
@@ -21,6 +23,11 @@ public class XmlLayersWriter implements XmlComponentWriter {
   private static final String INDENT2 = INDENT + INDENT;
   private static final String INDENT3 = INDENT2 + INDENT;
   private static final String INDENT4 = INDENT3 + INDENT;
+  /**
+   * Layers with at least this many objects are written in the packed form of
+   * {@link LayerObjectFormat}, which is smaller and faster to read than the text form.
+   */
+  private static final int PACKED_LAYER_SIZE = 256;
   private final BufferedWriter writer;
   private final LevelData data;
 
@@ -69,8 +76,13 @@ public class XmlLayersWriter implements XmlComponentWriter {
 
     Map<Integer, List<GameObjectData>> groupedById = groupObjectsByBlueprintId(layerObjects);
 
+    boolean packed = layerObjects.size() >= PACKED_LAYER_SIZE;
     for (Map.Entry<Integer, List<GameObjectData>> objGroup : groupedById.entrySet()) {
-      writeObjectTag(writer, objGroup.getKey(), objGroup.getValue());
+      if (packed) {
+        writePackedObjectTag(writer, objGroup.getKey(), objGroup.getValue());
+      } else {
+        writeObjectTag(writer, objGroup.getKey(), objGroup.getValue());
+      }
     }
 
     writer.write(INDENT3 + "</data>\n");
@@ -98,5 +110,22 @@ public class XmlLayersWriter implements XmlComponentWriter {
 
     writer.write(String.format(INDENT4 + "<object name = \"%s\" id=\"%d\" coordinates=\"%s\" uid=\"%s\" />\n", name, blueprintId, coords, uids));
   }
-}
 
+  private void writePackedObjectTag(BufferedWriter writer, int blueprintId, List<GameObjectData> group) throws IOException {
+    String name = group.get(0).name();
+
+    int[] coords = new int[2 * group.size()];
+    for (int i = 0; i < group.size(); i++) {
+      coords[2 * i] = group.get(i).x();
+      coords[2 * i + 1] = group.get(i).y();
+    }
+
+    List<UUID> uids = group.stream()
+        .map(GameObjectData::uniqueId)
+        .toList();
+
+    writer.write(String.format(INDENT4 + "<object name = \"%s\" id=\"%d\" %s=\"%s\" %s=\"%s\" />\n", name, blueprintId,
+        LayerObjectFormat.PACKED_COORDINATES, LayerObjectFormat.encodeCoordinates(coords),
+        LayerObjectFormat.PACKED_UIDS, LayerObjectFormat.encodeUuids(uids)));
+  }
+}
@@ -64,7 +64,8 @@ class DefaultGameControllerTest {
   @Test
   void selectLevel_Basic_CallsManager() throws Exception {
     controller.selectLevel("test-level.xml");
-    verify(mockGameManager).selectGame("test-level.xml");
+    verify(mockGameManager).selectGameAsync(eq("test-level.xml"), any());
+    verify(mockGameManager, never()).selectGame(any());
   }
 
   @Test
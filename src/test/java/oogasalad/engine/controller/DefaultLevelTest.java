@@ -0,0 +1,156 @@
+package oogasalad.engine.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import oogasalad.engine.controller.api.GameControllerAPI;
+import oogasalad.exceptions.LevelDataParseException;
+import oogasalad.fileparser.FileParserApi;
+import oogasalad.fileparser.records.LevelData;
+import oogasalad.fileparser.records.SpriteSheetData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DefaultLevelTest {
+
+  @TempDir
+  Path tempDir;
+
+  private GameControllerAPI mockGameController;
+  private CountingParser parser;
+  private DefaultLevel level;
+  private String levelPath;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    mockGameController = mock(GameControllerAPI.class);
+    parser = new CountingParser();
+    level = new DefaultLevel(mockGameController, parser);
+    File levelFile = tempDir.resolve("Level1.xml").toFile();
+    Files.writeString(levelFile.toPath(), "<map/>");
+    levelPath = levelFile.getPath();
+  }
+
+  @Test
+  void loadLevel_InBackground_CompletesWithParsedLevelAndFullProgress() {
+    List<Double> progress = new CopyOnWriteArrayList<>();
+
+    LevelData loaded = level.loadLevel(levelPath, progress::add).join();
+
+    assertEquals("level", loaded.name());
+    assertEquals(0.0, progress.getFirst());
+    assertEquals(1.0, progress.getLast());
+  }
+
+  @Test
+  void loadLevel_AfterPreload_ReusesPreloadedLevel() {
+    level.preloadLevels(List.of(levelPath));
+
+    LevelData first = level.loadLevel(levelPath, progress -> {
+    }).join();
+    LevelData second = level.loadLevel(levelPath, progress -> {
+    }).join();
+
+    assertSame(first, second);
+    assertEquals(1, parser.calls.get());
+  }
+
+  @Test
+  void loadLevel_LevelFileChangedSincePreload_DropsPreloadAndLoadsAgain() {
+    level.preloadLevels(List.of(levelPath));
+    level.loadLevel(levelPath, progress -> {
+    }).join();
+
+    File levelFile = new File(levelPath);
+    assertTrue(levelFile.setLastModified(levelFile.lastModified() + 2000));
+    level.loadLevel(levelPath, progress -> {
+    }).join();
+
+    assertEquals(2, parser.calls.get());
+  }
+
+  @Test
+  void selectGame_PreloadFailed_LoadsLevelAgain() throws Exception {
+    CompletableFuture<LevelData> preload = failingPreload();
+    assertThrows(CompletionException.class, preload::join);
+
+    level.selectGame(levelPath);
+
+    assertEquals(2, parser.calls.get());
+    verify(mockGameController).setLevelData(parser.level);
+  }
+
+  @Test
+  void loadLevel_PreloadFailed_LoadsLevelAgain() {
+    CompletableFuture<LevelData> preload = failingPreload();
+    assertThrows(CompletionException.class, preload::join);
+
+    LevelData loaded = level.loadLevel(levelPath, progress -> {
+    }).join();
+
+    assertSame(parser.level, loaded);
+    assertEquals(2, parser.calls.get());
+  }
+
+  /**
+   * Preloads the level with a parse that fails, returning the preload while it is still running.
+   */
+  private CompletableFuture<LevelData> failingPreload() {
+    parser.failuresLeft.set(1);
+    parser.release = new CountDownLatch(1);
+    level.preloadLevels(List.of(levelPath));
+    CompletableFuture<LevelData> preload = level.loadLevel(levelPath, progress -> {
+    });
+    parser.release.countDown();
+    return preload;
+  }
+
+  /**
+   * Stands in for the level parser, counting how often a level file is parsed and failing the
+   * first few times if asked to. Parsing waits until {@code release} opens.
+   */
+  private static class CountingParser implements FileParserApi {
+
+    private final LevelData level = new LevelData("level", 0, 0, 100, 100, null,
+        new HashMap<>(), new ArrayList<>());
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+    private volatile CountDownLatch release = new CountDownLatch(0);
+
+    @Override
+    public LevelData parseLevelFile(String filePath) throws LevelDataParseException {
+      calls.incrementAndGet();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (failuresLeft.getAndDecrement() > 0) {
+        throw new LevelDataParseException("Broken level " + filePath);
+      }
+      return level;
+    }
+
+    @Override
+    public SpriteSheetData parseSpriteSheet(String filePath) {
+      return null;
+    }
+  }
+}
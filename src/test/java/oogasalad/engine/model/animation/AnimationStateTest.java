@@ -0,0 +1,101 @@
+package oogasalad.engine.model.animation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import oogasalad.fileparser.records.AnimationData;
+import oogasalad.fileparser.records.FrameData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AnimationStateTest {
+
+  private FrameData base;
+  private FrameData walk1;
+  private FrameData walk2;
+  private Map<String, FrameData> frameMap;
+  private AnimationState state;
+
+  @BeforeEach
+  void setUp() {
+    base = new FrameData("base", 0, 0, 16, 16);
+    walk1 = new FrameData("walk1", 16, 0, 16, 16);
+    walk2 = new FrameData("walk2", 32, 0, 16, 16);
+    frameMap = Map.of("base", base, "walk1", walk1, "walk2", walk2);
+    state = new AnimationState();
+  }
+
+  private AnimationClip walk(double frameLen) {
+    return AnimationClip.compile(new AnimationData("walk", frameLen, List.of("walk1", "walk2")),
+        frameMap);
+  }
+
+  @Test
+  void compile_ValidAnimation_ResolvesFramesAndDurations() {
+    AnimationClip clip = walk(2);
+    assertEquals(2, clip.frameCount());
+    assertSame(walk1, clip.frame(0));
+    assertSame(walk2, clip.frame(1));
+    assertEquals(2 * AnimationClip.TICK_MILLIS, clip.frameMillis(0));
+  }
+
+  @Test
+  void compile_FractionalFrameLen_LastsOneTick() {
+    assertEquals(AnimationClip.TICK_MILLIS, walk(0.15).frameMillis(0));
+  }
+
+  @Test
+  void compile_MissingFrame_ReturnsNull() {
+    assertNull(AnimationClip.compile(new AnimationData("bad", 1, List.of("walk1", "jump")),
+        frameMap));
+  }
+
+  @Test
+  void nextFrame_NoAnimation_ReturnsBaseFrame() {
+    assertSame(base, state.nextFrame(base, AnimationClip.TICK_MILLIS));
+    assertFalse(state.isAnimating());
+  }
+
+  @Test
+  void nextFrame_OneTickSteps_HoldsEachFrameForFrameLenTicks() {
+    state.addAnimation(walk(2));
+    double tick = AnimationClip.TICK_MILLIS;
+    assertSame(walk1, state.nextFrame(base, tick));
+    assertSame(walk1, state.nextFrame(base, tick));
+    assertSame(walk2, state.nextFrame(base, tick));
+    assertSame(walk2, state.nextFrame(base, tick));
+    assertSame(base, state.nextFrame(base, tick));
+  }
+
+  @Test
+  void nextFrame_LongerStep_SkipsFramesByElapsedTime() {
+    state.addAnimation(walk(2));
+    state.addAnimation(walk(2));
+    double tick = AnimationClip.TICK_MILLIS;
+    assertSame(walk1, state.nextFrame(base, 3 * tick));
+    assertSame(walk2, state.nextFrame(base, 3 * tick));
+    assertTrue(state.isAnimating());
+    assertSame(walk2, state.nextFrame(base, 3 * tick));
+    assertFalse(state.isAnimating());
+    assertSame(base, state.nextFrame(base, 3 * tick));
+  }
+
+  @Test
+  void clearAndPlay_QueuedAnimations_RestartsFromFirstFrame() {
+    state.addAnimation(walk(1));
+    state.nextFrame(base, AnimationClip.TICK_MILLIS);
+    state.clearAndPlay(walk(1));
+    assertSame(walk1, state.nextFrame(base, AnimationClip.TICK_MILLIS));
+  }
+
+  @Test
+  void addAnimation_UnknownClip_IsIgnored() {
+    state.addAnimation(null);
+    assertFalse(state.isAnimating());
+  }
+}
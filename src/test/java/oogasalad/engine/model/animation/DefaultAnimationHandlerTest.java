@@ -0,0 +1,88 @@
+package oogasalad.engine.model.animation;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import oogasalad.engine.model.object.Entity;
+import oogasalad.engine.model.object.GameObject;
+import oogasalad.engine.model.object.HitBox;
+import oogasalad.engine.model.object.Sprite;
+import oogasalad.fileparser.records.AnimationData;
+import oogasalad.fileparser.records.FrameData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DefaultAnimationHandlerTest {
+
+  private FrameData base;
+  private FrameData walk1;
+  private FrameData walk2;
+  private DefaultAnimationHandler handler;
+
+  @BeforeEach
+  void setUp() {
+    base = new FrameData("base", 0, 0, 16, 16);
+    walk1 = new FrameData("walk1", 16, 0, 16, 16);
+    walk2 = new FrameData("walk2", 32, 0, 16, 16);
+    handler = new DefaultAnimationHandler();
+  }
+
+  private GameObject makeObject() {
+    Map<String, FrameData> frames = Map.of("base", base, "walk1", walk1, "walk2", walk2);
+    Map<String, AnimationData> animations = Map.of("walk",
+        new AnimationData("walk", 1, List.of("walk1", "walk2")));
+    Sprite sprite = new Sprite(frames, base, animations, 0, 0, new File("sprite.png"), 0, false);
+    return new Entity(UUID.randomUUID(), "enemy", 0, 0, 0, new HitBox(0, 0, 16, 16), sprite,
+        new ArrayList<>(), new HashMap<>(), new HashMap<>());
+  }
+
+  @Test
+  void advanceAll_ScheduledObjects_SetsNextFrameOnEach() {
+    GameObject first = makeObject();
+    GameObject second = makeObject();
+    handler.addToAnimations(first, "walk");
+    handler.addToAnimations(second, "walk");
+    handler.runAnimations(first);
+    handler.runAnimations(second);
+    handler.advanceAll(AnimationClip.TICK_MILLIS);
+    assertSame(walk1, first.getSpriteInfo().getCurrentSprite());
+    assertSame(walk1, second.getSpriteInfo().getCurrentSprite());
+  }
+
+  @Test
+  void advanceAll_ScheduledTwiceInOneStep_AdvancesOnce() {
+    GameObject object = makeObject();
+    handler.addToAnimations(object, "walk");
+    handler.runAnimations(object);
+    handler.runAnimations(object);
+    handler.advanceAll(AnimationClip.TICK_MILLIS);
+    handler.runAnimations(object);
+    handler.advanceAll(AnimationClip.TICK_MILLIS);
+    assertSame(walk2, object.getSpriteInfo().getCurrentSprite());
+  }
+
+  @Test
+  void advanceAll_NotScheduled_LeavesFrameUnchanged() {
+    GameObject object = makeObject();
+    handler.addToAnimations(object, "walk");
+    handler.runAnimations(object);
+    handler.advanceAll(AnimationClip.TICK_MILLIS);
+    handler.advanceAll(AnimationClip.TICK_MILLIS);
+    assertSame(walk1, object.getSpriteInfo().getCurrentSprite());
+  }
+
+  @Test
+  void goToBaseImage_PlayingAnimation_ReturnsToBaseFrame() {
+    GameObject object = makeObject();
+    handler.clearAndAddToAnimationList(object, "walk");
+    handler.goToBaseImage(object);
+    handler.runAnimations(object);
+    handler.advanceAll(AnimationClip.TICK_MILLIS);
+    assertSame(base, object.getSpriteInfo().getCurrentSprite());
+  }
+}
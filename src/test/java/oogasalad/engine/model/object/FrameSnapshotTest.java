@@ -0,0 +1,93 @@
+package oogasalad.engine.model.object;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import oogasalad.engine.model.object.FrameSnapshot.ViewChange;
+import oogasalad.fileparser.records.FrameData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FrameSnapshotTest {
+
+  private Entity entity;
+
+  @BeforeEach
+  void setUp() {
+    entity = makeEntity();
+  }
+
+  private static Entity makeEntity() {
+    FrameData frame = new FrameData("idle", 0, 0, 16, 16);
+    Sprite sprite = new Sprite(Map.of("idle", frame), frame, new HashMap<>(), 0, 0,
+        new File("sprite.png"), 0, false);
+    return new Entity(UUID.randomUUID(), "enemy", 0, 0, 0, new HitBox(10, 20, 16, 16), sprite,
+        new ArrayList<>(), new HashMap<>(), new HashMap<>());
+  }
+
+  @Test
+  void capture_MovedObject_CopiesStateAndConsumesDirtyBits() {
+    entity.clearDirtyFlags();
+    entity.setXPosition(30);
+    FrameSnapshot snapshot = FrameSnapshot.capture(List.of(entity), List.of());
+    entity.setXPosition(40);
+
+    ImmutableGameObject captured = snapshot.getObjects().getFirst();
+    assertEquals(30, captured.getXPosition());
+    assertEquals(ImmutableGameObject.POSITION_CHANGED, captured.getDirtyFlags());
+    assertEquals(ImmutableGameObject.POSITION_CHANGED, entity.getDirtyFlags());
+  }
+
+  @Test
+  void clearDirtyFlags_SnapshotObject_ConsumesOnlyTheSnapshotBits() {
+    FrameSnapshot snapshot = FrameSnapshot.capture(List.of(entity), List.of());
+    entity.setXPosition(30);
+    ImmutableGameObject captured = snapshot.getObjects().getFirst();
+
+    captured.clearDirtyFlags();
+
+    assertEquals(0, captured.getDirtyFlags());
+    assertEquals(ImmutableGameObject.POSITION_CHANGED, entity.getDirtyFlags());
+  }
+
+  @Test
+  void absorb_UnrenderedSnapshot_MergesDirtyBitsAndChanges() {
+    entity.clearDirtyFlags();
+    entity.setXPosition(30);
+    ImmutableGameObject removed = makeEntity();
+    FrameSnapshot skipped = FrameSnapshot.capture(List.of(entity),
+        List.of(new ViewChange(removed, false)));
+    FrameSnapshot latest = FrameSnapshot.capture(List.of(entity), List.of());
+
+    latest.absorb(skipped);
+
+    assertEquals(ImmutableGameObject.POSITION_CHANGED,
+        latest.getObjects().getFirst().getDirtyFlags());
+    assertEquals(List.of(new ViewChange(removed, false)), latest.getChanges());
+  }
+
+  @Test
+  void capture_Player_ExposesDisplayedStats() {
+    FrameData frame = new FrameData("idle", 0, 0, 16, 16);
+    Sprite sprite = new Sprite(Map.of("idle", frame), frame, new HashMap<>(), 0, 0,
+        new File("sprite.png"), 0, false);
+    Map<String, Double> doubleParams = new HashMap<>(Map.of("lives", 3.0));
+    Player player = new Player(UUID.randomUUID(), "player", 0, 0, 0, new HitBox(0, 0, 16, 16),
+        sprite, new ArrayList<>(), List.of("lives"), new HashMap<>(), doubleParams);
+
+    FrameSnapshot snapshot = FrameSnapshot.capture(List.of(entity, player), List.of());
+
+    assertEquals(1, snapshot.getPlayers().size());
+    ImmutablePlayer captured = assertInstanceOf(ImmutablePlayer.class,
+        snapshot.getPlayers().getFirst());
+    assertEquals("3", captured.getDisplayedStatsMap().get("lives"));
+    assertTrue(snapshot.getObjects().contains(captured));
+  }
+}
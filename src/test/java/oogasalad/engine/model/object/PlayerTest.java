@@ -99,4 +99,29 @@ class PlayerTest {
     assertEquals(50, player.getHitBoxHeight());
   }
 
+  @Test
+  void getDisplayedStatsMap_StatChanged_ReturnsUpdatedValuesInListedOrder() {
+    doubleParams.put("stamina", 5.0);
+    doubleParams.put("health", 3.0);
+    player.getDisplayedStatsMap();
+    doubleParams.put("health", 2.0);
+
+    Map<String, String> stats = player.getDisplayedStatsMap();
+
+    assertEquals(List.of("health", "stamina"), new ArrayList<>(stats.keySet()));
+    assertEquals("2", stats.get("health"));
+  }
+
+  @Test
+  void getDisplayedStatsMap_StatChangedAfterwards_EarlierMapKeepsItsValues() {
+    doubleParams.put("health", 3.0);
+    Map<String, String> earlier = player.getDisplayedStatsMap();
+
+    doubleParams.put("health", 2.0);
+    player.getDisplayedStatsMap();
+
+    assertEquals("3", earlier.get("health"));
+    assertThrows(UnsupportedOperationException.class, () -> earlier.put("health", "9"));
+  }
+
 }
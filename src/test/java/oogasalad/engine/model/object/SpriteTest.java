@@ -63,4 +63,26 @@ class SpriteTest {
   void getSprite_Basic_FileReturnsCorrectFile() {
     assertEquals(spriteFile, sprite.getSpriteFile());
   }
+
+  @Test
+  void setCurrentSprite_NewFrame_SetsFrameDirtyBit() {
+    sprite.clearDirtyFlags();
+    sprite.setCurrentSprite(frameMap.get("run"));
+    assertEquals(ImmutableGameObject.FRAME_CHANGED, sprite.getDirtyFlags());
+  }
+
+  @Test
+  void setCurrentSprite_SameFrame_StaysClean() {
+    sprite.clearDirtyFlags();
+    sprite.setCurrentSprite(defaultFrame);
+    sprite.setRotation(90.0);
+    assertEquals(0, sprite.getDirtyFlags());
+  }
+
+  @Test
+  void setNeedsFlipped_True_SetsFlipDirtyBit() {
+    sprite.clearDirtyFlags();
+    sprite.setNeedsFlipped(true);
+    assertEquals(ImmutableGameObject.FLIP_CHANGED, sprite.getDirtyFlags());
+  }
 }
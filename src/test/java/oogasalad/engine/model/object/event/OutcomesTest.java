@@ -102,6 +102,16 @@ public class OutcomesTest {
       return null;
     }
 
+    @Override
+    public void runAnimations(GameObject gameObject) {
+
+    }
+
+    @Override
+    public void advanceAll(double deltaMillis) {
+
+    }
+
     @Override
     public void goToBaseImage(GameObject gameObject) {
 
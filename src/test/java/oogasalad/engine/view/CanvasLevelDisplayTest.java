@@ -0,0 +1,198 @@
+package oogasalad.engine.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Group;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.stage.Stage;
+import javax.imageio.ImageIO;
+import oogasalad.engine.model.object.Entity;
+import oogasalad.engine.model.object.HitBox;
+import oogasalad.engine.model.object.ImmutableGameObject;
+import oogasalad.engine.model.object.Sprite;
+import oogasalad.engine.view.camera.Camera;
+import oogasalad.engine.view.util.TextureCache;
+import oogasalad.fileparser.records.FrameData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testfx.framework.junit5.ApplicationTest;
+
+class CanvasLevelDisplayTest extends ApplicationTest {
+
+  private static final FrameData RED = new FrameData("red", 0, 0, 16, 16);
+  private static final FrameData BLUE = new FrameData("blue", 16, 0, 16, 16);
+
+  @TempDir
+  File tempDir;
+
+  private File sheet;
+  private CanvasLevelDisplay display;
+
+  @Override
+  public void start(Stage stage) {
+    // the JavaFX toolkit only needs to be running to paint and snapshot the canvas
+  }
+
+  @BeforeEach
+  void setUp() throws IOException {
+    BufferedImage image = new BufferedImage(32, 16, BufferedImage.TYPE_INT_ARGB);
+    for (int x = 0; x < 32; x++) {
+      for (int y = 0; y < 16; y++) {
+        image.setRGB(x, y, x < 16 ? 0xFFFF0000 : 0xFF0000FF);
+      }
+    }
+    sheet = new File(tempDir, "sheet.png");
+    ImageIO.write(image, "png", sheet);
+    interact(() -> display = new CanvasLevelDisplay());
+  }
+
+  @AfterEach
+  void tearDown() {
+    interact(() -> display.dispose());
+  }
+
+  @Test
+  void shiftNode_ObjectInView_DrawsItsFrameAtItsPosition() {
+    render(new PanCamera(0, 0), makeObject(100, 100, 0, RED));
+
+    WritableImage canvas = snapshotCanvas();
+    assertEquals(Color.RED, canvas.getPixelReader().getColor(108, 108));
+    assertEquals(Color.TRANSPARENT, canvas.getPixelReader().getColor(130, 108));
+  }
+
+  @Test
+  void shiftNode_ObjectsOnTwoLayers_DrawsLowerLayerInFront() {
+    render(new PanCamera(0, 0), makeObject(100, 100, 0, BLUE), makeObject(100, 100, 1, RED));
+
+    assertEquals(Color.BLUE, snapshotCanvas().getPixelReader().getColor(108, 108));
+  }
+
+  @Test
+  void shiftNode_CameraPanned_CanvasFollowsViewport() {
+    render(new PanCamera(500, 200), makeObject(600, 300, 0, RED));
+
+    assertEquals(500, canvas().getLayoutX());
+    assertEquals(200, canvas().getLayoutY());
+    assertEquals(Color.RED, snapshotCanvas().getPixelReader().getColor(108, 108));
+  }
+
+  @Test
+  void shiftNode_ObjectFarOutsideViewport_IsNotDrawn() {
+    Entity visible = spy(makeObject(100, 100, 0, RED));
+    Entity culled = spy(makeObject(100_000, 100, 0, RED));
+
+    render(new PanCamera(0, 0), visible, culled);
+
+    verify(visible, atLeastOnce()).getRotation();
+    verify(culled, never()).getRotation();
+  }
+
+  @Test
+  void shiftNode_ObjectRemovedFromFrame_IsNoLongerDrawn() {
+    Entity object = makeObject(100, 100, 0, RED);
+    render(new PanCamera(0, 0), object);
+
+    render(new PanCamera(0, 0));
+
+    assertEquals(Color.TRANSPARENT, snapshotCanvas().getPixelReader().getColor(108, 108));
+  }
+
+  @Test
+  void dispose_AfterRender_ReleasesEverySheet() {
+    TextureCache cache = TextureCache.getInstance();
+    render(new PanCamera(0, 0), makeObject(100, 100, 0, RED), makeObject(200, 100, 0, BLUE));
+    render(new PanCamera(0, 0), makeObject(100, 100, 0, RED));
+    assertEquals(1, cache.getReferenceCount(sheet));
+
+    interact(() -> display.dispose());
+
+    assertEquals(0, cache.getReferenceCount(sheet));
+  }
+
+  private void render(Camera camera, ImmutableGameObject... objects) {
+    interact(() -> {
+      try {
+        display.renderGameObjects(List.of(objects));
+      } catch (Exception e) {
+        throw new RuntimeException(e);
+      }
+      display.shiftNode(camera);
+    });
+  }
+
+  private Canvas canvas() {
+    return (Canvas) display.getChildren().getFirst();
+  }
+
+  private WritableImage snapshotCanvas() {
+    WritableImage[] image = new WritableImage[1];
+    interact(() -> {
+      SnapshotParameters parameters = new SnapshotParameters();
+      parameters.setFill(Color.TRANSPARENT);
+      image[0] = canvas().snapshot(parameters, null);
+    });
+    return image[0];
+  }
+
+  private Entity makeObject(int x, int y, int layer, FrameData frame) {
+    Sprite sprite = new Sprite(Map.of(frame.name(), frame), frame, new HashMap<>(), 0, 0, sheet,
+        0, false);
+    return new Entity(UUID.randomUUID(), "block", layer, 0, 0, new HitBox(x, y, 16, 16), sprite,
+        new ArrayList<>(), new HashMap<>(), new HashMap<>());
+  }
+
+  /**
+   * A camera whose viewport's top-left corner is fixed at a world position, at full size.
+   */
+  private record PanCamera(double x, double y) implements Camera {
+
+    @Override
+    public void updateCamera(Group gameWorld) {
+      gameWorld.setTranslateX(-x);
+      gameWorld.setTranslateY(-y);
+    }
+
+    @Override
+    public void scaleWorld(Group gameWorld) {
+      // the world is drawn at full size
+    }
+
+    @Override
+    public void setZoom(double zoom) {
+      // the world is drawn at full size
+    }
+
+    @Override
+    public void setCameraOffsetX(double x) {
+      // the viewport is fixed
+    }
+
+    @Override
+    public void setCameraOffsetY(double y) {
+      // the viewport is fixed
+    }
+
+    @Override
+    public Rectangle2D getViewport() {
+      return new Rectangle2D(x, y, 1200, 1000);
+    }
+  }
+}
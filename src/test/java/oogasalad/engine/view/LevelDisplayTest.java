@@ -0,0 +1,230 @@
+package oogasalad.engine.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+import javafx.stage.Stage;
+import oogasalad.engine.model.object.Entity;
+import oogasalad.engine.model.object.FrameSnapshot;
+import oogasalad.engine.model.object.HitBox;
+import oogasalad.engine.model.object.Sprite;
+import oogasalad.engine.view.camera.Camera;
+import oogasalad.engine.view.util.TextureCache;
+import oogasalad.fileparser.records.FrameData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+
+class LevelDisplayTest extends ApplicationTest {
+
+  private static final File SHEET = new File(
+      "data/graphicsData/dinosaurgame/dinosaurgame-sprites.png");
+  private static final int SCENERY_COUNT = 64;
+
+  private LevelDisplay levelDisplay;
+  private List<Entity> scenery;
+
+  @Override
+  public void start(Stage stage) {
+    // the JavaFX toolkit only needs to be running to bake and draw images
+  }
+
+  @BeforeEach
+  void setUp() {
+    scenery = new ArrayList<>();
+    for (int i = 0; i < SCENERY_COUNT; i++) {
+      scenery.add(makeTile((i % 8) * 16, (i / 8) * 16));
+    }
+    interact(() -> {
+      levelDisplay = new LevelDisplay();
+      levelDisplay.shiftNode(new FixedCamera(new Rectangle2D(0, 0, 800, 600)));
+    });
+  }
+
+  @AfterEach
+  void tearDown() {
+    interact(() -> levelDisplay.dispose());
+  }
+
+  @Test
+  void renderGameObjects_StaticSceneryOverTwoSnapshots_StaysBaked() {
+    render(FrameSnapshot.capture(scenery, List.of()));
+    assertEquals(1, countImages());
+
+    render(FrameSnapshot.capture(scenery, List.of()));
+    assertEquals(1, countImages());
+  }
+
+  @Test
+  void renderGameObjects_BakedObjectMoves_DrawsItOnItsOwn() {
+    render(FrameSnapshot.capture(scenery, List.of()));
+
+    scenery.getFirst().setXPosition(500);
+    render(FrameSnapshot.capture(scenery, List.of()));
+
+    assertEquals(2, countImages());
+  }
+
+  @Test
+  void renderGameObjects_BeforeCameraShift_DrawsEveryObject() {
+    interact(() -> levelDisplay = new LevelDisplay());
+    List<Entity> objects = List.of(makeObject(100, 100, 0), makeObject(5000, 100, 0));
+
+    render(FrameSnapshot.capture(objects, List.of()));
+
+    assertEquals(2, countImages());
+  }
+
+  @Test
+  void renderGameObjects_SceneryBeforeCameraShift_DrawsBakedChunks() {
+    interact(() -> levelDisplay = new LevelDisplay());
+
+    render(FrameSnapshot.capture(scenery, List.of()));
+
+    assertEquals(1, countImages());
+  }
+
+  @Test
+  void renderGameObjects_ObjectsOnTwoLayers_DrawsEachInItsLayerWithLowerLayerInFront() {
+    Entity front = makeObject(0, 0, 0);
+    Entity back = makeObject(0, 0, 2);
+
+    render(FrameSnapshot.capture(List.of(back, front), List.of()));
+
+    RenderLayer frontLayer = layerWithViewOrder(0);
+    RenderLayer backLayer = layerWithViewOrder(2);
+    assertEquals(1, countImages(frontLayer));
+    assertEquals(1, countImages(backLayer));
+    assertTrue(frontLayer.getViewOrder() < backLayer.getViewOrder());
+  }
+
+  @Test
+  void renderGameObjects_ObjectLeavesAndReentersViewport_IsCulledThenDrawnAgain() {
+    Entity object = makeObject(100, 100, 0);
+    render(FrameSnapshot.capture(List.of(object), List.of()));
+    assertEquals(1, countImages());
+
+    object.setXPosition(5000);
+    render(FrameSnapshot.capture(List.of(object), List.of()));
+    assertEquals(0, countImages());
+
+    object.setXPosition(100);
+    render(FrameSnapshot.capture(List.of(object), List.of()));
+    assertEquals(1, countImages());
+  }
+
+  @Test
+  void dispose_AfterRender_ReleasesSheetsOfObjectImages() {
+    TextureCache cache = TextureCache.getInstance();
+    int before = cache.getReferenceCount(SHEET);
+    render(FrameSnapshot.capture(List.of(makeObject(100, 100, 0), makeObject(200, 100, 0)),
+        List.of()));
+    assertEquals(before + 2, cache.getReferenceCount(SHEET));
+
+    interact(() -> levelDisplay.dispose());
+
+    assertEquals(before, cache.getReferenceCount(SHEET));
+  }
+
+  private void render(FrameSnapshot snapshot) {
+    interact(() -> {
+      try {
+        levelDisplay.renderGameObjects(snapshot.getObjects());
+      } catch (Exception e) {
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
+  private int countImages() {
+    int images = 0;
+    for (Node child : levelDisplay.getChildren()) {
+      if (child instanceof RenderLayer layer) {
+        images += countImages(layer);
+      }
+    }
+    return images;
+  }
+
+  private static int countImages(RenderLayer layer) {
+    int images = 0;
+    for (Node node : layer.getChildren()) {
+      if (node instanceof ImageView) {
+        images++;
+      }
+    }
+    return images;
+  }
+
+  private RenderLayer layerWithViewOrder(double viewOrder) {
+    for (Node child : levelDisplay.getChildren()) {
+      if (child instanceof RenderLayer layer && layer.getViewOrder() == viewOrder) {
+        return layer;
+      }
+    }
+    throw new AssertionError("no render layer with view order " + viewOrder);
+  }
+
+  private static Entity makeTile(int x, int y) {
+    return makeEntity(x, y, 0, 0);
+  }
+
+  /**
+   * A moving object, which is never baked into scenery.
+   */
+  private static Entity makeObject(int x, int y, int layer) {
+    return makeEntity(x, y, layer, 1);
+  }
+
+  private static Entity makeEntity(int x, int y, int layer, double xVelocity) {
+    FrameData frame = new FrameData("idle", 0, 0, 16, 16);
+    Sprite sprite = new Sprite(Map.of("idle", frame), frame, new HashMap<>(), 0, 0, SHEET, 0,
+        false);
+    return new Entity(UUID.randomUUID(), "ground", layer, xVelocity, 0, new HitBox(x, y, 16, 16),
+        sprite, new ArrayList<>(), new HashMap<>(), new HashMap<>());
+  }
+
+  private record FixedCamera(Rectangle2D viewport) implements Camera {
+
+    @Override
+    public void updateCamera(Group gameWorld) {
+      // the viewport is fixed
+    }
+
+    @Override
+    public void scaleWorld(Group gameWorld) {
+      // the world is drawn at full size
+    }
+
+    @Override
+    public void setZoom(double zoom) {
+      // the world is drawn at full size
+    }
+
+    @Override
+    public void setCameraOffsetX(double x) {
+      // the viewport is fixed
+    }
+
+    @Override
+    public void setCameraOffsetY(double y) {
+      // the viewport is fixed
+    }
+
+    @Override
+    public Rectangle2D getViewport() {
+      return viewport;
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package oogasalad.engine.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javafx.scene.CacheHint;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.Test;
+
+class RenderLayerTest {
+
+  private static final int QUIET_FRAMES = 3;
+
+  @Test
+  void constructor_Layer_SetsViewOrder() {
+    assertEquals(2, new RenderLayer(2, QUIET_FRAMES).getViewOrder());
+  }
+
+  @Test
+  void attach_SameNodeTwice_AddsItOnce() {
+    RenderLayer layer = new RenderLayer(0, QUIET_FRAMES);
+    Rectangle node = new Rectangle(16, 16);
+
+    layer.attach(node);
+    layer.attach(node);
+
+    assertEquals(1, layer.getChildren().size());
+    assertEquals(layer, node.getParent());
+  }
+
+  @Test
+  void detach_NodeOfAnotherLayer_LeavesItThere() {
+    RenderLayer layer = new RenderLayer(0, QUIET_FRAMES);
+    RenderLayer other = new RenderLayer(1, QUIET_FRAMES);
+    Rectangle node = new Rectangle(16, 16);
+    other.attach(node);
+
+    layer.detach(node);
+
+    assertEquals(other, node.getParent());
+  }
+
+  @Test
+  void endFrame_QuietForThreshold_CachesLayer() {
+    RenderLayer layer = new RenderLayer(0, QUIET_FRAMES);
+    layer.attach(new Rectangle(16, 16));
+    layer.endFrame();
+
+    for (int frame = 1; frame < QUIET_FRAMES; frame++) {
+      layer.endFrame();
+      assertFalse(layer.isCache());
+    }
+    layer.endFrame();
+
+    assertTrue(layer.isCache());
+    assertEquals(CacheHint.SPEED, layer.getCacheHint());
+  }
+
+  @Test
+  void endFrame_ChangedAfterCaching_DrawsLiveUntilQuietAgain() {
+    RenderLayer layer = new RenderLayer(0, QUIET_FRAMES);
+    quietFrames(layer, QUIET_FRAMES);
+
+    layer.markChanged();
+    layer.endFrame();
+    assertFalse(layer.isCache());
+
+    quietFrames(layer, QUIET_FRAMES - 1);
+    assertFalse(layer.isCache());
+    layer.endFrame();
+    assertTrue(layer.isCache());
+  }
+
+  @Test
+  void endFrame_NodeDetached_DropsCache() {
+    RenderLayer layer = new RenderLayer(0, QUIET_FRAMES);
+    Rectangle node = new Rectangle(16, 16);
+    layer.attach(node);
+    quietFrames(layer, QUIET_FRAMES + 1);
+
+    layer.detach(node);
+    layer.endFrame();
+
+    assertFalse(layer.isCache());
+    assertTrue(layer.getChildren().isEmpty());
+  }
+
+  @Test
+  void endFrame_RedundantAttachAndDetach_KeepsCache() {
+    RenderLayer layer = new RenderLayer(0, QUIET_FRAMES);
+    Rectangle node = new Rectangle(16, 16);
+    layer.attach(node);
+    quietFrames(layer, QUIET_FRAMES + 1);
+
+    layer.attach(node);
+    layer.detach(new Rectangle(16, 16));
+    layer.endFrame();
+
+    assertTrue(layer.isCache());
+  }
+
+  private static void quietFrames(RenderLayer layer, int frames) {
+    for (int frame = 0; frame < frames; frame++) {
+      layer.endFrame();
+    }
+  }
+}
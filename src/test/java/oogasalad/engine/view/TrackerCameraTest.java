@@ -8,6 +8,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.ResourceBundle;
 import java.util.UUID;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.Group;
 import oogasalad.engine.model.object.Entity;
 import oogasalad.engine.model.object.HitBox;
@@ -57,6 +58,26 @@ class TrackerCameraTest {
     assertThrows(NullPointerException.class, () -> timeCamera.updateCamera(null));
   }
 
+  @Test
+  void getViewport_AfterUpdate_ScreenCenteredOnTrackedObject() throws FileNotFoundException {
+    TrackerCamera camera = new TrackerCamera();
+    ImmutableGameObject objectToFollow = createTempObject();
+    camera.setViewObjectToTrack(objectToFollow);
+    camera.setZoom(1.0);
+    camera.setCameraOffsetX(EXPECTED_CAMERA_OFFSET_X);
+    camera.setCameraOffsetY(EXPECTED_CAMERA_OFFSET_Y);
+    camera.updateCamera(new Group());
+
+    assertEquals(new Rectangle2D(objectToFollow.getXPosition() - EXPECTED_CAMERA_OFFSET_X,
+        objectToFollow.getYPosition() - EXPECTED_CAMERA_OFFSET_Y, 2 * EXPECTED_CAMERA_OFFSET_X,
+        2 * EXPECTED_CAMERA_OFFSET_Y), camera.getViewport());
+  }
+
+  @Test
+  void getViewport_BeforeUpdate_IsEmpty() {
+    assertEquals(Rectangle2D.EMPTY, new TrackerCamera().getViewport());
+  }
+
   private static ImmutableGameObject createTempObject() {
     // Create FrameData and supporting sprite info
     FrameData currentFrame = new FrameData(
@@ -0,0 +1,77 @@
+package oogasalad.engine.view.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javafx.scene.layout.Pane;
+import javafx.stage.Stage;
+import oogasalad.engine.model.object.HitBox;
+import oogasalad.engine.model.object.ImmutableGameObject;
+import oogasalad.engine.model.object.Player;
+import oogasalad.engine.model.object.Sprite;
+import oogasalad.fileparser.records.FrameData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+
+class HUDTest extends ApplicationTest {
+
+  private HUD hud;
+
+  @Override
+  public void start(Stage stage) {
+    // the JavaFX toolkit only needs to be running to lay out text
+  }
+
+  @BeforeEach
+  void setUp() {
+    interact(() -> hud = new HUD());
+  }
+
+  @Test
+  void renderPlayerStats_SamePlayersEachFrame_KeepsOneBoxPerPlayer() {
+    List<ImmutableGameObject> players = List.of(makePlayer(), makePlayer());
+
+    interact(() -> hud.renderPlayerStats(players));
+    interact(() -> hud.renderPlayerStats(players));
+
+    assertEquals(2, countBoxes());
+  }
+
+  @Test
+  void renderPlayerStats_PlayerNoLongerRendered_RemovesItsBox() {
+    ImmutableGameObject survivor = makePlayer();
+    interact(() -> hud.renderPlayerStats(List.of(survivor, makePlayer())));
+
+    interact(() -> hud.renderPlayerStats(List.of(survivor)));
+
+    assertEquals(1, countBoxes());
+  }
+
+  @Test
+  void renderPlayerStats_NewLevelPlayers_ReplacesPreviousBoxes() {
+    interact(() -> hud.renderPlayerStats(List.of(makePlayer())));
+
+    interact(() -> hud.renderPlayerStats(List.of(makePlayer())));
+
+    assertEquals(1, countBoxes());
+  }
+
+  private int countBoxes() {
+    return ((Pane) hud.getChildren().getFirst()).getChildren().size();
+  }
+
+  private static Player makePlayer() {
+    FrameData frame = new FrameData("idle", 0, 0, 16, 16);
+    Sprite sprite = new Sprite(Map.of("idle", frame), frame, new HashMap<>(), 0, 0,
+        new File("sprite.png"), 0, false);
+    Map<String, Double> doubleParams = new HashMap<>(Map.of("lives", 3.0));
+    return new Player(UUID.randomUUID(), "player", 0, 0, 0, new HitBox(0, 0, 16, 16), sprite,
+        new ArrayList<>(), List.of("lives"), new HashMap<>(), doubleParams);
+  }
+}
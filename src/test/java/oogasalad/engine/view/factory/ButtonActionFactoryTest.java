@@ -4,20 +4,28 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 
+import java.util.concurrent.CompletableFuture;
 import javafx.stage.Stage;
 import oogasalad.engine.controller.api.GameManagerAPI;
 import oogasalad.engine.view.DefaultView;
 import oogasalad.engine.view.ViewState;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+import org.testfx.util.WaitForAsyncUtils;
 
-class ButtonActionFactoryTest {
+class ButtonActionFactoryTest extends ApplicationTest {
 
   private ButtonActionFactory buttonActionFactory;
   private ViewState mockViewState;
   private GameManagerAPI mockGameManager;
   private DefaultView mockDefaultView;
 
+  @Override
+  public void start(Stage stage) {
+    // the JavaFX toolkit only needs to be running for actions that hop onto its thread
+  }
+
   @BeforeEach
   void setUp() {
     mockViewState = mock(ViewState.class);
@@ -46,6 +54,18 @@ class ButtonActionFactoryTest {
     verify(mockGameManager, times(1)).pauseGame();
   }
 
+  @Test
+  void StartGame_LevelFailedToLoad_StaysOnCurrentScreen() throws Exception {
+    when(mockGameManager.levelLoaded()).thenReturn(
+        CompletableFuture.failedFuture(new IllegalStateException("broken level")));
+
+    buttonActionFactory.startGame().run();
+    WaitForAsyncUtils.waitForFxEvents();
+
+    verify(mockViewState, never()).setDisplay(any());
+    verify(mockGameManager, never()).displayGameObjects();
+  }
+
   @Test
   void SelectLevel_ValidInput_DoesNotThrow() {
     Runnable selectLevel = buttonActionFactory.selectLevel("sampleGame", "level1.xml");
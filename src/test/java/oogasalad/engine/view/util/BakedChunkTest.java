@@ -0,0 +1,201 @@
+package oogasalad.engine.view.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javafx.geometry.Rectangle2D;
+import javafx.stage.Stage;
+import oogasalad.engine.model.object.Entity;
+import oogasalad.engine.model.object.HitBox;
+import oogasalad.engine.model.object.ImmutableGameObject;
+import oogasalad.engine.model.object.Sprite;
+import oogasalad.fileparser.records.FrameData;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+
+class BakedChunkTest extends ApplicationTest {
+
+  private static final File SHEET = new File(
+      "data/graphicsData/dinosaurgame/dinosaurgame-sprites.png");
+  private static final int CHUNK_SIZE = 32;
+
+  @Override
+  public void start(Stage stage) {
+    // the JavaFX toolkit only needs to be running to draw and snapshot chunks
+  }
+
+  @Test
+  void canBake_StaticUnrotatedObject_ReturnsTrue() {
+    assertTrue(BakedChunk.canBake(makeTile(0, 0, 0)));
+  }
+
+  @Test
+  void canBake_MovingRotatedOrFlippedObject_ReturnsFalse() {
+    assertFalse(BakedChunk.canBake(makeObject(0, 0, 0, 1, 0, false)));
+    assertFalse(BakedChunk.canBake(makeObject(0, 0, 0, 0, 90, false)));
+    assertFalse(BakedChunk.canBake(makeObject(0, 0, 0, 0, 0, true)));
+  }
+
+  @Test
+  void bake_ObjectsOnTwoLayers_GroupsThemByLayerAndChunk() {
+    Entity first = makeTile(0, 0, 0);
+    Entity second = makeTile(16, 0, 0);
+    Entity nextChunk = makeTile(40, 0, 0);
+    Entity otherLayer = makeTile(0, 0, 1);
+
+    List<BakedChunk> chunks = bake(List.of(first, second, nextChunk, otherLayer));
+
+    assertEquals(3, chunks.size());
+    BakedChunk origin = chunkAt(chunks, 0, 0, 0);
+    assertEquals(new Rectangle2D(0, 0, CHUNK_SIZE, CHUNK_SIZE), origin.getBounds());
+    assertEquals(List.of(first, second), new ArrayList<>(origin.getMembers()));
+    assertEquals(List.of(nextChunk), new ArrayList<>(chunkAt(chunks, 0, 32, 0).getMembers()));
+    assertEquals(List.of(otherLayer), new ArrayList<>(chunkAt(chunks, 1, 0, 0).getMembers()));
+  }
+
+  @Test
+  void bake_ObjectStraddlingChunkCorner_DrawnIntoEveryChunkItOverlaps() {
+    Entity tile = makeTile(24, 24, 0);
+
+    List<BakedChunk> chunks = bake(List.of(tile));
+
+    assertEquals(4, chunks.size());
+    for (BakedChunk chunk : chunks) {
+      assertEquals(List.of(tile), new ArrayList<>(chunk.getMembers()));
+    }
+    assertNotNull(chunkAt(chunks, 0, 32, 32));
+  }
+
+  @Test
+  void bake_NegativeCoordinates_ChunkBoundsRoundDown() {
+    List<BakedChunk> chunks = bake(List.of(makeTile(-16, -16, 0)));
+
+    assertEquals(1, chunks.size());
+    assertEquals(new Rectangle2D(-32, -32, CHUNK_SIZE, CHUNK_SIZE), chunks.getFirst().getBounds());
+    assertEquals(-32, chunks.getFirst().getImageView().getX());
+    assertEquals(-32, chunks.getFirst().getImageView().getY());
+  }
+
+  @Test
+  void bake_NewObjects_ClearsDirtyFlagsAndDrawsChunkImage() {
+    Entity tile = makeTile(0, 0, 0);
+    assertNotEquals(0, tile.getDirtyFlags());
+
+    List<BakedChunk> chunks = bake(List.of(tile));
+
+    assertEquals(0, tile.getDirtyFlags());
+    assertNotNull(chunks.getFirst().getImageView().getImage());
+    assertEquals(CHUNK_SIZE, chunks.getFirst().getImageView().getImage().getWidth());
+  }
+
+  @Test
+  void bake_BakedObjectMovesAfterwards_SetsDirtyFlagsAgain() {
+    Entity tile = makeTile(0, 0, 0);
+    bake(List.of(tile));
+
+    tile.setXPosition(100);
+
+    assertNotEquals(0, tile.getDirtyFlags());
+  }
+
+  @Test
+  void rebakeIfNeeded_MemberRemoved_RedrawsOnce() {
+    Entity kept = makeTile(0, 0, 0);
+    Entity removed = makeTile(16, 0, 0);
+    BakedChunk chunk = bake(List.of(kept, removed)).getFirst();
+
+    chunk.remove(removed);
+
+    assertEquals(List.of(kept), new ArrayList<>(chunk.getMembers()));
+    assertTrue(rebakeIfNeeded(chunk));
+    assertFalse(rebakeIfNeeded(chunk));
+    assertNotNull(chunk.getImageView().getImage());
+  }
+
+  @Test
+  void rebakeIfNeeded_LastMemberRemoved_ClearsImage() {
+    Entity tile = makeTile(0, 0, 0);
+    BakedChunk chunk = bake(List.of(tile)).getFirst();
+
+    chunk.remove(tile);
+
+    assertTrue(rebakeIfNeeded(chunk));
+    assertTrue(chunk.getMembers().isEmpty());
+    assertNull(chunk.getImageView().getImage());
+  }
+
+  @Test
+  void rebakeIfNeeded_NonMemberRemoved_DoesNotRedraw() {
+    BakedChunk chunk = bake(List.of(makeTile(0, 0, 0))).getFirst();
+
+    chunk.remove(makeTile(0, 0, 0));
+
+    assertEquals(1, chunk.getMembers().size());
+    assertFalse(rebakeIfNeeded(chunk));
+  }
+
+  @Test
+  void getMembers_Modified_ThrowsUnsupportedOperationException() {
+    BakedChunk chunk = bake(List.of(makeTile(0, 0, 0))).getFirst();
+
+    assertThrows(UnsupportedOperationException.class, () -> chunk.getMembers().clear());
+  }
+
+  private List<BakedChunk> bake(List<ImmutableGameObject> objects) {
+    List<BakedChunk> chunks = new ArrayList<>();
+    interact(() -> {
+      try {
+        chunks.addAll(BakedChunk.bake(objects, CHUNK_SIZE));
+      } catch (Exception e) {
+        throw new RuntimeException(e);
+      }
+    });
+    return chunks;
+  }
+
+  private boolean rebakeIfNeeded(BakedChunk chunk) {
+    boolean[] redrawn = new boolean[1];
+    interact(() -> {
+      try {
+        redrawn[0] = chunk.rebakeIfNeeded();
+      } catch (Exception e) {
+        throw new RuntimeException(e);
+      }
+    });
+    return redrawn[0];
+  }
+
+  private static BakedChunk chunkAt(List<BakedChunk> chunks, int layer, double x, double y) {
+    for (BakedChunk chunk : chunks) {
+      if (chunk.getLayer() == layer && chunk.getBounds().getMinX() == x
+          && chunk.getBounds().getMinY() == y) {
+        return chunk;
+      }
+    }
+    return null;
+  }
+
+  private static Entity makeTile(int x, int y, int layer) {
+    return makeObject(x, y, layer, 0, 0, false);
+  }
+
+  private static Entity makeObject(int x, int y, int layer, double xVelocity, double rotation,
+      boolean flipped) {
+    FrameData frame = new FrameData("idle", 0, 0, 16, 16);
+    Sprite sprite = new Sprite(Map.of("idle", frame), frame, new HashMap<>(), 0, 0, SHEET,
+        rotation, flipped);
+    return new Entity(UUID.randomUUID(), "ground", layer, xVelocity, 0, new HitBox(x, y, 16, 16),
+        sprite, new ArrayList<>(), new HashMap<>(), new HashMap<>());
+  }
+}
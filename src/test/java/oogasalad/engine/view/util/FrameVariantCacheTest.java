@@ -0,0 +1,70 @@
+package oogasalad.engine.view.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicReference;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.stage.Stage;
+import oogasalad.engine.view.util.FrameVariantCache.FrameVariant;
+import oogasalad.fileparser.records.FrameData;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+
+class FrameVariantCacheTest extends ApplicationTest {
+
+  private static final File SHEET_FILE = new File("sheet.png");
+  private static final FrameData FRAME = new FrameData("idle", 0, 0, 20, 10);
+
+  private final FrameVariantCache cache = new FrameVariantCache(4);
+  private Image sheet;
+
+  @Override
+  public void start(Stage stage) {
+    sheet = new WritableImage(40, 40);
+  }
+
+  @Test
+  void quantize_AnglesNearAStep_RoundToThatStep() {
+    assertEquals(0, cache.quantize(30));
+    assertEquals(1, cache.quantize(80));
+    assertEquals(3, cache.quantize(-90));
+    assertEquals(0, cache.quantize(360));
+  }
+
+  @Test
+  void needsVariant_UnflippedAndRoundedToZero_DrawsFromSheet() {
+    assertFalse(cache.needsVariant(false, 10));
+    assertTrue(cache.needsVariant(true, 0));
+    assertTrue(cache.needsVariant(false, 90));
+  }
+
+  @Test
+  void getVariant_SameStep_ReturnsCachedVariant() {
+    AtomicReference<FrameVariant> first = new AtomicReference<>();
+    AtomicReference<FrameVariant> second = new AtomicReference<>();
+    AtomicReference<FrameVariant> mirrored = new AtomicReference<>();
+    interact(() -> {
+      first.set(cache.getVariant(SHEET_FILE, sheet, FRAME, false, 90));
+      second.set(cache.getVariant(SHEET_FILE, sheet, FRAME, false, 100));
+      mirrored.set(cache.getVariant(SHEET_FILE, sheet, FRAME, true, 90));
+    });
+    assertSame(first.get(), second.get());
+    assertNotSame(first.get(), mirrored.get());
+  }
+
+  @Test
+  void getVariant_QuarterTurn_SwapsSizeAndKeepsCentre() {
+    AtomicReference<FrameVariant> variant = new AtomicReference<>();
+    interact(() -> variant.set(cache.getVariant(SHEET_FILE, sheet, FRAME, false, 90)));
+    assertEquals(10, variant.get().image().getWidth());
+    assertEquals(20, variant.get().image().getHeight());
+    assertEquals(5, variant.get().offsetX());
+    assertEquals(-5, variant.get().offsetY());
+  }
+}
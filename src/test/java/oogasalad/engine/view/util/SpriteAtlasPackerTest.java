@@ -0,0 +1,97 @@
+package oogasalad.engine.view.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.imageio.ImageIO;
+import oogasalad.fileparser.records.BlueprintData;
+import oogasalad.fileparser.records.FrameData;
+import oogasalad.fileparser.records.LevelData;
+import oogasalad.fileparser.records.SpriteData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SpriteAtlasPackerTest {
+
+  private static final int RED = 0xFFFF0000;
+  private static final int BLUE = 0xFF0000FF;
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void pack_TwoSheets_MovesFramesOntoOnePageWithTheirPixels() throws IOException {
+    File redSheet = writeSheet("red.png", RED);
+    File blueSheet = writeSheet("blue.png", BLUE);
+    LevelData level = level(sprite("red", redSheet), sprite("blue", blueSheet));
+
+    LevelData packed = new SpriteAtlasPacker(tempDir.resolve("atlas").toFile(), 64, 2).pack(
+        level);
+
+    SpriteData red = packed.gameBluePrintData().get(1).spriteData();
+    SpriteData blue = packed.gameBluePrintData().get(2).spriteData();
+    assertEquals(red.spriteFile(), blue.spriteFile());
+    BufferedImage page = ImageIO.read(red.spriteFile());
+    FrameData redFrame = red.baseImage();
+    FrameData blueFrame = blue.baseImage();
+    assertEquals(RED, page.getRGB(redFrame.x(), redFrame.y()));
+    assertEquals(BLUE, page.getRGB(blueFrame.x() + 7, blueFrame.y() + 7));
+    assertEquals(8, blueFrame.width());
+  }
+
+  @Test
+  void pack_SingleSheet_ReturnsLevelUnchanged() throws IOException {
+    LevelData level = level(sprite("red", writeSheet("red.png", RED)));
+
+    assertSame(level, new SpriteAtlasPacker(tempDir.resolve("atlas").toFile(), 64, 2).pack(level));
+  }
+
+  @Test
+  void pack_SameLevelTwice_ReusesWrittenPage() throws IOException {
+    LevelData level = level(sprite("red", writeSheet("red.png", RED)),
+        sprite("blue", writeSheet("blue.png", BLUE)));
+    SpriteAtlasPacker packer = new SpriteAtlasPacker(tempDir.resolve("atlas").toFile(), 64, 2);
+
+    File first = packer.pack(level).gameBluePrintData().get(1).spriteData().spriteFile();
+    long written = first.lastModified();
+    File second = packer.pack(level).gameBluePrintData().get(1).spriteData().spriteFile();
+
+    assertEquals(first, second);
+    assertTrue(second.isFile());
+    assertEquals(written, second.lastModified());
+  }
+
+  private File writeSheet(String name, int color) throws IOException {
+    BufferedImage sheet = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+    for (int x = 0; x < 16; x++) {
+      for (int y = 0; y < 16; y++) {
+        sheet.setRGB(x, y, color);
+      }
+    }
+    File file = tempDir.resolve(name).toFile();
+    ImageIO.write(sheet, "png", file);
+    return file;
+  }
+
+  private static SpriteData sprite(String name, File sheet) {
+    FrameData frame = new FrameData(name, 4, 4, 8, 8);
+    return new SpriteData(name, sheet, frame, List.of(frame), List.of());
+  }
+
+  private static LevelData level(SpriteData... sprites) {
+    Map<Integer, BlueprintData> blueprints = new HashMap<>();
+    for (int i = 0; i < sprites.length; i++) {
+      blueprints.put(i + 1, new BlueprintData(i + 1, 0, 0, 0, false, "game", "blocks", "block",
+          sprites[i], null, List.of(), Map.of(), Map.of(), List.of()));
+    }
+    return new LevelData("level", 0, 0, 100, 100, null, blueprints, List.of());
+  }
+}
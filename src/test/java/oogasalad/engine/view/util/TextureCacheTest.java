@@ -0,0 +1,97 @@
+package oogasalad.engine.view.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javafx.scene.image.Image;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+
+class TextureCacheTest extends ApplicationTest {
+
+  private static final File SHEET = new File(
+      "data/graphicsData/dinosaurgame/dinosaurgame-sprites.png");
+  private static final File SAME_SHEET = new File(
+      "data/graphicsData/dinosaurgame/../dinosaurgame/dinosaurgame-sprites.png");
+
+  private final TextureCache cache = TextureCache.getInstance();
+
+  @Override
+  public void start(Stage stage) {
+    // the JavaFX toolkit only needs to be running to decode images
+  }
+
+  @AfterEach
+  void tearDown() {
+    while (cache.getReferenceCount(SHEET) > 0) {
+      cache.release(SHEET);
+    }
+  }
+
+  @Test
+  void acquire_SameCanonicalPath_SharesOneImage() throws FileNotFoundException {
+    Image first = cache.acquire(SHEET);
+    Image second = cache.acquire(SAME_SHEET);
+    assertSame(first, second);
+    assertEquals(2, cache.getReferenceCount(SHEET));
+  }
+
+  @Test
+  void release_AllReferences_DropsCountToZero() throws FileNotFoundException {
+    cache.acquire(SHEET);
+    cache.acquire(SHEET);
+    cache.release(SHEET);
+    assertEquals(1, cache.getReferenceCount(SHEET));
+    cache.release(SHEET);
+    assertEquals(0, cache.getReferenceCount(SHEET));
+  }
+
+  @Test
+  void preload_ThenAcquire_ReturnsPreloadedImageWhileReachable() throws FileNotFoundException {
+    cache.preload(List.of(SHEET));
+    assertEquals(0, cache.getReferenceCount(SHEET));
+    Image image = cache.acquire(SHEET);
+    assertSame(image, cache.acquire(SAME_SHEET));
+  }
+
+  @Test
+  void preloadAsync_SheetsAndMissingFile_DecodesReadableSheetsAndReportsFullProgress() {
+    List<Double> progress = new CopyOnWriteArrayList<>();
+    cache.preloadAsync(List.of(SHEET, SAME_SHEET, new File("data/graphicsData/missing.png")),
+        progress::add).join();
+    assertEquals(Double.valueOf(1.0), progress.get(progress.size() - 1));
+    assertEquals(0, cache.getReferenceCount(SHEET));
+  }
+
+  @Test
+  void acquire_MissingFile_ThrowsFileNotFoundException() {
+    assertThrows(FileNotFoundException.class,
+        () -> cache.acquire(new File("data/graphicsData/missing.png")));
+  }
+
+  @Test
+  void mipmapLevelFor_Zoom_PicksLevelNoSmallerThanScreenSize() {
+    assertEquals(0, TextureCache.mipmapLevelFor(1.0));
+    assertEquals(0, TextureCache.mipmapLevelFor(0.6));
+    assertEquals(1, TextureCache.mipmapLevelFor(0.5));
+    assertEquals(1, TextureCache.mipmapLevelFor(0.3));
+    assertEquals(2, TextureCache.mipmapLevelFor(0.25));
+    assertEquals(TextureCache.MAX_MIPMAP_LEVEL, TextureCache.mipmapLevelFor(0.01));
+  }
+
+  @Test
+  void getMipmap_LevelOne_ReturnsHalfSizeSheet() throws FileNotFoundException {
+    Image sheet = cache.acquire(SHEET);
+    Image mipmap = cache.getMipmap(SHEET, 1);
+    assertEquals(Math.round(sheet.getWidth() / 2), mipmap.getWidth());
+    assertEquals(Math.round(sheet.getHeight() / 2), mipmap.getHeight());
+    assertSame(mipmap, cache.getMipmap(SAME_SHEET, 1));
+  }
+}
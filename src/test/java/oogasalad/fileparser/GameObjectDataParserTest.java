@@ -191,4 +191,75 @@ public class GameObjectDataParserTest {
       parser.getGameObjectData(element, z);
     });
   }
+
+  /**
+   * Tests that the text form written by the level saver, with spaces after each comma and negative
+   * coordinates, is read in full.
+   *
+   * @throws Exception if an error occurs during XML parsing
+   */
+  @Test
+  public void getGameObjectData_SpacedNegativeCoordinates_ReturnsAllRecords() throws Exception {
+    String xml = "<object id=\"105\" " +
+        "uid=\"550e8400-E29B-41d4-a716-446655440000 , 550e8400-e29b-41d4-a716-446655440001\" " +
+        "coordinates=\"(-10,20), (x,1), (30,-40)\"/>";
+    Element element = loadElementFromString(xml);
+
+    List<GameObjectData> dataList = new GameObjectDataParser().getGameObjectData(element, 0);
+
+    assertEquals(2, dataList.size());
+    assertEquals(-10, dataList.get(0).x());
+    assertEquals(20, dataList.get(0).y());
+    assertEquals(UUID.fromString("550e8400-e29b-41d4-a716-446655440000"),
+        dataList.get(0).uniqueId());
+    assertEquals(30, dataList.get(1).x());
+    assertEquals(-40, dataList.get(1).y());
+    assertEquals(UUID.fromString("550e8400-e29b-41d4-a716-446655440001"),
+        dataList.get(1).uniqueId());
+  }
+
+  /**
+   * Tests that packed coordinates and UUIDs are read in place of the text attributes.
+   *
+   * @throws Exception if an error occurs during XML parsing
+   */
+  @Test
+  public void getGameObjectData_PackedAttributes_ReturnsEncodedRecords() throws Exception {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    String xml = "<object id=\"106\" " +
+        LayerObjectFormat.PACKED_COORDINATES + "=\"" +
+        LayerObjectFormat.encodeCoordinates(new int[]{Integer.MIN_VALUE, 7, 8, Integer.MAX_VALUE}) +
+        "\" " + LayerObjectFormat.PACKED_UIDS + "=\"" +
+        LayerObjectFormat.encodeUuids(List.of(first, second)) + "\"/>";
+    Element element = loadElementFromString(xml);
+
+    List<GameObjectData> dataList = new GameObjectDataParser().getGameObjectData(element, 4);
+
+    assertEquals(2, dataList.size());
+    assertEquals(Integer.MIN_VALUE, dataList.get(0).x());
+    assertEquals(7, dataList.get(0).y());
+    assertEquals(first, dataList.get(0).uniqueId());
+    assertEquals(8, dataList.get(1).x());
+    assertEquals(Integer.MAX_VALUE, dataList.get(1).y());
+    assertEquals(second, dataList.get(1).uniqueId());
+    assertEquals(4, dataList.get(1).layer());
+  }
+
+  /**
+   * Tests that packed coordinates that are not whole coordinate pairs are rejected.
+   *
+   * @throws Exception if an error occurs during XML parsing
+   */
+  @Test
+  public void getGameObjectData_TruncatedPackedCoordinates_ThrowsGameObjectParseException()
+      throws Exception {
+    String xml = "<object id=\"107\" " +
+        LayerObjectFormat.PACKED_COORDINATES + "=\"AQAAAA==\" " +
+        "uid=\"550e8400-e29b-41d4-a716-446655440000\"/>";
+    Element element = loadElementFromString(xml);
+    GameObjectDataParser parser = new GameObjectDataParser();
+
+    assertThrows(GameObjectParseException.class, () -> parser.getGameObjectData(element, 0));
+  }
 }
@@ -0,0 +1,126 @@
+package oogasalad.fileparser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import oogasalad.exceptions.SpriteParseException;
+import oogasalad.fileparser.records.BlueprintData;
+import oogasalad.fileparser.records.EventData;
+import oogasalad.fileparser.records.GameObjectData;
+import oogasalad.fileparser.records.OutcomeData;
+import oogasalad.fileparser.records.SpriteData;
+import org.junit.jupiter.api.Test;
+
+class LazyBlueprintMapTest {
+
+  private static final SpriteData SPRITE = new SpriteData("coin", new File("coin.png"), null,
+      List.of(), List.of());
+
+  private int resolutions;
+
+  @Test
+  void get_Stub_ResolvesItOnce() {
+    LazyBlueprintMap blueprints = makeMap();
+
+    BlueprintData first = blueprints.get(2);
+    BlueprintData second = blueprints.get(2);
+
+    assertSame(SPRITE, first.spriteData());
+    assertSame(first, second);
+    assertEquals(1, resolutions);
+    assertTrue(blueprints.isResolved(2));
+  }
+
+  @Test
+  void keysAndSize_WithStubs_DoNotResolveThem() {
+    LazyBlueprintMap blueprints = makeMap();
+
+    assertEquals(2, blueprints.size());
+    assertTrue(blueprints.containsKey(2));
+    assertIterableEquals(List.of(1, 2), blueprints.keySet());
+    assertEquals(List.of(blueprint(1)), new ArrayList<>(
+        LazyBlueprintMap.resolvedValues(blueprints)));
+    assertEquals(0, resolutions);
+    assertFalse(blueprints.isResolved(2));
+  }
+
+  @Test
+  void parsedValues_WithStubs_ReturnsStubsWithoutResolvingThem() {
+    LazyBlueprintMap blueprints = makeMap();
+
+    List<BlueprintData> parsed = new ArrayList<>(LazyBlueprintMap.parsedValues(blueprints));
+
+    assertEquals(List.of(1, 2), parsed.stream().map(BlueprintData::blueprintId).toList());
+    assertEquals(0, resolutions);
+  }
+
+  @Test
+  void mapValues_Stub_TransformsItOnceResolved() {
+    LazyBlueprintMap copy = makeMap().mapValues(blueprint -> blueprint(blueprint.blueprintId()
+        + 10));
+
+    assertEquals(0, resolutions);
+    assertEquals(11, copy.get(1).blueprintId());
+    assertEquals(12, copy.get(2).blueprintId());
+    assertEquals(1, resolutions);
+  }
+
+  @Test
+  void get_StubThatCannotResolve_ThrowsAndStaysAStub() {
+    Map<Integer, BlueprintData> all = new HashMap<>(Map.of(1, blueprint(1)));
+    LazyBlueprintMap blueprints = new LazyBlueprintMap(all, Map.of(1, stub -> {
+      throw new SpriteParseException("missing sprite");
+    }));
+
+    IllegalStateException e = assertThrows(IllegalStateException.class, () -> blueprints.get(1));
+    assertInstanceOf(SpriteParseException.class, e.getCause());
+    assertFalse(blueprints.isResolved(1));
+  }
+
+  @Test
+  void reachableIds_SpawnOutcomes_FollowsThemTransitively() {
+    Map<Integer, BlueprintData> blueprints = new HashMap<>();
+    blueprints.put(1, blueprint(1, spawn("SPAWN_NEW_OBJECT", 2.0)));
+    blueprints.put(2, blueprint(2, spawn("CHANGE_OBJECT", 2.4)));
+    blueprints.put(3, blueprint(3));
+    blueprints.put(4, blueprint(4, spawn("SPAWN_ON_OBJECT", 3.0)));
+    blueprints.put(5, blueprint(5, spawn("SELECT_LEVEL", 4.0)));
+
+    Set<Integer> reachable = BlueprintReachability.reachableIds(
+        List.of(new GameObjectData("player", 1, null, 0, 0, 0, "")), blueprints);
+
+    assertEquals(Set.of(1, 2, 3), reachable);
+  }
+
+  private LazyBlueprintMap makeMap() {
+    Map<Integer, BlueprintData> all = new LinkedHashMap<>();
+    all.put(1, blueprint(1));
+    all.put(2, blueprint(2));
+    return new LazyBlueprintMap(all, Map.of(2, stub -> {
+      resolutions++;
+      return BlueprintDataParser.withSprite(stub, SPRITE);
+    }));
+  }
+
+  private static OutcomeData spawn(String outcome, double blueprintId) {
+    return new OutcomeData(outcome, Map.of(), Map.of("blueprintId", blueprintId));
+  }
+
+  private static BlueprintData blueprint(int id, OutcomeData... outcomes) {
+    EventData event = new EventData("collision", "event" + id, List.of(), List.of(outcomes));
+    return new BlueprintData(id, 0, 0, 0, false, "game", "group", "type", null, null,
+        List.of(event), Map.of(), Map.of(), List.of());
+  }
+}
@@ -0,0 +1,156 @@
+package oogasalad.fileparser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LevelCatalogTest {
+
+  private static final String LEVEL = """
+      <map minX="0" minY="-10" maxX="300" maxY="190">
+        <layers>
+          <layer name="layer_1" z="1">
+            <data>
+              <object name="coin" id="1" coordinates="(0,0),(16,0)"
+                uid="c260a64a-b373-4e2a-8164-202370eb239f,f9a9280e-74a3-4785-ba13-3ff0d6e3d3a1"/>
+            </data>
+          </layer>
+        </layers>
+        <game name="test">
+          <objectGroup name="items">
+            <object id="1" name="coin"/>
+          </objectGroup>
+        </game>
+      </map>
+      """;
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void open_NewLevels_CataloguesEveryLevel() throws IOException {
+    writeLevel("mario", "Level1.xml", LEVEL);
+    writeLevel("mario", "Level2.xml", "<map/>");
+    Files.createDirectories(tempDir.resolve("empty"));
+
+    LevelCatalog catalog = LevelCatalog.open(tempDir.toFile());
+
+    assertEquals(List.of("empty", "mario"), catalog.games());
+    assertEquals(List.of("Level1.xml", "Level2.xml"), catalog.levels("mario"));
+    LevelCatalog.Entry entry = catalog.entry("mario", "Level1.xml");
+    assertEquals(2, entry.objectCount());
+    assertEquals(300, entry.width());
+    assertEquals(200, entry.height());
+    assertEquals(64, entry.contentHash().length());
+    assertFalse(entry.hasThumbnail());
+    assertTrue(new File(tempDir.toFile(), LevelCatalog.INDEX_FILE_NAME).isFile());
+  }
+
+  @Test
+  void open_UnchangedLevel_ReadsEntryFromIndex() throws IOException {
+    File levelFile = writeLevel("mario", "Level1.xml", LEVEL);
+    LevelCatalog.open(tempDir.toFile());
+    Path index = tempDir.resolve(LevelCatalog.INDEX_FILE_NAME);
+    Files.writeString(index, Files.readString(index).replace("\t2\t", "\t7\t"));
+
+    LevelCatalog.Entry entry = LevelCatalog.open(tempDir.toFile()).entry("mario", "Level1.xml");
+
+    assertEquals(7, entry.objectCount());
+    assertTrue(entry.matches(levelFile));
+  }
+
+  @Test
+  void open_ChangedLevel_ReadsLevelAgain() throws IOException {
+    File levelFile = writeLevel("mario", "Level1.xml", LEVEL);
+    LevelCatalog.open(tempDir.toFile());
+
+    Files.writeString(levelFile.toPath(), LEVEL.replace("(0,0),", ""));
+    LevelCatalog.Entry entry = LevelCatalog.open(tempDir.toFile()).entry("mario", "Level1.xml");
+
+    assertEquals(1, entry.objectCount());
+  }
+
+  @Test
+  void open_DeletedLevel_DropsEntry() throws IOException {
+    File levelFile = writeLevel("mario", "Level1.xml", LEVEL);
+    LevelCatalog.open(tempDir.toFile());
+
+    Files.delete(levelFile.toPath());
+
+    assertNull(LevelCatalog.open(tempDir.toFile()).entry("mario", "Level1.xml"));
+  }
+
+  @Test
+  void open_LevelWithThumbnail_RecordsThumbnailPath() throws IOException {
+    writeLevel("mario", "Level1.xml", LEVEL);
+    Files.write(tempDir.resolve("mario/Level1.png"), new byte[]{1});
+
+    LevelCatalog.Entry entry = LevelCatalog.open(tempDir.toFile()).entry("mario", "Level1.xml");
+
+    assertEquals("mario/Level1.png", entry.thumbnail());
+  }
+
+  @Test
+  void watch_LevelAndGameAdded_UpdatesCatalog() throws Exception {
+    writeLevel("mario", "Level1.xml", LEVEL);
+    try (LevelCatalog catalog = LevelCatalog.open(tempDir.toFile())) {
+      catalog.watch();
+
+      writeLevel("mario", "Level2.xml", LEVEL);
+      writeLevel("celeste", "Level1.xml", LEVEL);
+
+      assertTrue(eventually(() -> catalog.levels("mario").contains("Level2.xml")));
+      assertTrue(eventually(() -> catalog.levels("celeste").contains("Level1.xml")));
+    }
+  }
+
+  @Test
+  void watch_LevelChangedAndDeleted_UpdatesCatalog() throws Exception {
+    File changed = writeLevel("mario", "Level1.xml", LEVEL);
+    File deleted = writeLevel("mario", "Level2.xml", LEVEL);
+    try (LevelCatalog catalog = LevelCatalog.open(tempDir.toFile())) {
+      catalog.watch();
+
+      Files.writeString(changed.toPath(), LEVEL.replace("(0,0),", ""));
+      Files.delete(deleted.toPath());
+
+      assertTrue(eventually(() -> catalog.entry("mario", "Level1.xml").objectCount() == 1));
+      assertTrue(eventually(() -> catalog.entry("mario", "Level2.xml") == null));
+    }
+  }
+
+  @Test
+  void defaultRoot_FileStructureConfig_ResolvesLevelsDirectory() {
+    File expected = new File(System.getProperty("user.dir"), "data/gameData/levels");
+
+    assertEquals(expected.toPath().normalize(),
+        LevelCatalog.defaultRoot().toPath().normalize());
+  }
+
+  private File writeLevel(String game, String name, String content) throws IOException {
+    Path level = tempDir.resolve(game).resolve(name);
+    Files.createDirectories(level.getParent());
+    return Files.writeString(level, content).toFile();
+  }
+
+  private static boolean eventually(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (!condition.getAsBoolean()) {
+      if (System.currentTimeMillis() > deadline) {
+        return false;
+      }
+      Thread.sleep(20);
+    }
+    return true;
+  }
+}
@@ -0,0 +1,151 @@
+package oogasalad.fileparser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import oogasalad.fileparser.records.BlueprintData;
+import oogasalad.fileparser.records.EventData;
+import oogasalad.fileparser.records.LevelData;
+import oogasalad.fileparser.records.SpriteSheetData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LevelDataCacheTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void parseLevelFile_SameFileTwice_ParsesOnce() throws Exception {
+    File levelFile = writeLevel("level.xml", "<map/>");
+    CountingParser parser = new CountingParser();
+    CachingFileParser cachingParser = new CachingFileParser(parser, new LevelDataCache(2));
+
+    LevelData first = cachingParser.parseLevelFile(levelFile.getPath());
+    LevelData second = cachingParser.parseLevelFile(levelFile.getPath());
+
+    assertEquals(1, parser.calls);
+    assertSame(first, second);
+  }
+
+  @Test
+  void get_FileChangedSinceCached_ReturnsNull() throws IOException {
+    File levelFile = writeLevel("level.xml", "<map/>");
+    LevelDataCache cache = new LevelDataCache(2);
+    cache.put(levelFile, makeLevel());
+
+    Files.writeString(levelFile.toPath(), "<map></map>");
+
+    assertNull(cache.get(levelFile));
+  }
+
+  @Test
+  void get_SpriteFileChangedSinceCached_ReturnsNull() throws IOException {
+    File levelFile = writeLevel("level.xml", "<map/>");
+    Path spriteFile = tempDir.resolve("sprites/game/coin.xml");
+    Files.createDirectories(spriteFile.getParent());
+    Files.writeString(spriteFile, "<spriteFile/>");
+    LevelData level = makeLevel();
+    LevelDataCache cache = new LevelDataCache(2);
+    cache.put(levelFile, level,
+        LevelSourceStamp.of(levelFile, level, tempDir.resolve("sprites").toFile()));
+    assertNotNull(cache.get(levelFile));
+
+    Files.writeString(spriteFile, "<spriteFile></spriteFile>");
+
+    assertNull(cache.get(levelFile));
+  }
+
+  @Test
+  void put_OverCapacity_DropsLeastRecentlyUsedLevel() throws IOException {
+    File first = writeLevel("first.xml", "<map/>");
+    File second = writeLevel("second.xml", "<map/>");
+    File third = writeLevel("third.xml", "<map/>");
+    LevelDataCache cache = new LevelDataCache(2);
+    cache.put(first, makeLevel());
+    cache.put(second, makeLevel());
+
+    cache.get(first);
+    cache.put(third, makeLevel());
+
+    assertNotNull(cache.get(first));
+    assertNull(cache.get(second));
+    assertNotNull(cache.get(third));
+  }
+
+  @Test
+  void put_Level_CachedCollectionsAreUnmodifiable() throws IOException {
+    LevelData cached = new LevelDataCache(2).put(writeLevel("level.xml", "<map/>"), makeLevel());
+
+    BlueprintData blueprint = cached.gameBluePrintData().get(1);
+    assertThrows(UnsupportedOperationException.class,
+        () -> blueprint.doubleProperties().put("lives", 0.0));
+    assertThrows(UnsupportedOperationException.class,
+        () -> cached.gameBluePrintData().remove(1));
+    assertThrows(UnsupportedOperationException.class,
+        () -> blueprint.eventDataList().getFirst().outcomes().clear());
+  }
+
+  @Test
+  void mutableCopy_CachedLevel_CanBeEditedWithoutChangingTheCache() throws IOException {
+    File levelFile = writeLevel("level.xml", "<map/>");
+    LevelDataCache cache = new LevelDataCache(2);
+    LevelData cached = cache.put(levelFile, makeLevel());
+
+    LevelData copy = LevelDataCache.mutableCopy(cached);
+    copy.gameBluePrintData().get(1).doubleProperties().put("lives", 0.0);
+
+    assertEquals(Double.valueOf(3.0),
+        cache.get(levelFile).gameBluePrintData().get(1).doubleProperties().get("lives"));
+    assertSame(copy.gameBluePrintData().get(1).eventDataList().getFirst(),
+        copy.gameBluePrintData().get(2).eventDataList().getFirst());
+  }
+
+  private File writeLevel(String name, String content) throws IOException {
+    Path file = tempDir.resolve(name);
+    Files.writeString(file, content);
+    return file.toFile();
+  }
+
+  private static LevelData makeLevel() {
+    EventData jump = new EventData("input", "1", new ArrayList<>(), new ArrayList<>());
+    Map<Integer, BlueprintData> blueprints = new HashMap<>();
+    blueprints.put(1, new BlueprintData(1, 0, 0, 0, false, "game", "entities", "player", null,
+        null, new ArrayList<>(List.of(jump)), new HashMap<>(),
+        new HashMap<>(Map.of("lives", 3.0)), new ArrayList<>()));
+    blueprints.put(2, new BlueprintData(2, 0, 0, 0, false, "game", "blocks", "block", null,
+        null, new ArrayList<>(List.of(jump)), new HashMap<>(), new HashMap<>(),
+        new ArrayList<>()));
+    return new LevelData("level.xml", 0, 0, 100, 100, null, blueprints, new ArrayList<>());
+  }
+
+  /**
+   * Counts how often the cache falls back to parsing.
+   */
+  private static class CountingParser implements FileParserApi {
+
+    private int calls;
+
+    @Override
+    public LevelData parseLevelFile(String filePath) {
+      calls++;
+      return makeLevel();
+    }
+
+    @Override
+    public SpriteSheetData parseSpriteSheet(String filePath) {
+      return null;
+    }
+  }
+}
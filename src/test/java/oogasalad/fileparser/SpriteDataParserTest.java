@@ -22,13 +22,13 @@ import oogasalad.fileparser.records.SpriteRequest;
  * <p>
  * These tests simulate the expected file structure based on the following properties:
  * <pre>
- * path.to.game.data=oogasalad_team03/data/gameData/gameObjects
- * path.to.graphics.data=oogasalad_team03/data/graphicsData
+ * path.to.game.data=/data/gameData/gameSpriteSheetData
+ * path.to.graphics.data=/data/graphicsData
  * </pre>
  * The sprite XML file is expected at:
- * <code>{user.dir}/oogasalad_team03/data/gameData/gameObjects/[gameName]/[group]/[shape]/[spriteFile]</code>
+ * <code>{user.dir}/data/gameData/gameSpriteSheetData/[gameName]/[group]/[shape]/[spriteFile]</code>
  * and the sprite sheet image at:
- * <code>{user.dir}/oogasalad_team03/data/graphicsData/[gameName]/[spriteSheet file]</code>.
+ * <code>{user.dir}/data/graphicsData/[gameName]/[spriteSheet file]</code>.
  * </p>
  *
  * @author Billy McCune
@@ -64,18 +64,17 @@ public class SpriteDataParserTest {
 
     // Create directories based on the properties.
     // For game data:
-    // Expected path: {user.dir}/oogasalad_team03/data/gameData/gameObjects
-    gameDataDir = tempDir.resolve("oogasalad_team03")
-        .resolve("data")
+    // Expected path: {user.dir}/data/gameData/gameSpriteSheetData, as SpriteDataParser reads the
+    // properties from the classpath rather than from the file written above.
+    gameDataDir = tempDir.resolve("data")
         .resolve("gameData")
-        .resolve("gameObjects")
+        .resolve("gameSpriteSheetData")
         .toFile();
     gameDataDir.mkdirs();
 
     // For graphics:
-    // Expected path: {user.dir}/oogasalad_team03/data/graphicsData
-    graphicsDir = tempDir.resolve("oogasalad_team03")
-        .resolve("data")
+    // Expected path: {user.dir}/data/graphicsData
+    graphicsDir = tempDir.resolve("data")
         .resolve("graphicsData")
         .toFile();
     graphicsDir.mkdirs();
@@ -88,7 +87,7 @@ public class SpriteDataParserTest {
 
     // Create the sprite XML file under gameDataDir.
     // Full expected path:
-    // {user.dir}/oogasalad_team03/data/gameData/gameObjects/TestGame/group/shape/sprite.xml
+    // {user.dir}/data/gameData/gameSpriteSheetData/TestGame/group/shape/sprite.xml
     File spriteDir = new File(gameDataDir, gameName + File.separator + group + File.separator + type);
     spriteDir.mkdirs();
     File spriteFile = new File(spriteDir, spriteFileName);
@@ -108,7 +107,7 @@ public class SpriteDataParserTest {
     }
 
     // Create the sprite sheet file under graphicsDir.
-    // Expected path: {user.dir}/oogasalad_team03/data/graphicsData/TestGame/spritesheet.png
+    // Expected path: {user.dir}/data/graphicsData/TestGame/spritesheet.png
     File gameGraphicsDir = new File(graphicsDir, gameName);
     gameGraphicsDir.mkdirs();
     File spriteSheet = new File(gameGraphicsDir, "spritesheet.png");
@@ -184,4 +183,82 @@ public class SpriteDataParserTest {
     SpriteRequest request = new SpriteRequest("TestGame", "group", "type", "hero", "nonexistent.xml");
     assertThrows(SpriteParseException.class, () -> parser.getSpriteData(request));
   }
+
+  /**
+   * Tests that sprites of an already parsed file are looked up rather than parsed again, and that
+   * the returned data cannot be modified.
+   *
+   * @throws Exception if an error occurs during parsing.
+   */
+  @Test
+  void getSpriteData_SameSpriteTwice_ReturnsSameUnmodifiableSpriteData() throws Exception {
+    SpriteDataParser parser = new SpriteDataParser();
+    SpriteRequest request = new SpriteRequest("TestGame", "group", "type", "hero", "sprite.xml");
+
+    SpriteData first = parser.getSpriteData(request);
+    SpriteData second = parser.getSpriteData(request);
+
+    assertSame(first, second);
+    assertThrows(UnsupportedOperationException.class, () -> first.frames().clear());
+    assertThrows(UnsupportedOperationException.class,
+        () -> first.animations().get(0).frameNames().add("walk3"));
+  }
+
+  /**
+   * Tests that a sprite file edited after it was cached is parsed again.
+   *
+   * @throws Exception if an error occurs during parsing.
+   */
+  @Test
+  void getSpriteData_FileEditedAfterParsing_ReturnsEditedSprite() throws Exception {
+    SpriteFileCache cache = new SpriteFileCache(4);
+    SpriteRequest request = new SpriteRequest("TestGame", "group", "type", "hero", "sprite.xml");
+    new SpriteDataParser(cache).getSpriteData(request);
+
+    File spriteFile = new File(gameDataDir,
+        "TestGame" + File.separator + "group" + File.separator + "type" + File.separator
+            + "sprite.xml");
+    try (FileWriter writer = new FileWriter(spriteFile)) {
+      writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+          + "<sprites imagePath=\"spritesheet.png\">\n"
+          + "  <sprite name=\"hero\" x=\"15\" y=\"20\" width=\"30\" height=\"40\"/>\n"
+          + "</sprites>\n");
+    }
+
+    SpriteData edited = new SpriteDataParser(cache).getSpriteData(request);
+    assertEquals(15, edited.baseImage().x(), "Base frame x attribute after the edit");
+    assertTrue(edited.frames().isEmpty(), "Edited sprite has no frames");
+  }
+
+  /**
+   * Tests that a prefetched sprite is the same as one parsed on the calling thread.
+   *
+   * @throws Exception if an error occurs during parsing.
+   */
+  @Test
+  void getSpriteData_Prefetched_ReturnsSameSpriteData() throws Exception {
+    SpriteRequest request = new SpriteRequest("TestGame", "group", "type", "hero", "sprite.xml");
+    SpriteData expected = new SpriteDataParser().getSpriteData(request);
+
+    SpriteDataParser parser = new SpriteDataParser();
+    parser.prefetch(request);
+
+    assertEquals(expected, parser.getSpriteData(request));
+  }
+
+  /**
+   * Tests that a prefetched sprite file that cannot be parsed fails when the sprite is requested,
+   * not when it is prefetched.
+   *
+   * @throws Exception if an error occurs during parsing.
+   */
+  @Test
+  void getSpriteData_PrefetchedFileNotFound_ThrowsSpriteParseException() throws Exception {
+    SpriteDataParser parser = new SpriteDataParser();
+    SpriteRequest request = new SpriteRequest("TestGame", "group", "type", "hero", "nonexistent.xml");
+
+    parser.prefetch(request);
+
+    assertThrows(SpriteParseException.class, () -> parser.getSpriteData(request));
+  }
 }
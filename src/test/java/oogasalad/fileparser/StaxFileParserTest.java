@@ -0,0 +1,144 @@
+package oogasalad.fileparser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import oogasalad.exceptions.CameraParserException;
+import oogasalad.exceptions.PropertyParsingException;
+import oogasalad.fileparser.records.BlueprintData;
+import oogasalad.fileparser.records.LevelData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StaxFileParserTest {
+
+  private static final String CAMERA = """
+      <cameraData type="Tracker">
+        <stringProperties>
+          <property name="objectToTrack" value="d3fa8312-f7db-4fa3-b0d9-0b4a016bc2a5"/>
+        </stringProperties>
+        <doubleProperties>
+          <property name="zoom">1.5</property>
+        </doubleProperties>
+      </cameraData>
+      """;
+
+  private static final String LEVEL = """
+      <?xml version="1.0" encoding="UTF-8"?>
+      <!-- a small level using every section -->
+      <map minX="-10" minY="-20" maxX="300" maxY="400">
+      """ + CAMERA + """
+        <layers>
+          <layer name="background" z="2">
+            <data>
+              <object id="1" name="block" coordinates="(0,500), (-5,7)"
+                uid="d3fa8312-f7db-4fa3-b0d9-0b4a016bc2a5, 3f780051-ec51-4c02-bc98-82d450d12397"/>
+            </data>
+          </layer>
+          <layer name="entities" z="1">
+            <data>
+              <object id="2" coordinates="(10,20)" uid="65cc5909-e1ed-4698-b6eb-51310dd5c11d"/>
+            </data>
+          </layer>
+        </layers>
+        <game>
+          <objectGroup name="blocks">
+            <object id="1" type="block" velocityX="0" velocityY="0" rotation="90" flipped="true"
+              hitBoxShape="RECTANGLE" hitBoxWidth="16" hitBoxHeight="8" spriteDx="1" spriteDy="2"
+              eventIDs="jump,missing">
+              <displayedProperties propertyList="lives,score"/>
+              <doubleProperties>
+                <property name="lives" value="3"/>
+              </doubleProperties>
+              <stringProperties>
+                <property name="color">red</property>
+              </stringProperties>
+            </object>
+          </objectGroup>
+          <objectGroup name="entities">
+            <object id="2" type="player" velocityX="1.5" velocityY="-2" rotation="0"
+              hitBoxShape="RECTANGLE" hitBoxWidth="4" hitBoxHeight="4" spriteDx="0" spriteDy="0"/>
+          </objectGroup>
+        </game>
+        <events>
+          <event type="input" id="jump">
+            <conditions>
+              <conditionSet>
+                <condition name="KEY_PRESSED">
+                  <stringParameters>
+                    <parameter name="key" value="w"/>
+                  </stringParameters>
+                </condition>
+                <condition name="ON_GROUND"/>
+              </conditionSet>
+            </conditions>
+            <outcomes>
+              <outcome name="JUMP">
+                <doubleParameters>
+                  <parameter name="amount" value="5"/>
+                </doubleParameters>
+              </outcome>
+            </outcomes>
+          </event>
+        </events>
+      </map>
+      """;
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void parseLevelFile_LevelWithEverySection_MatchesDomParser() throws Exception {
+    String path = write("level.xml", LEVEL);
+
+    LevelData streamed = new StaxFileParser().parseLevelFile(path);
+    LevelData built = new DefaultFileParser().parseLevelFile(path);
+
+    assertEquals(built, streamed);
+    assertEquals(3, streamed.gameObjects().size());
+    assertEquals(List.of("lives", "score"),
+        streamed.gameBluePrintData().get(1).displayedProperties());
+  }
+
+  @Test
+  void parseLevelFile_BlueprintNamesEventsDeclaredLater_LinksThemAfterThePass()
+      throws Exception {
+    LevelData level = new StaxFileParser().parseLevelFile(write("level.xml", LEVEL));
+
+    BlueprintData block = level.gameBluePrintData().get(1);
+    assertEquals(2, block.eventDataList().size());
+    assertEquals("jump", block.eventDataList().getFirst().eventId());
+    assertEquals(2, block.eventDataList().getFirst().conditions().getFirst().size());
+    assertNull(block.eventDataList().get(1));
+    assertEquals(Map.of("color", "red"), block.stringProperties());
+  }
+
+  @Test
+  void parseLevelFile_NoCameraData_ThrowsCameraParserException() throws IOException {
+    String path = write("level.xml", LEVEL.replace(CAMERA, ""));
+
+    assertThrows(CameraParserException.class, () -> new StaxFileParser().parseLevelFile(path));
+  }
+
+  @Test
+  void parseLevelFile_TextInsidePropertiesElement_ThrowsPropertyParsingException()
+      throws IOException {
+    String path = write("level.xml", LEVEL.replace("<doubleProperties>",
+        "<doubleProperties>stray"));
+
+    assertThrows(PropertyParsingException.class,
+        () -> new StaxFileParser().parseLevelFile(path));
+  }
+
+  private String write(String name, String content) throws IOException {
+    Path file = tempDir.resolve(name);
+    Files.writeString(file, content.strip());
+    return file.toString();
+  }
+}
@@ -0,0 +1,181 @@
+package oogasalad.filesaver.savestrategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import oogasalad.exceptions.LevelDataParseException;
+import oogasalad.fileparser.BinaryFileParser;
+import oogasalad.fileparser.BinaryLevelFormat;
+import oogasalad.fileparser.CompiledLevelFileParser;
+import oogasalad.fileparser.FileParserApi;
+import oogasalad.fileparser.LevelSourceStamp;
+import oogasalad.fileparser.records.AnimationData;
+import oogasalad.fileparser.records.BlueprintData;
+import oogasalad.fileparser.records.CameraData;
+import oogasalad.fileparser.records.ConditionData;
+import oogasalad.fileparser.records.EventData;
+import oogasalad.fileparser.records.FrameData;
+import oogasalad.fileparser.records.GameObjectData;
+import oogasalad.fileparser.records.HitBoxData;
+import oogasalad.fileparser.records.LevelData;
+import oogasalad.fileparser.records.OutcomeData;
+import oogasalad.fileparser.records.SpriteData;
+import oogasalad.fileparser.records.SpriteSheetData;
+import oogasalad.filesaver.FileSaver;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BinaryStrategyTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void save_FullLevel_ReadsBackEqualLevel() throws Exception {
+    LevelData level = makeLevel();
+    File file = tempDir.resolve("level.bin").toFile();
+
+    FileSaver saver = new FileSaver();
+    saver.chooseExportType("binary");
+    saver.saveLevelData(level, file.getAbsolutePath());
+    LevelData read = new BinaryFileParser().parseLevelFile(file.getPath());
+
+    assertEquals(level, read);
+    assertEquals(level.gameBluePrintData().get(1).blueprintId(),
+        read.gameBluePrintData().get(1).blueprintId());
+    assertSame(read.gameBluePrintData().get(1).eventDataList().getFirst(),
+        read.gameBluePrintData().get(2).eventDataList().getFirst());
+  }
+
+  @Test
+  void save_MissingSections_ReadsBackNulls() throws Exception {
+    LevelData level = new LevelData("", -500, -700, 4000, 500, null, null, null);
+    File file = tempDir.resolve("level.bin").toFile();
+
+    new BinaryStrategy().save(level, file);
+
+    assertEquals(level, new BinaryFileParser().parseLevelFile(file.getPath()));
+  }
+
+  @Test
+  void parseLevelFile_NotACompiledLevel_ThrowsLevelDataParseException() throws IOException {
+    File file = tempDir.resolve("level.bin").toFile();
+    Files.writeString(file.toPath(), "<map/>");
+
+    assertThrows(LevelDataParseException.class,
+        () -> new BinaryFileParser().parseLevelFile(file.getPath()));
+  }
+
+  @Test
+  void compile_SourceUnchanged_LoaderPrefersCompiledFile() throws Exception {
+    File source = tempDir.resolve("level.xml").toFile();
+    Files.writeString(source.toPath(), "<map/>");
+    CountingParser sourceParser = new CountingParser(makeLevel());
+    FileParserApi loader = new CompiledLevelFileParser(sourceParser, new BinaryStrategy());
+
+    LevelData first = loader.parseLevelFile(source.getPath());
+    LevelData second = loader.parseLevelFile(source.getPath());
+
+    assertTrue(BinaryLevelFormat.compiledFileFor(source).isFile());
+    assertEquals(1, sourceParser.calls);
+    assertEquals(first, second);
+  }
+
+  @Test
+  void compile_SourceEdited_CompiledFileIsStale() throws Exception {
+    File source = tempDir.resolve("level.xml").toFile();
+    Files.writeString(source.toPath(), "<map/>");
+    File compiled = new BinaryStrategy().compile(makeLevel(), source);
+    assertTrue(BinaryLevelFormat.isCompiledFrom(compiled, source));
+
+    Files.writeString(source.toPath(), "<map></map>");
+
+    assertFalse(BinaryLevelFormat.isCompiledFrom(compiled, source));
+    CountingParser sourceParser = new CountingParser(makeLevel());
+    new CompiledLevelFileParser(sourceParser).parseLevelFile(source.getPath());
+    assertEquals(1, sourceParser.calls);
+  }
+
+  @Test
+  void compile_SpriteFileEdited_CompiledFileIsStale() throws Exception {
+    File source = tempDir.resolve("level.xml").toFile();
+    Files.writeString(source.toPath(), "<map/>");
+    File spriteRoot = tempDir.resolve("sprites").toFile();
+    Path spriteFile = tempDir.resolve("sprites/dinosaurgame/dino.xml");
+    Files.createDirectories(spriteFile.getParent());
+    Files.writeString(spriteFile, "<spriteFile/>");
+    LevelData level = makeLevel();
+    File compiled = new BinaryStrategy().compile(level, source,
+        LevelSourceStamp.of(source, level, spriteRoot));
+    assertTrue(BinaryLevelFormat.isCompiledFrom(compiled, source));
+
+    Files.writeString(spriteFile, "<spriteFile></spriteFile>");
+
+    assertFalse(BinaryLevelFormat.isCompiledFrom(compiled, source));
+  }
+
+  private LevelData makeLevel() {
+    EventData jump = new EventData("input", "1",
+        List.of(List.of(new ConditionData("KEY_PRESSED", new HashMap<>(Map.of("key", "w")),
+            new HashMap<>()))),
+        List.of(new OutcomeData("JUMP", new HashMap<>(), new HashMap<>(Map.of("amount", 5.0)))));
+    FrameData frame = new FrameData("idle", 0, 0, 16, 16);
+    SpriteData sprite = new SpriteData("Dino",
+        new File(System.getProperty("user.dir"), "data/graphicsData/dino.png"), frame,
+        List.of(frame, new FrameData("run", 16, 0, 16, 16)),
+        List.of(new AnimationData("walk", 0.1, List.of("idle", "run"))));
+    Map<Integer, BlueprintData> blueprints = new HashMap<>();
+    blueprints.put(1, new BlueprintData(1, 1.5, -2, 90, true, "dinosaurgame", "player", "Dino",
+        sprite, new HitBoxData("RECTANGLE", 16, 8, 1, 2), new ArrayList<>(List.of(jump)),
+        new HashMap<>(Map.of("color", "red")), new HashMap<>(Map.of("lives", 3.0)),
+        List.of("lives")));
+    blueprints.put(2, new BlueprintData(2, 0, 0, 0, false, "dinosaurgame", "blocks", "block",
+        null, null, new ArrayList<>(Arrays.asList(jump, null)), new HashMap<>(),
+        new HashMap<>(), new ArrayList<>()));
+    List<GameObjectData> gameObjects = List.of(
+        new GameObjectData("", 1, UUID.fromString("d3fa8312-f7db-4fa3-b0d9-0b4a016bc2a5"), 0,
+            500, 1, ""),
+        new GameObjectData("block", 2, UUID.fromString("3f780051-ec51-4c02-bc98-82d450d12397"),
+            -5, 7, 2, "layer_2"));
+    CameraData camera = new CameraData("Tracker", new HashMap<>(Map.of("objectToTrack",
+        "d3fa8312-f7db-4fa3-b0d9-0b4a016bc2a5")), new HashMap<>(Map.of("zoom", 1.5)));
+    return new LevelData("level.xml", -10, -20, 300, 400, camera, blueprints, gameObjects);
+  }
+
+  /**
+   * Stands in for the XML parser and counts how often the loader falls back to it.
+   */
+  private static class CountingParser implements FileParserApi {
+
+    private final LevelData level;
+    private int calls;
+
+    CountingParser(LevelData level) {
+      this.level = level;
+    }
+
+    @Override
+    public LevelData parseLevelFile(String filePath) {
+      calls++;
+      return level;
+    }
+
+    @Override
+    public SpriteSheetData parseSpriteSheet(String filePath) {
+      return null;
+    }
+  }
+}
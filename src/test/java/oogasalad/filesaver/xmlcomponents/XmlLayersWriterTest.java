@@ -0,0 +1,74 @@
+package oogasalad.filesaver.xmlcomponents;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.xml.parsers.DocumentBuilderFactory;
+import oogasalad.fileparser.GameObjectDataParser;
+import oogasalad.fileparser.LayerObjectFormat;
+import oogasalad.fileparser.records.GameObjectData;
+import oogasalad.fileparser.records.LevelData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+public class XmlLayersWriterTest {
+  private File tempFile;
+
+  @BeforeEach
+  void setup() throws Exception {
+    tempFile = File.createTempFile("layers_test", ".xml");
+    tempFile.deleteOnExit();
+  }
+
+  @Test
+  void write_SmallLayer_WritesTextCoordinates() throws Exception {
+    UUID uid = UUID.randomUUID();
+    write(List.of(new GameObjectData("block", 3, uid, 10, -20, 0, "")));
+
+    String content = Files.readString(tempFile.toPath());
+    assertTrue(content.contains("coordinates=\"(10,-20)\" uid=\"" + uid + "\""));
+    assertFalse(content.contains(LayerObjectFormat.PACKED_COORDINATES));
+  }
+
+  @Test
+  void write_LargeLayer_WritesPackedObjectsThatParseBack() throws Exception {
+    List<GameObjectData> objects = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      objects.add(new GameObjectData("block", i % 2, UUID.randomUUID(), i * 16, -i, 1, ""));
+    }
+    write(objects);
+
+    String content = Files.readString(tempFile.toPath());
+    assertTrue(content.contains(LayerObjectFormat.PACKED_COORDINATES + "=\""));
+    assertFalse(content.contains("coordinates=\"("));
+
+    NodeList objectNodes = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+        .parse(tempFile).getElementsByTagName("object");
+    List<GameObjectData> parsed = new ArrayList<>();
+    for (int i = 0; i < objectNodes.getLength(); i++) {
+      parsed.addAll(new GameObjectDataParser().getGameObjectData((Element) objectNodes.item(i), 1));
+    }
+    assertEquals(objects.size(), parsed.size());
+    assertTrue(parsed.containsAll(objects));
+  }
+
+  private void write(List<GameObjectData> objects) throws Exception {
+    LevelData levelData = new LevelData("level", 0, 0, 100, 100, null, Map.of(), objects);
+    try (BufferedWriter writer = new BufferedWriter(new FileWriter(tempFile))) {
+      writer.write("<map>\n");
+      new XmlLayersWriter(writer, levelData).write();
+      writer.write("</map>\n");
+    }
+  }
+}